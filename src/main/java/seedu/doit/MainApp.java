@@ -24,6 +24,7 @@ import seedu.doit.model.Model;
 import seedu.doit.model.ModelManager;
 import seedu.doit.model.ReadOnlyTaskManager;
 import seedu.doit.model.TaskManager;
+import seedu.doit.model.TaskManagerStack;
 import seedu.doit.model.UserPrefs;
 import seedu.doit.model.util.SampleDataUtil;
 import seedu.doit.storage.Storage;
@@ -66,6 +67,8 @@ public class MainApp extends Application {
 
         initLogging(this.config);
 
+        TaskManagerStack.getInstance().setLimits(this.config.getUndoHistoryDepth(),
+                this.config.getUndoHistoryTaskLimit());
         this.model = initModelManager(this.storage, this.userPrefs);
 
         this.logic = new LogicManager(this.model, this.storage);
@@ -184,6 +187,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Task Manager ] =============================");
         this.ui.stop();
+        this.storage.shutdown();
         try {
             this.storage.saveUserPrefs(this.userPrefs);
         } catch (IOException e) {
@@ -0,0 +1,235 @@
+package seedu.doit.commons.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+//@@author A0138909R
+/**
+ * An observable list whose changes can be grouped into batches, and whose contents can be
+ * taken as an immutable snapshot in O(1).
+ * <p>
+ * Listeners see all the changes made between {@link #beginBatch()} and {@link #endBatch()} as a
+ * single change event, with one sub-change for each part of the list that changed. Outside of a
+ * batch, every change is reported as soon as it is made, as in any observable list.
+ * <p>
+ * The elements are held in a {@link PersistentSequence}, so reading, adding or removing a single
+ * element costs O(log n), and {@link #snapshot()} hands out the current version without copying.
+ * Bulk removals, merges and sorting rebuild the sequence in O(n).
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private PersistentSequence<E> elements = PersistentSequence.empty();
+
+    /**
+     * Starts a batch. Batches may be nested, and listeners are only notified at the end of the outermost batch.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the last call to {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Returns the current elements, which later changes to this list do not affect.
+     */
+    public PersistentSequence<E> snapshot() {
+        return this.elements;
+    }
+
+    @Override
+    public E get(int index) {
+        return this.elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.elements.size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        // walks the tree instead of looking up each position
+        return this.elements.iterator();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        this.elements = this.elements.insert(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E previous = this.elements.get(index);
+        this.elements = this.elements.set(index, element);
+        return previous;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E removed = this.elements.get(index);
+        this.elements = this.elements.remove(index);
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<E> kept = new ArrayList<>(size() - (toIndex - fromIndex));
+        List<E> removed = new ArrayList<>(toIndex - fromIndex);
+        int index = 0;
+        for (E element : this.elements) {
+            if (index < fromIndex || index >= toIndex) {
+                kept.add(element);
+            } else {
+                removed.add(element);
+            }
+            index++;
+        }
+        this.elements = PersistentSequence.of(kept);
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> toRemove) {
+        boolean[] isRemoved = new boolean[this.elements.size()];
+        int index = 0;
+        for (E element : this.elements) {
+            isRemoved[index++] = toRemove.contains(element);
+        }
+        return removeMarked(isRemoved);
+    }
+
+    /**
+     * Removes the elements at {@code indexes}, given in any order, in O(n) and with one sub-change
+     * for each run of removed elements.
+     *
+     * @return true if any element was removed
+     */
+    public boolean removeAt(int... indexes) {
+        boolean[] isRemoved = new boolean[this.elements.size()];
+        for (int index : indexes) {
+            isRemoved[index] = true;
+        }
+        return removeMarked(isRemoved);
+    }
+
+    private boolean removeMarked(boolean[] isRemoved) {
+        int size = this.elements.size();
+        List<E> current = toList();
+        List<E> kept = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (!isRemoved[i]) {
+                kept.add(current.get(i));
+            }
+        }
+        if (kept.size() == size) {
+            return false;
+        }
+
+        beginChange();
+        // runs of removed elements are reported from the end, so the positions before them are not shifted yet
+        int runEnd = size;
+        for (int i = size - 1; i >= -1; i--) {
+            if (i >= 0 && isRemoved[i]) {
+                continue;
+            }
+            if (i + 1 < runEnd) {
+                nextRemove(i + 1, new ArrayList<>(current.subList(i + 1, runEnd)));
+            }
+            runEnd = i;
+        }
+        this.elements = PersistentSequence.of(kept);
+        endChange();
+        return true;
+    }
+
+    /**
+     * Merges {@code sortedElements} into this list, which must both be sorted by {@code comparator},
+     * in O(n) and with one sub-change for each run of elements that were added next to each other.
+     * Added elements are placed after the elements of this list that compare equal to them.
+     */
+    public void addAllSorted(List<? extends E> sortedElements, Comparator<? super E> comparator) {
+        int addedCount = sortedElements.size();
+        if (addedCount == 0) {
+            return;
+        }
+        List<E> current = toList();
+        int size = current.size();
+        List<E> merged = new ArrayList<>(size + addedCount);
+        int[] addedPositions = new int[addedCount];
+        int i = 0;
+        int j = 0;
+        while (j < addedCount) {
+            if (i < size && comparator.compare(current.get(i), sortedElements.get(j)) <= 0) {
+                merged.add(current.get(i++));
+            } else {
+                addedPositions[j] = merged.size();
+                merged.add(sortedElements.get(j++));
+            }
+        }
+        merged.addAll(current.subList(i, size));
+        this.elements = PersistentSequence.of(merged);
+
+        beginChange();
+        int runStart = 0;
+        for (int k = 1; k <= addedCount; k++) {
+            if (k == addedCount || addedPositions[k] != addedPositions[k - 1] + 1) {
+                nextAdd(addedPositions[runStart], addedPositions[k - 1] + 1);
+                runStart = k;
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Sorts the list with a single permutation change.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        int size = this.elements.size();
+        if (size < 2) {
+            return;
+        }
+        List<E> current = toList();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // a stable sort of the positions keeps elements that compare equal in their current order
+        Arrays.sort(order, (first, second) -> comparator.compare(current.get(first), current.get(second)));
+        int[] permutation = new int[size];
+        List<E> sorted = new ArrayList<>(size);
+        for (int newIndex = 0; newIndex < size; newIndex++) {
+            permutation[order[newIndex]] = newIndex;
+            sorted.add(current.get(order[newIndex]));
+        }
+        this.elements = PersistentSequence.of(sorted);
+        beginChange();
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+
+    /**
+     * Returns the elements in a list that can be read by position in O(1).
+     */
+    private List<E> toList() {
+        List<E> list = new ArrayList<>(this.elements.size());
+        this.elements.forEach(list::add);
+        return list;
+    }
+}
@@ -3,7 +3,11 @@ package seedu.doit.commons.core;
 import static seedu.doit.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
+import seedu.doit.commons.util.StringUtil;
 import seedu.doit.logic.commands.AddCommand;
 import seedu.doit.logic.commands.ClearCommand;
 import seedu.doit.logic.commands.DeleteCommand;
@@ -12,6 +16,7 @@ import seedu.doit.logic.commands.EditCommand;
 import seedu.doit.logic.commands.ExitCommand;
 import seedu.doit.logic.commands.FindCommand;
 import seedu.doit.logic.commands.HelpCommand;
+import seedu.doit.logic.commands.ImportCommand;
 import seedu.doit.logic.commands.ListCommand;
 import seedu.doit.logic.commands.LoadCommand;
 import seedu.doit.logic.commands.MarkCommand;
@@ -37,6 +42,8 @@ public class CommandSettings implements Serializable {
     private String exit;
     private String find;
     private String help;
+    // named for the command word, which is a keyword in Java
+    private String importing;
     private String list;
     private String load;
     private String redo;
@@ -47,6 +54,9 @@ public class CommandSettings implements Serializable {
     private String undo;
     private String unmark;
 
+    // the default command word that each case-folded command word or alias stands for, built when first needed
+    private transient volatile Map<String, String> commandWords;
+
     private static CommandSettings instance = null;
 
     public static CommandSettings getInstance() {
@@ -65,6 +75,7 @@ public class CommandSettings implements Serializable {
         this.exit = ExitCommand.COMMAND_WORD;
         this.find = FindCommand.COMMAND_WORD;
         this.help = HelpCommand.COMMAND_WORD;
+        this.importing = ImportCommand.COMMAND_WORD;
         this.list = ListCommand.COMMAND_WORD;
         this.load = LoadCommand.COMMAND_WORD;
         this.mark = MarkCommand.COMMAND_WORD;
@@ -122,6 +133,10 @@ public class CommandSettings implements Serializable {
         return this.list;
     }
 
+    public String getImport() {
+        return this.importing;
+    }
+
     public String getLoad() {
         return this.load;
     }
@@ -157,74 +172,97 @@ public class CommandSettings implements Serializable {
 
     public void setAdd(String add) {
         this.add = add;
+        this.commandWords = null;
     }
 
     public void setDelete(String delete) {
         this.delete = delete;
+        this.commandWords = null;
     }
 
     public void setDone(String done) {
         this.done = done;
+        this.commandWords = null;
     }
 
     public void setEdit(String edit) {
         this.edit = edit;
+        this.commandWords = null;
     }
 
     public void setMark(String mark) {
         this.mark = mark;
+        this.commandWords = null;
     }
 
     public void setUnmark(String unmark) {
         this.unmark = unmark;
+        this.commandWords = null;
     }
 
     public void setClear(String clear) {
         this.clear = clear;
+        this.commandWords = null;
     }
 
     public void setExit(String exit) {
         this.exit = exit;
+        this.commandWords = null;
     }
 
     public void setFind(String find) {
         this.find = find;
+        this.commandWords = null;
     }
 
     public void setHelp(String help) {
         this.help = help;
+        this.commandWords = null;
     }
 
     public void setList(String list) {
         this.list = list;
+        this.commandWords = null;
+    }
+
+    public void setImport(String importing) {
+        this.importing = importing;
+        this.commandWords = null;
     }
 
     public void setLoad(String load) {
         this.load = load;
+        this.commandWords = null;
     }
 
     public void setRedo(String redo) {
         this.redo = redo;
+        this.commandWords = null;
     }
 
     public void setSave(String save) {
         this.save = save;
+        this.commandWords = null;
     }
 
     public void setSelect(String select) {
         this.select = select;
+        this.commandWords = null;
     }
 
     public void setSet(String set) {
         this.set = set;
+        this.commandWords = null;
     }
 
     public void setSort(String sort) {
         this.sort = sort;
+        this.commandWords = null;
     }
 
     public void setUndo(String undo) {
         this.undo = undo;
+        this.commandWords = null;
     }
 
     /**
@@ -263,6 +301,8 @@ public class CommandSettings implements Serializable {
             setList(newCommand);
         } else if (LoadCommand.COMMAND_WORD.equals(oldCommand) || this.load.equals(oldCommand)) {
             setLoad(newCommand);
+        } else if (ImportCommand.COMMAND_WORD.equals(oldCommand) || this.importing.equals(oldCommand)) {
+            setImport(newCommand);
         } else if (ExitCommand.COMMAND_WORD.equals(oldCommand) || this.exit.equals(oldCommand)) {
             setExit(newCommand);
         } else if (HelpCommand.COMMAND_WORD.equals(oldCommand) || this.help.equals(oldCommand)) {
@@ -278,6 +318,52 @@ public class CommandSettings implements Serializable {
         } else {
             throw new NoSuchCommandException(MESSAGE_UNKNOWN_COMMAND);
         }
+        // publish the new words in one write, so the parser sees either the old or the new words
+        this.commandWords = buildCommandWords();
+    }
+
+    /**
+     * Returns the default command word that {@code commandWord} stands for, ignoring case,
+     * or null if it is neither a default command word nor an alias.
+     */
+    public String toDefaultCommandWord(String commandWord) {
+        Map<String, String> words = this.commandWords;
+        if (words == null) {
+            words = buildCommandWords();
+            this.commandWords = words;
+        }
+        return words.get(StringUtil.foldCase(commandWord));
+    }
+
+    private Map<String, String> buildCommandWords() {
+        String[][] commands = {
+            {AddCommand.COMMAND_WORD, this.add},
+            {EditCommand.COMMAND_WORD, this.edit},
+            {SelectCommand.COMMAND_WORD, this.select},
+            {DoneCommand.COMMAND_WORD, this.done},
+            {MarkCommand.COMMAND_WORD, this.mark},
+            {UnmarkCommand.COMMAND_WORD, this.unmark},
+            {SortCommand.COMMAND_WORD, this.sort},
+            {DeleteCommand.COMMAND_WORD, this.delete},
+            {ClearCommand.COMMAND_WORD, this.clear},
+            {FindCommand.COMMAND_WORD, this.find},
+            {ListCommand.COMMAND_WORD, this.list},
+            {ExitCommand.COMMAND_WORD, this.exit},
+            {HelpCommand.COMMAND_WORD, this.help},
+            {SaveCommand.COMMAND_WORD, this.save},
+            {LoadCommand.COMMAND_WORD, this.load},
+            {ImportCommand.COMMAND_WORD, this.importing},
+            {UndoCommand.COMMAND_WORD, this.undo},
+            {RedoCommand.COMMAND_WORD, this.redo},
+            {SetCommand.COMMAND_WORD, this.set},
+        };
+        Map<String, String> words = new HashMap<>();
+        // a word that stands for two commands stands for the earlier one, as when the parser tried them in turn
+        for (int i = commands.length - 1; i >= 0; i--) {
+            words.put(StringUtil.foldCase(commands[i][1]), commands[i][0]);
+            words.put(StringUtil.foldCase(commands[i][0]), commands[i][0]);
+        }
+        return Collections.unmodifiableMap(words);
     }
 
     /**
@@ -318,6 +404,7 @@ public class CommandSettings implements Serializable {
         case FindCommand.COMMAND_WORD:
         case ListCommand.COMMAND_WORD:
         case LoadCommand.COMMAND_WORD:
+        case ImportCommand.COMMAND_WORD:
         case ExitCommand.COMMAND_WORD:
         case HelpCommand.COMMAND_WORD:
         case SaveCommand.COMMAND_WORD:
@@ -341,7 +428,8 @@ public class CommandSettings implements Serializable {
                 || this.find.equals(command) || this.help.equals(command) || this.list.equals(command)
                 || this.load.equals(command) || this.mark.equals(command) || this.redo.equals(command)
                 || this.save.equals(command) || this.select.equals(command) || this.set.equals(command)
-                || this.sort.equals(command) || this.undo.equals(command) || this.unmark.equals(command);
+                || this.sort.equals(command) || this.undo.equals(command) || this.unmark.equals(command)
+                || this.importing.equals(command);
     }
 
     @Override
@@ -381,6 +469,9 @@ public class CommandSettings implements Serializable {
         if (!this.help.equals(other.help)) {
             return false;
         }
+        if (!this.importing.equals(other.importing)) {
+            return false;
+        }
         if (!this.list.equals(other.list)) {
             return false;
         }
@@ -425,6 +516,7 @@ public class CommandSettings implements Serializable {
         sb.append("Exit : " + this.exit + "\n");
         sb.append("Find : " + this.find + "\n");
         sb.append("Help : " + this.help + "\n");
+        sb.append("Import : " + this.importing + "\n");
         sb.append("List : " + this.list + "\n");
         sb.append("Load : " + this.load + "\n");
         sb.append("Mark : " + this.mark + "\n");
@@ -9,6 +9,8 @@ import java.util.logging.Level;
 public class Config {
 
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final String STORAGE_FORMAT_XML = "xml";
+    public static final String STORAGE_FORMAT_LOG = "log";
 
     // Config values customizable through config file
     private String appTitle = "Doit";
@@ -16,6 +18,13 @@ public class Config {
     private String userPrefsFilePath = "preferences.json";
     private String taskManagerFilePath = "data/taskmanager.xml";
     private String taskManagerName = "MyTaskManager";
+    private int undoHistoryDepth = 100;
+    private int undoHistoryTaskLimit = 100000;
+    private long autosaveDebounceMillis = 300;
+    private long autosaveMaxDelayMillis = 2000;
+    private int dataFileGenerations = 3;
+    private String taskManagerStorageFormat = STORAGE_FORMAT_XML;
+    private long logCompactionThresholdBytes = 1024 * 1024;
 
     public String getAppTitle() {
         return this.appTitle;
@@ -57,6 +66,64 @@ public class Config {
         this.taskManagerName = taskManagerName;
     }
 
+    // @@author A0138909R
+    public int getUndoHistoryDepth() {
+        return this.undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getUndoHistoryTaskLimit() {
+        return this.undoHistoryTaskLimit;
+    }
+
+    public void setUndoHistoryTaskLimit(int undoHistoryTaskLimit) {
+        this.undoHistoryTaskLimit = undoHistoryTaskLimit;
+    }
+
+    public long getAutosaveDebounceMillis() {
+        return this.autosaveDebounceMillis;
+    }
+
+    public void setAutosaveDebounceMillis(long autosaveDebounceMillis) {
+        this.autosaveDebounceMillis = autosaveDebounceMillis;
+    }
+
+    public long getAutosaveMaxDelayMillis() {
+        return this.autosaveMaxDelayMillis;
+    }
+
+    public void setAutosaveMaxDelayMillis(long autosaveMaxDelayMillis) {
+        this.autosaveMaxDelayMillis = autosaveMaxDelayMillis;
+    }
+
+    public int getDataFileGenerations() {
+        return this.dataFileGenerations;
+    }
+
+    public void setDataFileGenerations(int dataFileGenerations) {
+        this.dataFileGenerations = dataFileGenerations;
+    }
+
+    public String getTaskManagerStorageFormat() {
+        return this.taskManagerStorageFormat;
+    }
+
+    public void setTaskManagerStorageFormat(String taskManagerStorageFormat) {
+        this.taskManagerStorageFormat = taskManagerStorageFormat;
+    }
+
+    public long getLogCompactionThresholdBytes() {
+        return this.logCompactionThresholdBytes;
+    }
+
+    public void setLogCompactionThresholdBytes(long logCompactionThresholdBytes) {
+        this.logCompactionThresholdBytes = logCompactionThresholdBytes;
+    }
+    // @@author
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,13 +138,22 @@ public class Config {
         return Objects.equals(this.appTitle, o.appTitle) && Objects.equals(this.logLevel, o.logLevel)
                 && Objects.equals(this.userPrefsFilePath, o.userPrefsFilePath)
                 && Objects.equals(this.taskManagerFilePath, o.taskManagerFilePath)
-                && Objects.equals(this.taskManagerName, o.taskManagerName);
+                && Objects.equals(this.taskManagerName, o.taskManagerName)
+                && this.undoHistoryDepth == o.undoHistoryDepth
+                && this.undoHistoryTaskLimit == o.undoHistoryTaskLimit
+                && this.autosaveDebounceMillis == o.autosaveDebounceMillis
+                && this.autosaveMaxDelayMillis == o.autosaveMaxDelayMillis
+                && this.dataFileGenerations == o.dataFileGenerations
+                && Objects.equals(this.taskManagerStorageFormat, o.taskManagerStorageFormat)
+                && this.logCompactionThresholdBytes == o.logCompactionThresholdBytes;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(this.appTitle, this.logLevel, this.userPrefsFilePath, this.taskManagerFilePath,
-                this.taskManagerName);
+                this.taskManagerName, this.undoHistoryDepth, this.undoHistoryTaskLimit,
+                this.autosaveDebounceMillis, this.autosaveMaxDelayMillis, this.dataFileGenerations,
+                this.taskManagerStorageFormat, this.logCompactionThresholdBytes);
     }
 
     @Override
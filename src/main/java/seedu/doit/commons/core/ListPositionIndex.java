@@ -0,0 +1,63 @@
+package seedu.doit.commons.core;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+//@@author A0138909R
+/**
+ * Looks up the position of an element in an observable list without scanning the list.
+ * <p>
+ * Positions are kept in an identity map. Changes to the list only mark the positions from the
+ * first changed index onwards as out of date, and drop the removed elements, so the next lookup
+ * re-indexes just the changed tail of the list. Adding tasks to the end or editing one near the end
+ * therefore costs little, while a lookup that follows no change is a single hash lookup.
+ * <p>
+ * The elements of the list must be distinct. Like the list it observes, an index must only be used
+ * from the thread that changes the list.
+ */
+public class ListPositionIndex<E> {
+
+    private final ObservableList<? extends E> list;
+    private final Map<E, Integer> positions = new IdentityHashMap<>();
+    // positions before this index are up to date
+    private int validUpTo;
+
+    public ListPositionIndex(ObservableList<? extends E> list) {
+        assert list != null;
+        this.list = list;
+        this.list.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the position of {@code element} in the list, compared by identity, or -1 if it is not in the list.
+     */
+    public int indexOf(E element) {
+        if (this.validUpTo < this.list.size()) {
+            reindexFrom(this.validUpTo);
+        }
+        Integer position = this.positions.get(element);
+        return position == null ? -1 : position;
+    }
+
+    private void reindexFrom(int from) {
+        List<? extends E> tail = this.list.subList(from, this.list.size());
+        int position = from;
+        for (E element : tail) {
+            this.positions.put(element, position++);
+        }
+        this.validUpTo = this.list.size();
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends E> change) {
+        while (change.next()) {
+            this.validUpTo = Math.min(this.validUpTo, change.getFrom());
+            if (change.wasRemoved()) {
+                change.getRemoved().forEach(this.positions::remove);
+            }
+        }
+    }
+}
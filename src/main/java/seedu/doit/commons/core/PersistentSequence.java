@@ -0,0 +1,248 @@
+package seedu.doit.commons.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+//@@author A0138909R
+/**
+ * An immutable list that shares structure between versions, implemented as a weight-balanced tree
+ * ordered by position.
+ * <p>
+ * {@link #insert(int, Object)}, {@link #set(int, Object)} and {@link #remove(int)} return a new sequence
+ * and leave this one unchanged. They only copy the O(log n) nodes on the path to the changed position,
+ * so holding on to an old version costs nothing until the versions diverge, and every version can be
+ * read from any thread. Reading the element at a position is O(log n).
+ */
+public final class PersistentSequence<E> implements Iterable<E> {
+
+    // the balance parameters of Hirai and Yamamoto, which keep single insertions and removals balanced
+    private static final int DELTA = 3;
+    private static final int GAMMA = 2;
+
+    private static final PersistentSequence<?> EMPTY = new PersistentSequence<>(null);
+
+    private final Node<E> root;
+
+    private PersistentSequence(Node<E> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSequence<E> empty() {
+        return (PersistentSequence<E>) EMPTY;
+    }
+
+    /**
+     * Returns a sequence of the given elements in their order, built in O(n).
+     */
+    public static <E> PersistentSequence<E> of(List<? extends E> elements) {
+        return elements.isEmpty() ? empty() : new PersistentSequence<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(this.root);
+    }
+
+    public boolean isEmpty() {
+        return this.root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the sequence.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        return getAt(this.root, index);
+    }
+
+    /**
+     * Returns a sequence with {@code element} inserted at {@code index}, shifting the elements from there on.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or > the size of the sequence.
+     */
+    public PersistentSequence<E> insert(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentSequence<>(insertAt(this.root, index, element));
+    }
+
+    /**
+     * Returns a sequence with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the sequence.
+     */
+    public PersistentSequence<E> set(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentSequence<>(setAt(this.root, index, element));
+    }
+
+    /**
+     * Returns a sequence without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the sequence.
+     */
+    public PersistentSequence<E> remove(int index) {
+        checkIndex(index, size());
+        Node<E> newRoot = removeAt(this.root, index);
+        return newRoot == null ? empty() : new PersistentSequence<>(newRoot);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new SequenceIterator<>(this.root);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), elements.get(mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> insertAt(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insertAt(node.left, index, element), node.element, node.right);
+        }
+        return balance(node.left, node.element, insertAt(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> setAt(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(setAt(node.left, index, element), node.element, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        }
+        return new Node<>(node.left, node.element, setAt(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> removeAt(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(removeAt(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, removeAt(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        // the removed element is replaced by its neighbour from the heavier side
+        if (node.left.size > node.right.size) {
+            return balance(removeAt(node.left, node.left.size - 1), getAt(node.left, node.left.size - 1), node.right);
+        }
+        return balance(node.left, getAt(node.right, 0), removeAt(node.right, 0));
+    }
+
+    private static <E> E getAt(Node<E> node, int index) {
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a node of {@code left}, {@code element} and {@code right}, rotated if one side became too heavy
+     * after a single insertion or removal.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        if (weight(right) > DELTA * weight(left)) {
+            if (weight(right.left) < GAMMA * weight(right.right)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            Node<E> middle = right.left;
+            return new Node<>(new Node<>(left, element, middle.left), middle.element,
+                    new Node<>(middle.right, right.element, right.right));
+        }
+        if (weight(left) > DELTA * weight(right)) {
+            if (weight(left.right) < GAMMA * weight(left.left)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            Node<E> middle = left.right;
+            return new Node<>(new Node<>(left.left, left.element, middle.left), middle.element,
+                    new Node<>(middle.right, element, right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int weight(Node<?> node) {
+        return sizeOf(node) + 1;
+    }
+
+    /**
+     * A node of the tree, holding the number of elements under it.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+        }
+    }
+
+    /**
+     * Walks the tree in order, keeping the path to the next element on a stack.
+     */
+    private static final class SequenceIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        SequenceIterator(Node<E> root) {
+            pushLeftmostPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (this.path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = this.path.pop();
+            pushLeftmostPath(node.right);
+            return node.element;
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                this.path.push(current);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.doit.commons.events.model;
 
 import seedu.doit.commons.events.BaseEvent;
 import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManagerChange;
 
 /**
  * Indicates the TaskManager in the model has changed
@@ -9,10 +10,19 @@ import seedu.doit.model.ReadOnlyTaskManager;
 public class TaskManagerChangedEvent extends BaseEvent {
 
     public final ReadOnlyTaskManager data;
+    //@@author A0138909R
+    // the change that was made to the TaskManager, or null if it is not known, e.g. after its data was replaced
+    public final TaskManagerChange change;
 
     public TaskManagerChangedEvent(ReadOnlyTaskManager data) {
+        this(data, null);
+    }
+
+    public TaskManagerChangedEvent(ReadOnlyTaskManager data, TaskManagerChange change) {
         this.data = data;
+        this.change = change;
     }
+    //@@author
 
     @Override
     public String toString() {
@@ -9,6 +9,10 @@ import java.nio.file.Files;
  */
 public class FileUtil {
 
+    //@@author A0138909R
+    public static final String BINARY_FILE_TYPE = ".bin";
+    //@@author
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(File file) {
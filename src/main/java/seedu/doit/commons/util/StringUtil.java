@@ -2,6 +2,8 @@ package seedu.doit.commons.util;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -37,6 +39,56 @@ public class StringUtil {
         return false;
     }
 
+    //@@author A0138909R
+    /**
+     * Returns {@code text} with its case folded. Two strings are equal after folding exactly when
+     * they are equal by {@link String#equalsIgnoreCase(String)}, so folded words can be hashed.
+     */
+    public static String foldCase(String text) {
+        assert text != null;
+        StringBuilder folded = null;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            int foldedCodePoint = Character.toLowerCase(Character.toUpperCase(codePoint));
+            if (folded == null && foldedCodePoint != codePoint) {
+                folded = new StringBuilder(text.length()).append(text, 0, i);
+            }
+            if (folded != null) {
+                folded.appendCodePoint(foldedCodePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return folded == null ? text : folded.toString();
+    }
+
+    /**
+     * Returns the words in {@code sentence}, split on the same whitespace as
+     * {@link #containsWordIgnoreCase(String, String)}. Empty words are left out.
+     */
+    public static List<String> splitWords(String sentence) {
+        assert sentence != null;
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= sentence.length(); i++) {
+            boolean isWordChar = i < sentence.length() && !isWhitespace(sentence.charAt(i));
+            if (isWordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!isWordChar && wordStart >= 0) {
+                words.add(sentence.substring(wordStart, i));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regex {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\013' || c == '\f' || c == '\r';
+    }
+    //@@author
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
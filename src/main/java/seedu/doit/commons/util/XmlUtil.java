@@ -2,6 +2,10 @@ package seedu.doit.commons.util;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -10,9 +14,17 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ * <p>
+ * Creating a {@code JAXBContext} is expensive, so one context is cached per class.
+ * Marshallers and unmarshallers are not thread-safe, so they are pooled per class
+ * and each one is only used by one thread at a time.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Marshaller>> marshallerPools = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Unmarshaller>> unmarshallerPools = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -34,10 +46,18 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Queue<Unmarshaller> pool = unmarshallerPools.computeIfAbsent(classToConvert,
+            unused -> new ConcurrentLinkedQueue<>());
+        Unmarshaller um = pool.poll();
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+        }
 
-        return ((T) um.unmarshal(file));
+        try {
+            return ((T) um.unmarshal(file));
+        } finally {
+            pool.offer(um);
+        }
     }
 
     /**
@@ -58,11 +78,34 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Queue<Marshaller> pool = marshallerPools.computeIfAbsent(data.getClass(),
+            unused -> new ConcurrentLinkedQueue<>());
+        Marshaller m = pool.poll();
+        if (m == null) {
+            m = getContext(data.getClass()).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+
+        try {
+            m.marshal(data, file);
+        } finally {
+            pool.offer(m);
+        }
+    }
 
-        m.marshal(data, file);
+    /**
+     * Returns the cached {@code JAXBContext} for {@code classToBeBound}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> classToBeBound) throws JAXBException {
+        JAXBContext context = contexts.get(classToBeBound);
+        if (context == null) {
+            context = JAXBContext.newInstance(classToBeBound);
+            JAXBContext existing = contexts.putIfAbsent(classToBeBound, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
     }
 
 }
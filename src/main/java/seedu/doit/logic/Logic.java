@@ -1,8 +1,10 @@
 package seedu.doit.logic;
 
 import javafx.collections.ObservableList;
+import seedu.doit.commons.core.ListPositionIndex;
 import seedu.doit.logic.commands.CommandResult;
 import seedu.doit.logic.commands.exceptions.CommandException;
+import seedu.doit.model.TaskListPartition;
 import seedu.doit.model.item.ReadOnlyTask;
 /**
  * API of the Logic component
@@ -21,4 +23,15 @@ public interface Logic {
      * Returns the filtered list of tasks
      */
     ObservableList<ReadOnlyTask> getFilteredTaskList();
+
+    //@@author A0138909R
+    /**
+     * Returns an index of the positions of tasks in the filtered list of tasks
+     */
+    ListPositionIndex<ReadOnlyTask> getFilteredTaskListIndex();
+
+    /**
+     * Returns the filtered list of tasks split into tasks, events and floating tasks
+     */
+    TaskListPartition getFilteredTaskListPartition();
 }
@@ -4,12 +4,14 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.doit.commons.core.ComponentManager;
+import seedu.doit.commons.core.ListPositionIndex;
 import seedu.doit.commons.core.LogsCenter;
 import seedu.doit.logic.commands.Command;
 import seedu.doit.logic.commands.CommandResult;
 import seedu.doit.logic.commands.exceptions.CommandException;
 import seedu.doit.logic.parser.Parser;
 import seedu.doit.model.Model;
+import seedu.doit.model.TaskListPartition;
 import seedu.doit.model.item.ReadOnlyTask;
 import seedu.doit.storage.Storage;
 
@@ -43,4 +45,15 @@ public class LogicManager extends ComponentManager implements Logic {
     public ObservableList<ReadOnlyTask> getFilteredTaskList() {
         return this.model.getFilteredTaskList();
     }
+
+    //@@author A0138909R
+    @Override
+    public ListPositionIndex<ReadOnlyTask> getFilteredTaskListIndex() {
+        return this.model.getFilteredTaskListIndex();
+    }
+
+    @Override
+    public TaskListPartition getFilteredTaskListPartition() {
+        return this.model.getFilteredTaskListPartition();
+    }
 }
@@ -50,7 +50,7 @@ public class AddCommand extends Command {
 
         final Set<Tag> tagSet = new HashSet<>();
         for (String tagName : tags) {
-            tagSet.add(new Tag(tagName));
+            tagSet.add(Tag.of(tagName));
         }
         StartTime startTime;
         EndTime endTime;
@@ -63,7 +63,7 @@ public class AddCommand extends Command {
             dueDate = "";
         }
 
-        this.toAdd = new Task(new Name(name), new Priority(priority), startTime = new StartTime(startDate),
+        this.toAdd = new Task(new Name(name), Priority.of(priority), startTime = new StartTime(startDate),
             endTime = new EndTime(dueDate), new Description(text), new UniqueTagList(tagSet));
 
         if (startTime.getDateTimeObject() != null && endTime.getDateTimeObject() != null &&
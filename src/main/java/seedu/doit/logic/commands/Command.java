@@ -1,8 +1,12 @@
 package seedu.doit.logic.commands;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.doit.commons.core.Messages;
 import seedu.doit.logic.commands.exceptions.CommandException;
 import seedu.doit.model.Model;
+import seedu.doit.model.item.ReadOnlyTask;
 import seedu.doit.storage.Storage;
 
 /**
@@ -62,6 +66,27 @@ public abstract class Command {
         return String.format(Messages.MESSAGE_TASKS_SORTED_OVERVIEW, displaySize);
     }
 
+    //@@author A0138909R
+    /**
+     * Returns the tasks at the one-based {@code targetIndexes} of the last shown task list,
+     * in the order of their indexes.
+     *
+     * @throws CommandException if any index is not in the last shown task list.
+     */
+    protected List<ReadOnlyTask> getTargetTasks(IndexRanges targetIndexes) throws CommandException {
+        List<ReadOnlyTask> lastShownTaskList = this.model.getFilteredTaskList();
+        if (targetIndexes.isEmpty() || targetIndexes.first() < 1 || targetIndexes.last() > lastShownTaskList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        }
+        int[] indexes = targetIndexes.toArray();
+        List<ReadOnlyTask> targetTasks = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            targetTasks.add(lastShownTaskList.get(index - 1));
+        }
+        return targetTasks;
+    }
+    //@@author
+
     /**
      * Executes the command and returns the result message.
      *
@@ -3,7 +3,7 @@
 package seedu.doit.logic.commands;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
 
 import seedu.doit.model.item.ReadOnlyTask;
@@ -23,10 +23,10 @@ public class CommandResult {
     /**
      * Returns a string with the task index attached to task name for every task
      *
-     * @param tasksSet Set of tasks
+     * @param tasksSet Collection of tasks
      * @return A formatted string with the task index attached to the corresponding task
      */
-    public static String tasksToString(HashSet<ReadOnlyTask> tasksSet) {
+    public static String tasksToString(Collection<? extends ReadOnlyTask> tasksSet) {
 
         final StringBuilder builder = new StringBuilder();
 
@@ -3,11 +3,7 @@ package seedu.doit.logic.commands;
 import static seedu.doit.logic.commands.CommandResult.tasksToString;
 
 import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
 
-import seedu.doit.commons.core.Messages;
-import seedu.doit.commons.core.UnmodifiableObservableList;
 import seedu.doit.logic.commands.exceptions.CommandException;
 import seedu.doit.model.item.ReadOnlyTask;
 
@@ -29,41 +25,24 @@ public class DeleteCommand extends Command {
 
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Deleted Task(s): %1$s";
 
-    private Set<Integer> targetIndexes;
+    private IndexRanges targetIndexes;
     private HashSet<ReadOnlyTask> tasksToDeleteSet = new HashSet<>();
 
 
-    public DeleteCommand(Set<Integer> targetIndexes) {
+    public DeleteCommand(IndexRanges targetIndexes) {
         this.targetIndexes = targetIndexes;
-        this.targetIndexes = this.targetIndexes.stream().sorted().collect(Collectors.toSet());
     }
 
     @Override
     public CommandResult execute() throws CommandException {
 
-        UnmodifiableObservableList<ReadOnlyTask> lastShownTaskList = this.model.getFilteredTaskList();
-
-        if (isAnyInvalidIndex(lastShownTaskList)) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-        }
-
-        for (int index: this.targetIndexes) {
-            ReadOnlyTask taskToBeDeleted = lastShownTaskList.get(index - 1);
-            this.tasksToDeleteSet.add(taskToBeDeleted);
-        }
+        this.tasksToDeleteSet.addAll(getTargetTasks(this.targetIndexes));
 
         this.model.deleteTasks(this.tasksToDeleteSet);
 
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS,
             tasksToString(tasksToDeleteSet)));
     }
-    /**
-     *
-     * Checks if any index is invalid
-     */
-    private boolean isAnyInvalidIndex(UnmodifiableObservableList<ReadOnlyTask> lastShownTaskList) {
-        return this.targetIndexes.stream().anyMatch(index -> index < 0 || index > lastShownTaskList.size());
-    }
 
     public static String getName() {
         return COMMAND_WORD;
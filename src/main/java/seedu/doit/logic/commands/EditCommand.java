@@ -1,10 +1,12 @@
 package seedu.doit.logic.commands;
 
+import static seedu.doit.logic.commands.CommandResult.tasksToString;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import seedu.doit.commons.core.EventsCenter;
-import seedu.doit.commons.core.Messages;
 import seedu.doit.commons.events.ui.JumpToListRequestEvent;
 import seedu.doit.commons.util.CollectionUtil;
 import seedu.doit.logic.commands.exceptions.CommandException;
@@ -30,28 +32,29 @@ public class EditCommand extends Command {
     public static final String COMMAND_RESULT = "Edits existing task with new details";
     public static final String COMMAND_EXAMPLE = "edit 1 s/9pm e/11pm p/high t/CS1010";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": " + COMMAND_RESULT + "Parameters: " + COMMAND_PARAMETER
-            + "\nExample: " + COMMAND_EXAMPLE;
+            + "\nExample: " + COMMAND_EXAMPLE
+            + "\nINDEX can also list several tasks, such as 3,5,9 or 1-50, to edit them all at once.";
 
     public static final String MESSAGE_EDIT_TASK_SUCCESS = "Edited Task: %1$s";
+    public static final String MESSAGE_EDIT_TASKS_SUCCESS = "Edited Task(s): %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_TASK = "This task already exists in the task manager.";
 
-    private final int filteredTaskListIndex;
+    private final IndexRanges targetIndexes;
     private EditTaskDescriptor editTaskDescriptor;
 
     /**
-     * @param filteredTaskListIndex
-     *            the index of the task in the filtered task list to edit
+     * @param targetIndexes
+     *            the one-based indexes of the tasks in the filtered task list to edit
      * @param editTaskDescriptor
-     *            details to edit the task with
+     *            details to edit the tasks with
      */
 
-    public EditCommand(int filteredTaskListIndex, EditTaskDescriptor editTaskDescriptor) {
-        assert filteredTaskListIndex > 0;
+    public EditCommand(IndexRanges targetIndexes, EditTaskDescriptor editTaskDescriptor) {
+        assert !targetIndexes.isEmpty() && targetIndexes.first() > 0;
         assert editTaskDescriptor != null;
 
-        // converts filteredTaskListIndex from one-based to zero-based.
-        this.filteredTaskListIndex = filteredTaskListIndex - 1;
+        this.targetIndexes = targetIndexes;
         this.editTaskDescriptor = new EditTaskDescriptor(editTaskDescriptor);
     }
 
@@ -74,30 +77,32 @@ public class EditCommand extends Command {
                 updatedTags);
     }
 
+    //@@author A0138909R
     @Override
     public CommandResult execute() throws CommandException {
-
-        List<ReadOnlyTask> lastShownTaskList = this.model.getFilteredTaskList();
-
-        if (this.filteredTaskListIndex >= lastShownTaskList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-        } else {
-            ReadOnlyTask taskToEdit = lastShownTaskList.get(this.filteredTaskListIndex);
-            assert taskToEdit != null;
-            Task editedTask = createEditedTask(taskToEdit, this.editTaskDescriptor);
-
-            try {
-                this.model.updateTask(this.filteredTaskListIndex, editedTask);
-            } catch (UniqueTaskList.DuplicateTaskException dpe) {
-                throw new CommandException(MESSAGE_DUPLICATE_TASK);
-            }
-            this.model.updateFilteredListToShowAll();
-            EventsCenter.getInstance()
-                    .post(new JumpToListRequestEvent(this.model.getFilteredTaskList().indexOf(editedTask)));
-            return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, taskToEdit));
-
-        }
+        List<ReadOnlyTask> tasksToEdit = getTargetTasks(this.targetIndexes);
+        List<ReadOnlyTask> taskImages = new ArrayList<>(tasksToEdit.size());
+        List<Task> editedTasks = new ArrayList<>(tasksToEdit.size());
+        for (ReadOnlyTask taskToEdit : tasksToEdit) {
+            taskImages.add(new Task(taskToEdit));
+            editedTasks.add(createEditedTask(taskToEdit, this.editTaskDescriptor));
+        }
+
+        try {
+            this.model.transaction(taskManager -> taskManager.updateTasks(tasksToEdit, editedTasks));
+        } catch (UniqueTaskList.TaskNotFoundException pnfe) {
+            assert false : "The target task cannot be missing";
+        } catch (UniqueTaskList.DuplicateTaskException dpe) {
+            throw new CommandException(MESSAGE_DUPLICATE_TASK);
+        }
+        EventsCenter.getInstance()
+                .post(new JumpToListRequestEvent(this.model.getFilteredTaskList().indexOf(editedTasks.get(0))));
+        if (taskImages.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, taskImages.get(0)));
+        }
+        return new CommandResult(String.format(MESSAGE_EDIT_TASKS_SUCCESS, tasksToString(taskImages)));
     }
+    //@@author A0146809W
 
     /**
      * Stores the details to edit the task with. Each non-empty field value will
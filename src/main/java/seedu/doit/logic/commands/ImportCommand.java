@@ -0,0 +1,101 @@
+package seedu.doit.logic.commands;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.doit.commons.core.LogsCenter;
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.logic.commands.exceptions.CommandException;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.item.UniqueTaskList.DuplicateTaskException;
+
+//@@author A0138909R
+/**
+ * Adds the tasks in a CSV, iCalendar or DoIt data file to the task manager, as a single change
+ * that is undone in one step. Tasks that are already in the task manager are skipped.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String COMMAND_PARAMETER = "FILE_PATH/FILE_NAME.csv, FILE_PATH/FILE_NAME.ics, "
+            + "FILE_PATH/FILE_NAME.xml or FILE_PATH/FILE_NAME.bin";
+    public static final String COMMAND_RESULT = "Adds the tasks in a CSV, iCalendar or DoIt file to the current tasks";
+    public static final String COMMAND_EXAMPLE = "import folder1/tasks.csv\n" + "import C:/Users/USER/calendar.ics";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the tasks in the specified file. "
+            + "Parameters: " + COMMAND_PARAMETER + "\n"
+            + "Example: " + COMMAND_WORD + " folder1/tasks.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d tasks from %2$s";
+    public static final String MESSAGE_SKIPPED = ", skipped %1$d tasks that already exist";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_INVALID_FILE = "Nothing imported, the file could not be read: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+    public final String importFilePath;
+
+    /**
+     * Creates an ImportCommand.
+     */
+    public ImportCommand(String importFilePath) {
+        assert importFilePath != null;
+        this.importFilePath = importFilePath;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        assert this.model != null;
+        List<Task> importedTasks;
+        try {
+            importedTasks = this.storage.importTasks(this.importFilePath);
+        } catch (FileNotFoundException fnfe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, this.importFilePath));
+        } catch (DataConversionException dce) {
+            logger.info("Invalid file to import: " + dce.getMessage());
+            Throwable cause = dce.getCause() != null ? dce.getCause() : dce;
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, cause.getMessage()));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, ioe.getMessage()));
+        }
+
+        // skip tasks that are already present, or repeated in the file, so the rest are added as one change
+        Set<Task> seenTasks = new HashSet<>();
+        List<Task> newTasks = new ArrayList<>(importedTasks.size());
+        for (Task task : importedTasks) {
+            if (seenTasks.add(task) && !this.model.hasTask(task)) {
+                newTasks.add(task);
+            }
+        }
+        try {
+            this.model.addTasks(newTasks);
+        } catch (DuplicateTaskException dte) {
+            assert false : "Tasks that are already present are skipped";
+            throw new CommandException(AddCommand.MESSAGE_DUPLICATE_TASK);
+        }
+
+        int skippedCount = importedTasks.size() - newTasks.size();
+        String message = String.format(MESSAGE_SUCCESS, newTasks.size(), this.importFilePath);
+        return new CommandResult(skippedCount == 0 ? message : message + String.format(MESSAGE_SKIPPED, skippedCount));
+    }
+
+    public static String getName() {
+        return COMMAND_WORD;
+    }
+
+    public static String getParameter() {
+        return COMMAND_PARAMETER;
+    }
+
+    public static String getResult() {
+        return COMMAND_RESULT;
+    }
+
+    public static String getExample() {
+        return COMMAND_EXAMPLE;
+    }
+
+}
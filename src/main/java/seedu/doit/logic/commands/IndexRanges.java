@@ -0,0 +1,96 @@
+package seedu.doit.logic.commands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//@@author A0138909R
+/**
+ * An immutable set of one-based task indexes, kept as sorted ranges of indexes rather than
+ * as the indexes themselves, so a range such as {@code 1-2000000000} can be checked against
+ * the shown task list before any of its indexes is visited.
+ */
+public class IndexRanges {
+
+    // starts[i]..ends[i] are sorted, disjoint and not adjacent to each other
+    private final int[] starts;
+    private final int[] ends;
+
+    private IndexRanges(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public boolean isEmpty() {
+        return this.starts.length == 0;
+    }
+
+    /**
+     * Returns the smallest index. The ranges must not be empty.
+     */
+    public int first() {
+        assert !isEmpty();
+        return this.starts[0];
+    }
+
+    /**
+     * Returns the largest index. The ranges must not be empty.
+     */
+    public int last() {
+        assert !isEmpty();
+        return this.ends[this.ends.length - 1];
+    }
+
+    /**
+     * Returns the indexes in increasing order.
+     */
+    public int[] toArray() {
+        int count = 0;
+        for (int i = 0; i < this.starts.length; i++) {
+            count += this.ends[i] - this.starts[i] + 1;
+        }
+        int[] indexes = new int[count];
+        int position = 0;
+        for (int i = 0; i < this.starts.length; i++) {
+            for (int index = this.starts[i]; index <= this.ends[i]; index++) {
+                indexes[position++] = index;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Builds {@code IndexRanges} from ranges given in any order, which may overlap.
+     */
+    public static class Builder {
+
+        private final List<int[]> ranges = new ArrayList<>();
+
+        /**
+         * Adds the indexes {@code start} to {@code end}, both inclusive.
+         */
+        public Builder add(int start, int end) {
+            assert 0 < start && start <= end;
+            this.ranges.add(new int[] {start, end});
+            return this;
+        }
+
+        public IndexRanges build() {
+            this.ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+            int[] starts = new int[this.ranges.size()];
+            int[] ends = new int[this.ranges.size()];
+            int count = 0;
+            for (int[] range : this.ranges) {
+                // long arithmetic keeps Integer.MAX_VALUE + 1 from wrapping around
+                if (count > 0 && range[0] <= (long) ends[count - 1] + 1) {
+                    ends[count - 1] = Math.max(ends[count - 1], range[1]);
+                } else {
+                    starts[count] = range[0];
+                    ends[count] = range[1];
+                    count++;
+                }
+            }
+            return new IndexRanges(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+        }
+    }
+}
@@ -21,13 +21,13 @@ public class LoadCommand extends Command {
     private static final String LOGGER_CREATED_EVENT = "Created event : ";
     private static final String LOGGER_INVALID_FILE_NAME = "Invalid File Name: ";
     public static final String COMMAND_WORD = "load";
-    public static final String COMMAND_PARAMETER = "FILE_PATH/FILE_NAME.xml";
+    public static final String COMMAND_PARAMETER = "FILE_PATH/FILE_NAME.xml or FILE_PATH/FILE_NAME.bin";
     public static final String COMMAND_RESULT = "Loads an existing DoIt's data at specified "
             + "location and in specified file";
     public static final String COMMAND_EXAMPLE = "load folder1/savefile.xml\n" + "load C:/Users/USER/savefile.xml";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Loads all tasks in the specified file location. "
-            + "Parameters: FILE_PATH_IN_DOIT_FILE/FILE_NAME.xml\n" + "Example: " + COMMAND_WORD
-            + " load/xml/in/this/file/as/name.xml";
+            + "Parameters: FILE_PATH_IN_DOIT_FILE/FILE_NAME.xml or FILE_PATH_IN_DOIT_FILE/FILE_NAME.bin\n"
+            + "Example: " + COMMAND_WORD + " load/xml/in/this/file/as/name.xml";
 
     public static final String MESSAGE_SUCCESS = " Tasks loaded at %1$s";
 
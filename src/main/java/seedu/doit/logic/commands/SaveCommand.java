@@ -22,7 +22,7 @@ public class SaveCommand extends Command {
 
     private static final String LOGGER_DUPLICATE_FILE_PATH = "Duplicate file path: ";
 
-    private static final String LOGGER_FILE_NOT_OF_TYPE_XML = "File not of type xml: ";
+    private static final String LOGGER_FILE_NOT_OF_TYPE_XML = "File not of type xml or bin: ";
 
     private static final String LOGGER_INVALID_FILE_NAME = "Invalid File Name: ";
 
@@ -31,19 +31,19 @@ public class SaveCommand extends Command {
     public static final String XML_FILE_TYPE = ".xml";
 
     public static final String COMMAND_WORD = "save";
-    public static final String COMMAND_PARAMETER = "FILE_PATH/FILE_NAME.xml";
+    public static final String COMMAND_PARAMETER = "FILE_PATH/FILE_NAME.xml or FILE_PATH/FILE_NAME.bin";
     public static final String COMMAND_RESULT = "Saves DoIt's data at specified location and in specified file";
     public static final String COMMAND_EXAMPLE = "save folder1/savefile.xml\n" + "save C:/Users/USER/savefile.xml";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves all tasks to a new file location and name. "
-            + "Parameters: FILE_PATH_IN_DOIT_FILE/FILE_NAME.xml\n" + "Example: " + COMMAND_WORD
-            + " save/xml/in/this/file/as/name.xml";
+            + "Parameters: FILE_PATH_IN_DOIT_FILE/FILE_NAME.xml or FILE_PATH_IN_DOIT_FILE/FILE_NAME.bin\n"
+            + "Example: " + COMMAND_WORD + " save/xml/in/this/file/as/name.xml";
 
     public static final String MESSAGE_SUCCESS = " Tasks saved at %1$s";
     public static final String MESSAGE_DUPLICATE_FILE = "Another file already exists in the file path!";
-    public static final String MESSAGE_NOT_XML_FILE = "It must be a .xml file!\n" + MESSAGE_USAGE;
+    public static final String MESSAGE_NOT_XML_FILE = "It must be a .xml or .bin file!\n" + MESSAGE_USAGE;
     public static final String MESSAGE_USING_SAME_FILE = " is the current file you are choosing. "
             + "It will be auto saved.";
-    public static final String MESSAGE_CANNOT_CREATE_FILE = "Cannot create the .xml file!\n"
+    public static final String MESSAGE_CANNOT_CREATE_FILE = "Cannot create the file!\n"
             + "Maybe you have the : character in file name.";
     public static final String MESSAGE_INVALID_FILE_NAME = "Invalid file path!\nCannot contain characters"
             + " * ? \" < > |\n" + MESSAGE_USAGE;
@@ -70,7 +70,7 @@ public class SaveCommand extends Command {
             logger.info(LOGGER_INVALID_FILE_NAME + this.saveFilePath);
             throw new CommandException(MESSAGE_INVALID_FILE_NAME);
         }
-        if (!this.saveFilePath.endsWith(XML_FILE_TYPE)) {
+        if (!this.saveFilePath.endsWith(XML_FILE_TYPE) && !this.saveFilePath.endsWith(FileUtil.BINARY_FILE_TYPE)) {
             logger.info(LOGGER_FILE_NOT_OF_TYPE_XML + this.saveFilePath);
             throw new CommandException(MESSAGE_NOT_XML_FILE);
         }
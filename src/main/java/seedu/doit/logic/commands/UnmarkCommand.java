@@ -1,57 +1,63 @@
 // @@author A0139399J
 package seedu.doit.logic.commands;
 
+import static seedu.doit.logic.commands.CommandResult.tasksToString;
+
+import java.util.List;
+
 import seedu.doit.commons.core.EventsCenter;
-import seedu.doit.commons.core.Messages;
-import seedu.doit.commons.core.UnmodifiableObservableList;
 import seedu.doit.commons.events.ui.JumpToListRequestEvent;
 import seedu.doit.logic.commands.exceptions.CommandException;
 import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
 import seedu.doit.model.item.UniqueTaskList;
 
 public class UnmarkCommand extends Command {
     public static final String COMMAND_WORD = "unmark";
-    public static final String COMMAND_PARAMETER = "INDEX";
+    public static final String COMMAND_PARAMETER = "INDEX...";
     public static final String COMMAND_RESULT = "Marks task at specified index as uncompleted";
     public static final String COMMAND_EXAMPLE = "unmark 6";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
         + ": Changes the task identified by the index number used in the last task list to uncompleted.\n"
-        + "Parameters: INDEX (must be a positive integer)\n"
+        + "Parameters: INDEX... (positive integers or ranges such as 1-5, separated by spaces or commas)\n"
         + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_UNMARK_TASK_SUCCESS = "Unmarked Task: %1$s";
+    public static final String MESSAGE_UNMARK_TASKS_SUCCESS = "Unmarked Task(s): %1$s";
     public static final String MESSAGE_DUPLICATE_TASK = "This task already exists in the task manager.";
 
-    public final int filteredTaskListIndex;
+    private final IndexRanges targetIndexes;
 
-    public UnmarkCommand(int filteredTaskListIndex) {
-        assert filteredTaskListIndex > 0;
-        this.filteredTaskListIndex = filteredTaskListIndex;
+    //@@author A0138909R
+    public UnmarkCommand(IndexRanges targetIndexes) {
+        assert !targetIndexes.isEmpty() && targetIndexes.first() > 0;
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
     public CommandResult execute() throws CommandException {
+        List<ReadOnlyTask> tasksToUnmark = getTargetTasks(this.targetIndexes);
 
-        UnmodifiableObservableList<ReadOnlyTask> lastShownTaskList = this.model.getFilteredTaskList();
-
-        if (this.filteredTaskListIndex <= lastShownTaskList.size()) {
-            ReadOnlyTask taskToUnmark = lastShownTaskList.get(this.filteredTaskListIndex - 1);
+        try {
+            this.model.transaction(taskManager -> taskManager.unmarkTasks(tasksToUnmark));
+        } catch (UniqueTaskList.TaskNotFoundException pnfe) {
+            assert false : "The target task cannot be missing";
+        } catch (UniqueTaskList.DuplicateTaskException dpe) {
+            throw new CommandException(MESSAGE_DUPLICATE_TASK);
+        }
+        // the unmarked task replaced the target in the task manager, so it is found by its new details
+        Task unmarkedTask = new Task(tasksToUnmark.get(0));
+        unmarkedTask.setIsDone(false);
+        EventsCenter.getInstance().post(new JumpToListRequestEvent(
+                this.model.getFilteredTaskList().indexOf(unmarkedTask)));
 
-            try {
-                this.model.unmarkTask(this.filteredTaskListIndex - 1, taskToUnmark);
-            } catch (UniqueTaskList.TaskNotFoundException pnfe) {
-                assert false : "The target task cannot be missing";
-            } catch (UniqueTaskList.DuplicateTaskException dpe) {
-                throw new CommandException(MESSAGE_DUPLICATE_TASK);
-            }
-            EventsCenter.getInstance().post(new JumpToListRequestEvent(
-                    this.model.getFilteredTaskList().indexOf(taskToUnmark)));
-            return new CommandResult(String.format(MESSAGE_UNMARK_TASK_SUCCESS, taskToUnmark));
-        } else {
-            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        if (tasksToUnmark.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_UNMARK_TASK_SUCCESS, tasksToUnmark.get(0)));
         }
+        return new CommandResult(String.format(MESSAGE_UNMARK_TASKS_SUCCESS, tasksToString(tasksToUnmark)));
     }
+    //@@author A0139399J
 
     public static String getName() {
         return COMMAND_WORD;
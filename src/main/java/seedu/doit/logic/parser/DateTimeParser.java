@@ -1,9 +1,16 @@
 package seedu.doit.logic.parser;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,6 +30,44 @@ public class DateTimeParser {
         + "MM-DD-YY HH:MM Format or relative date today, tomorrow, next wednesday";
 
     private static final String DAY_MONTH_SWITCH_REGEX = "^(\\d+/)(\\d+/)(\\d+.*)";
+    private static final Pattern DAY_MONTH_SWITCH_PATTERN = Pattern.compile(DAY_MONTH_SWITCH_REGEX);
+
+    //@@author A0138909R
+    // the formats that start times and deadlines are shown in, rejecting dates such as 31/02 that natty
+    // would not take either
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uu")
+        .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm")
+        .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
+        .append(DATE_FORMATTER).appendLiteral(' ').append(TIME_FORMATTER).toFormatter()
+        .withResolverStyle(ResolverStyle.STRICT);
+    // the format that start times and deadlines are stored in, with the full year so that a date
+    // outside 2000 to 2099 reads back the same
+    private static final DateTimeFormatter STORED_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm")
+        .withResolverStyle(ResolverStyle.STRICT);
+
+    private static final Pattern CANONICAL_DATE_TIME_PATTERN = Pattern.compile("\\d\\d/\\d\\d/\\d\\d \\d\\d:\\d\\d");
+
+    // natty rules whose result depends on the time of day when parsing, such as "in 2 hours"
+    private static final String RELATIVE_TIME_RULE_PREFIX = "relative_time";
+    private static final int MAX_CACHED_DATE_TIMES = 256;
+
+    // natty builds a new grammar for each parse, so one parser can be shared as long as parses take turns
+    private static final Parser NATTY_PARSER = new Parser();
+
+    /**
+     * Date/times that natty gave for recent inputs, keyed by the day the input was parsed on and the input.
+     * Only inputs that give the same result all day long are kept, in least recently used order.
+     */
+    private static final Map<String, LocalDateTime> CACHED_DATE_TIMES =
+        new LinkedHashMap<String, LocalDateTime>(MAX_CACHED_DATE_TIMES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalDateTime> eldest) {
+                return size() > MAX_CACHED_DATE_TIMES;
+            }
+        };
+    //@@author A0146809W
 
     /**
      * Parses string input into LocalDateTime object using natty
@@ -35,9 +80,27 @@ public class DateTimeParser {
 
     public static Optional<LocalDateTime> parseDateTime(String input) throws IllegalValueException {
         Date date = new Date(); //get current date
-        Parser dateTimeParser = new Parser();
 
-        if (input.matches(DAY_MONTH_SWITCH_REGEX)) {
+        //@@author A0138909R
+        if (CANONICAL_DATE_TIME_PATTERN.matcher(input).matches()) {
+            try {
+                return Optional.of(LocalDateTime.parse(input, DATE_TIME_FORMATTER));
+            } catch (DateTimeParseException dtpe) {
+                // not a real date, leave it to natty as before
+            }
+        }
+
+        LocalDate referenceDay = LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()).toLocalDate();
+        String cacheKey = referenceDay + " " + input;
+        synchronized (CACHED_DATE_TIMES) {
+            LocalDateTime cached = CACHED_DATE_TIMES.get(cacheKey);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        //@@author A0146809W
+
+        if (DAY_MONTH_SWITCH_PATTERN.matcher(input).matches()) {
             //changes format from dd/mm/yy to mm/dd/yy as natty can only parse in mm/dd/yy format
             input = switchDayToMonth(input);
         }
@@ -46,7 +109,10 @@ public class DateTimeParser {
             return Optional.empty();
         }
 
-        List<DateGroup> groupsOfDateGroup = dateTimeParser.parse(input, date);
+        List<DateGroup> groupsOfDateGroup;
+        synchronized (NATTY_PARSER) {
+            groupsOfDateGroup = NATTY_PARSER.parse(input, date);
+        }
 
         if (groupsOfDateGroup.isEmpty()) {
             return Optional.empty();
@@ -67,8 +133,64 @@ public class DateTimeParser {
         Date parsedDate = dateGroup.getDates().get(0);
         LocalDateTime localDateTime = LocalDateTime.ofInstant(parsedDate.toInstant(), ZoneId.systemDefault());
 
+        if (isSameAllDay(dateGroup)) {
+            synchronized (CACHED_DATE_TIMES) {
+                CACHED_DATE_TIMES.put(cacheKey, localDateTime);
+            }
+        }
         return Optional.of(localDateTime);
     }
+
+    //@@author A0138909R
+    /**
+     * Returns true if natty would give the same date/time for the input of {@code dateGroup} at any time
+     * of the day it was parsed on. This is not so if natty took the time of day from the time of parsing,
+     * as for "tomorrow", or counted from it, as for "in 2 hours".
+     */
+    private static boolean isSameAllDay(DateGroup dateGroup) {
+        if (dateGroup.isTimeInferred()) {
+            return false;
+        }
+        for (String rule : dateGroup.getParseLocations().keySet()) {
+            if (rule.startsWith(RELATIVE_TIME_RULE_PREFIX)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    //@@author A0146809W
+
+    //@@author A0138909R
+    /**
+     * Parses a date/time in the "dd/MM/yyyy HH:mm" format that start times and deadlines are
+     * stored in, without using natty. The "dd/MM/yy HH:mm" format that earlier versions stored
+     * is also read, with its two-digit years taken as 2000 to 2099.
+     *
+     * @param input date/time as written by the application
+     * @return Optional type of LocalDateTime object, returns optional type of empty if input is not in that format
+     */
+    public static Optional<LocalDateTime> parseStoredDateTime(String input) {
+        try {
+            return Optional.of(LocalDateTime.parse(input, STORED_DATE_TIME_FORMATTER));
+        } catch (DateTimeParseException dtpe) {
+            // not in the stored format, try the format earlier versions stored
+        }
+        try {
+            return Optional.of(LocalDateTime.parse(input, DATE_TIME_FORMATTER));
+        } catch (DateTimeParseException dtpe) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Formats {@code dateTime} in the format that start times and deadlines are stored in,
+     * which {@link #parseStoredDateTime(String)} reads back to the same date/time.
+     */
+    public static String formatStoredDateTime(LocalDateTime dateTime) {
+        return dateTime.format(STORED_DATE_TIME_FORMATTER);
+    }
+    //@@author A0146809W
+
     /**
      * Switch the day and month location of the date String
      *
@@ -76,8 +198,7 @@ public class DateTimeParser {
      * @return      a String in MM/DD/YY.
      */
     private static String switchDayToMonth(String input) {
-        Pattern dayMonthSwitchPattern = Pattern.compile(DAY_MONTH_SWITCH_REGEX);
-        Matcher matcher = dayMonthSwitchPattern.matcher(input);
+        Matcher matcher = DAY_MONTH_SWITCH_PATTERN.matcher(input);
 
         matcher.matches(); //to ensure output for matcher.group()
 
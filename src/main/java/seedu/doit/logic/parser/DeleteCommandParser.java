@@ -3,11 +3,10 @@ package seedu.doit.logic.parser;
 
 import static seedu.doit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Set;
-
 import seedu.doit.logic.commands.Command;
 import seedu.doit.logic.commands.DeleteCommand;
 import seedu.doit.logic.commands.IncorrectCommand;
+import seedu.doit.logic.commands.IndexRanges;
 
 /**
  * Parses input arguments and creates a new DeleteCommand object
@@ -21,7 +20,7 @@ public class DeleteCommandParser implements CommandParser {
     @Override
     public Command parse(String args) {
 
-        Set<Integer> indexes = ParserUtil.parseIndexes(args.trim());
+        IndexRanges indexes = ParserUtil.parseIndexes(args.trim());
         if (indexes.isEmpty()) {
             return new IncorrectCommand(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
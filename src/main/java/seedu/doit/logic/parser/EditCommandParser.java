@@ -17,6 +17,7 @@ import seedu.doit.logic.commands.Command;
 import seedu.doit.logic.commands.EditCommand;
 import seedu.doit.logic.commands.EditCommand.EditTaskDescriptor;
 import seedu.doit.logic.commands.IncorrectCommand;
+import seedu.doit.logic.commands.IndexRanges;
 import seedu.doit.model.tag.UniqueTagList;
 
 //@@author A0146809W
@@ -38,8 +39,8 @@ public class EditCommandParser implements CommandParser {
         argsTokenizer.tokenize(args);
         List<Optional<String>> preambleFields = ParserUtil.splitPreamble(argsTokenizer.getPreamble().orElse(""), 2);
 
-        Optional<Integer> index = preambleFields.get(0).flatMap(ParserUtil::parseIndex);
-        if (!index.isPresent()) {
+        IndexRanges indexes = ParserUtil.parseIndexes(preambleFields.get(0).orElse(""));
+        if (indexes.isEmpty()) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE));
         }
 
@@ -57,7 +58,7 @@ public class EditCommandParser implements CommandParser {
                 return new IncorrectCommand(EditCommand.MESSAGE_NOT_EDITED);
             }
 
-            return new EditCommand(index.get(), editTaskDescriptor);
+            return new EditCommand(indexes, editTaskDescriptor);
 
         } catch (IllegalValueException ive) {
             return new IncorrectCommand(ive.getMessage());
@@ -0,0 +1,26 @@
+//@@author A0138909R
+package seedu.doit.logic.parser;
+
+import static seedu.doit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.doit.logic.commands.Command;
+import seedu.doit.logic.commands.ImportCommand;
+import seedu.doit.logic.commands.IncorrectCommand;
+
+public class ImportCommandParser implements CommandParser {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * ImportCommand and returns an ImportCommand object for execution.
+     */
+    @Override
+    public Command parse(String args) {
+        assert args != null;
+        String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(filePath);
+    }
+
+}
@@ -4,6 +4,9 @@ package seedu.doit.logic.parser;
 import static seedu.doit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.doit.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,6 +20,7 @@ import seedu.doit.logic.commands.EditCommand;
 import seedu.doit.logic.commands.ExitCommand;
 import seedu.doit.logic.commands.FindCommand;
 import seedu.doit.logic.commands.HelpCommand;
+import seedu.doit.logic.commands.ImportCommand;
 import seedu.doit.logic.commands.IncorrectCommand;
 import seedu.doit.logic.commands.ListCommand;
 import seedu.doit.logic.commands.LoadCommand;
@@ -41,6 +45,35 @@ public class Parser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * The parser for each default command word. Command parsers keep no state, so one of each is shared.
+     */
+    private static final Map<String, CommandParser> COMMAND_PARSERS = createCommandParsers();
+
+    private static Map<String, CommandParser> createCommandParsers() {
+        Map<String, CommandParser> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(SelectCommand.COMMAND_WORD, new SelectCommandParser());
+        parsers.put(DoneCommand.COMMAND_WORD, arguments -> new DoneCommand());
+        parsers.put(MarkCommand.COMMAND_WORD, new MarkCommandParser());
+        parsers.put(UnmarkCommand.COMMAND_WORD, new UnmarkCommandParser());
+        parsers.put(SortCommand.COMMAND_WORD, new SortCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(SaveCommand.COMMAND_WORD, new SaveCommandParser());
+        parsers.put(LoadCommand.COMMAND_WORD, new LoadCommandParser());
+        parsers.put(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        parsers.put(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        parsers.put(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        parsers.put(SetCommand.COMMAND_WORD, new SetCommandParser());
+        return Collections.unmodifiableMap(parsers);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -56,281 +89,13 @@ public class Parser {
 
         final String commandWord = matcher.group(COMMAND_WORD_MATCHER);
         final String arguments = matcher.group(ARGUMENTS_MATCHER);
-        final CommandSettings commandSettings = CommandSettings.getInstance();
+        final String defaultCommandWord = CommandSettings.getInstance().toDefaultCommandWord(commandWord);
+        final CommandParser commandParser = defaultCommandWord == null ? null : COMMAND_PARSERS.get(defaultCommandWord);
 
-        if (isAddCommandWord(commandWord, commandSettings)) {
-            return new AddCommandParser().parse(arguments);
-        } else if (isEditCommandWord(commandWord, commandSettings)) {
-            return new EditCommandParser().parse(arguments);
-        } else if (inSelectCommandWord(commandWord, commandSettings)) {
-            return new SelectCommandParser().parse(arguments);
-        } else if (isDoneCommandWord(commandWord, commandSettings)) {
-            return new DoneCommand();
-        } else if (isMarkCommandWord(commandWord, commandSettings)) {
-            return new MarkCommandParser().parse(arguments);
-        } else if (isUnmarkCommandWord(commandWord, commandSettings)) {
-            return new UnmarkCommandParser().parse(arguments);
-        } else if (isSortCommandWord(commandWord, commandSettings)) {
-            return new SortCommandParser().parse(arguments);
-        } else if (isDeleteCommandWord(commandWord, commandSettings)) {
-            return new DeleteCommandParser().parse(arguments);
-        } else if (isClearCommandWord(commandWord, commandSettings)) {
-            return new ClearCommand();
-        } else if (isFindCommandWord(commandWord, commandSettings)) {
-            return new FindCommandParser().parse(arguments);
-        } else if (isListCommandWord(commandWord, commandSettings)) {
-            return new ListCommand();
-        } else if (isExitCommandWord(commandWord, commandSettings)) {
-            return new ExitCommand();
-        } else if (isHelpCommandWord(commandWord, commandSettings)) {
-            return new HelpCommand();
-        } else if (isSaveCommandWord(commandWord, commandSettings)) {
-            return new SaveCommandParser().parse(arguments);
-        } else if (isLoadCommandWord(commandWord, commandSettings)) {
-            return new LoadCommandParser().parse(arguments);
-        } else if (isUndoCommandWord(commandWord, commandSettings)) {
-            return new UndoCommand();
-        } else if (isRedoCommandWord(commandWord, commandSettings)) {
-            return new RedoCommand();
-        } else if (isSetCommandWord(commandWord, commandSettings)) {
-            return new SetCommandParser().parse(arguments);
-        } else {
+        if (commandParser == null) {
             return new IncorrectCommand(MESSAGE_UNKNOWN_COMMAND);
         }
-    }
-
-    /**
-     * Checks if commandWord is a valid set command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is set command else false
-     */
-    public boolean isSetCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return SetCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getSet().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid redo command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is redo command else false
-     */
-    public boolean isRedoCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return RedoCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getRedo().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid undo command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is undo command else false
-     */
-    public boolean isUndoCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return UndoCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getUndo().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid load command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is load command else false
-     */
-    public boolean isLoadCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return LoadCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getLoad().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid save command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is save command else false
-     */
-    public boolean isSaveCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return SaveCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getSave().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid help command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is help command else false
-     */
-    public boolean isHelpCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return HelpCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getHelp().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid exit command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is exit command else false
-     */
-    public boolean isExitCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return ExitCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getExit().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid list command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is list command else false
-     */
-    public boolean isListCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return ListCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getList().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid find command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is find command else false
-     */
-    public boolean isFindCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return FindCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getFind().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid clear command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is clear command else false
-     */
-    public boolean isClearCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return ClearCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getClear().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid delete command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is delete command else false
-     */
-    public boolean isDeleteCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return DeleteCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getDelete().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid sort command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is sort command else false
-     */
-    public boolean isSortCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return SortCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getSort().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid unmark command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is unmark command else false
-     */
-    public boolean isUnmarkCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return UnmarkCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getUnmark().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid mark command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is mark command else false
-     */
-    public boolean isMarkCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return MarkCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getMark().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid done command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is done command else false
-     */
-    public boolean isDoneCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return DoneCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getDone().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid select command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is select command else false
-     */
-    public boolean inSelectCommandWord(final String commandWord, final CommandSettings commandSettings) {
-        return SelectCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getSelect().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid edit command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is edit command else false
-     */
-    public boolean isEditCommandWord(final String commandWord, CommandSettings commandSettings) {
-        return EditCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getEdit().equalsIgnoreCase(commandWord);
-    }
-
-    /**
-     * Checks if commandWord is a valid add command word in alias or default
-     * Command words are case-insensitive hence we use equalsIgnoreCase method
-     *
-     * @param commandWord
-     * @param commandSettings
-     * @return true if it is add command else false
-     */
-    public boolean isAddCommandWord(final String commandWord, CommandSettings commandSettings) {
-        return AddCommand.COMMAND_WORD.equalsIgnoreCase(commandWord)
-                || commandSettings.getAdd().equalsIgnoreCase(commandWord);
+        return commandParser.parse(arguments);
     }
 
 }
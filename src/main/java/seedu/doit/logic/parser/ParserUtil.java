@@ -10,10 +10,10 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import seedu.doit.commons.exceptions.IllegalValueException;
 import seedu.doit.commons.util.StringUtil;
+import seedu.doit.logic.commands.IndexRanges;
 import seedu.doit.model.item.Description;
 import seedu.doit.model.item.EndTime;
 import seedu.doit.model.item.Name;
@@ -28,6 +28,7 @@ import seedu.doit.model.tag.UniqueTagList;
 public class ParserUtil {
 
     private static final Pattern INDEX_ARGS_FORMAT = Pattern.compile("(?<targetIndex>.+)");
+    private static final IndexRanges EMPTY_INDEXES = new IndexRanges.Builder().build();
 
     /**
      * Returns the specified index in the {@code command} if it is a positive unsigned integer
@@ -48,40 +49,41 @@ public class ParserUtil {
     }
 
     /**
-     * Returns a set of specified indexes in the {@code command} if it is a set of positive unsigned integers
-     * Returns an {@code Optional.empty()} otherwise.
+     * Returns the specified indexes in the {@code command} if it is a set of positive unsigned integers
+     * and ranges of them such as {@code 1-50}, separated by spaces or commas.
+     * Returns empty ranges otherwise, including when an index is too large to be an {@code int}.
      */
-    public static Set<Integer> parseIndexes(String args) {
-
-        Pattern indexesPattern = Pattern.compile("((\\d+|\\d+-\\d+)?[ ]*)+");
-        Matcher matcher = indexesPattern.matcher(args.trim());
-
-        Set<Integer> emptySet = new HashSet<>();
-        Set<Integer> taskNumSet = new HashSet<>();
-
-        if (!matcher.matches()) {
-            return emptySet;
-        }
-
-        String[] taskNumStringArr = args.split(" ");
-        for (String taskNumString : taskNumStringArr) {
-            if (taskNumString.matches("\\d+")) {
-                taskNumSet.add(Integer.parseInt(taskNumString));
-            } else if (taskNumString.matches("\\d+-\\d+")) {
-                String[] startAndEndIndexes = taskNumString.split("-");
-                int startIndex = Integer.parseInt(startAndEndIndexes[0]);
-                int endIndex = Integer.parseInt(startAndEndIndexes[1]);
-                taskNumSet.addAll(IntStream.rangeClosed(startIndex, endIndex).boxed().collect(Collectors.toSet()));
+    public static IndexRanges parseIndexes(String args) {
+        IndexRanges.Builder ranges = new IndexRanges.Builder();
+        for (String token : args.trim().split("[ ,]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            int dash = token.indexOf('-');
+            String start = dash < 0 ? token : token.substring(0, dash);
+            String end = dash < 0 ? token : token.substring(dash + 1);
+            if (!isDigits(start) || !isDigits(end)) {
+                return EMPTY_INDEXES;
+            }
+            try {
+                int startIndex = Integer.parseInt(start);
+                int endIndex = Integer.parseInt(end);
+                if (startIndex == 0) {
+                    return EMPTY_INDEXES;
+                }
+                if (startIndex <= endIndex) {
+                    ranges.add(startIndex, endIndex);
+                }
+            } catch (NumberFormatException nfe) {
+                return EMPTY_INDEXES;
             }
         }
-
-        if (taskNumSet.remove(0)) {
-            return emptySet;
-        }
-        return taskNumSet;
+        return ranges.build();
     }
 
-
+    private static boolean isDigits(String s) {
+        return !s.isEmpty() && s.chars().allMatch(c -> c >= '0' && c <= '9');
+    }
 
     /**
      * Returns a new Set populated by all elements in the given list of strings
@@ -120,7 +122,7 @@ public class ParserUtil {
      */
     public static Optional<Priority> parsePriority(Optional<String> priority) throws IllegalValueException {
         assert priority != null;
-        return priority.isPresent() ? Optional.of(new Priority(priority.get())) : Optional.empty();
+        return priority.isPresent() ? Optional.of(Priority.of(priority.get())) : Optional.empty();
     }
 
     /**
@@ -157,7 +159,7 @@ public class ParserUtil {
         assert tags != null;
         final Set<Tag> tagSet = new HashSet<>();
         for (String tagName : tags) {
-            tagSet.add(new Tag(tagName));
+            tagSet.add(Tag.of(tagName));
         }
         return new UniqueTagList(tagSet);
     }
@@ -7,13 +7,14 @@ import seedu.doit.logic.commands.IncorrectCommand;
 import seedu.doit.logic.commands.SetCommand;
 
 //@@author A0138909R
-public class SetCommandParser {
+public class SetCommandParser implements CommandParser {
     private static final int MAX_STRING_WORDS = 2;
 
     /**
      * Parses the given {@code String} of arguments in the context of the
      * SetCommand and returns an SetCommand object for execution.
      */
+    @Override
     public Command parse(String args) {
         String[] split = args.trim().split("\\s+");
 
@@ -3,10 +3,9 @@ package seedu.doit.logic.parser;
 
 import static seedu.doit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Optional;
-
 import seedu.doit.logic.commands.Command;
 import seedu.doit.logic.commands.IncorrectCommand;
+import seedu.doit.logic.commands.IndexRanges;
 import seedu.doit.logic.commands.UnmarkCommand;
 
 
@@ -22,13 +21,13 @@ public class UnmarkCommandParser implements CommandParser {
     @Override
     public Command parse(String args) {
 
-        Optional<Integer> index = ParserUtil.parseIndex(args);
-        if (!index.isPresent()) {
+        IndexRanges indexes = ParserUtil.parseIndexes(args);
+        if (indexes.isEmpty()) {
             return new IncorrectCommand(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnmarkCommand.MESSAGE_USAGE));
         }
 
-        return new UnmarkCommand(index.get());
+        return new UnmarkCommand(indexes);
     }
 
 }
@@ -1,8 +1,10 @@
 //@@author A0139399J
 package seedu.doit.model;
 
+import java.util.Collection;
 import java.util.Set;
 
+import seedu.doit.commons.core.ListPositionIndex;
 import seedu.doit.commons.core.UnmodifiableObservableList;
 import seedu.doit.commons.exceptions.EmptyTaskManagerStackException;
 import seedu.doit.logic.commands.exceptions.CommandExistedException;
@@ -27,6 +29,13 @@ public interface Model {
      */
     ReadOnlyTaskManager getTaskManager();
 
+    // @@author A0138909R
+    /**
+     * Returns true if the task manager contains a task equivalent to {@code task}.
+     */
+    boolean hasTask(ReadOnlyTask task);
+    // @@author
+
     /**
      * Deletes the given task.
      */
@@ -37,6 +46,23 @@ public interface Model {
      */
     void addTask(Task task) throws DuplicateTaskException;
 
+    // @@author A0138909R
+    /**
+     * Adds all of the given tasks as a single change, which is undone in one step and saved once.
+     *
+     * @throws DuplicateTaskException if a task is already in the task manager or given twice,
+     *                                in which case none of the tasks are added.
+     */
+    void addTasks(Collection<Task> tasks) throws DuplicateTaskException;
+
+    /**
+     * Applies all the changes made by {@code transaction} as a single change: the task list notifies
+     * its listeners once, one step is added to the undo history and the task manager is saved once.
+     * If the transaction throws, the changes it made so far are reverted and nothing is recorded.
+     */
+    void transaction(MutableTaskManager.Transaction transaction) throws TaskNotFoundException, DuplicateTaskException;
+    // @@author A0139399J
+
     /**
      * Marks the given task as completed
      */
@@ -68,6 +94,18 @@ public interface Model {
      */
     UnmodifiableObservableList<ReadOnlyTask> getFilteredTaskList();
 
+    //@@author A0138909R
+    /**
+     * Returns an index of the positions of tasks in the filtered task list
+     */
+    ListPositionIndex<ReadOnlyTask> getFilteredTaskListIndex();
+
+    /**
+     * Returns the filtered task list split into tasks, events and floating tasks
+     */
+    TaskListPartition getFilteredTaskListPartition();
+    //@@author A0139399J
+
     /**
      * Updates the filter of the filtered task list to show all undone tasks
      */
@@ -1,6 +1,12 @@
 //@@author A0139399J
 package seedu.doit.model;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -8,6 +14,7 @@ import java.util.logging.Logger;
 import javafx.collections.transformation.FilteredList;
 import seedu.doit.commons.core.CommandSettings;
 import seedu.doit.commons.core.ComponentManager;
+import seedu.doit.commons.core.ListPositionIndex;
 import seedu.doit.commons.core.LogsCenter;
 import seedu.doit.commons.core.UnmodifiableObservableList;
 import seedu.doit.commons.events.model.TaskManagerChangedEvent;
@@ -28,6 +35,7 @@ import seedu.doit.model.predicates.AlwaysTruePredicate;
 import seedu.doit.model.predicates.DescriptionPredicate;
 import seedu.doit.model.predicates.DonePredicate;
 import seedu.doit.model.predicates.EndTimePredicate;
+import seedu.doit.model.predicates.IndexedPredicate;
 import seedu.doit.model.predicates.NamePredicate;
 import seedu.doit.model.predicates.PriorityPredicate;
 import seedu.doit.model.predicates.StartTimePredicate;
@@ -42,6 +50,8 @@ public class ModelManager extends ComponentManager implements Model {
 
     private TaskManager taskManager;
     private FilteredList<ReadOnlyTask> filteredTasks;
+    private ListPositionIndex<ReadOnlyTask> filteredTaskPositions;
+    private TaskListPartition filteredTaskPartition;
 
     private static final TaskManagerStack taskManagerStack = TaskManagerStack.getInstance();
 
@@ -66,6 +76,8 @@ public class ModelManager extends ComponentManager implements Model {
      */
     public void updateFilteredTasks() {
         this.filteredTasks = new FilteredList<ReadOnlyTask>(this.taskManager.getTaskList());
+        this.filteredTaskPositions = new ListPositionIndex<>(this.filteredTasks);
+        this.filteredTaskPartition = new TaskListPartition(this.filteredTasks);
     }
 
     // @@author A0139399J
@@ -75,30 +87,41 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyTaskManager newData) {
-        this.taskManager.resetData(newData);
-        indicateTaskManagerChanged();
+        this.resetDataWithoutSaving(newData);
+        indicateTaskManagerChanged(null);
     }
 
     @Override
     public void resetDataWithoutSaving(ReadOnlyTaskManager newData) {
         this.taskManager.resetData(newData);
+        // recorded changes no longer apply to the replaced data
+        taskManagerStack.clearRedoStack();
+        taskManagerStack.clearUndoStack();
     }
 
     @Override
     public void loadData(ReadOnlyTaskManager newData) {
         this.resetDataWithoutSaving(newData);
-        taskManagerStack.clearRedoStack();
-        taskManagerStack.clearUndoStack();
     }
 
     // @@author A0138909R
     @Override
     public void clearData() {
         logger.info("clears all tasks in model manager");
-        taskManagerStack.addToUndoStack(this.getTaskManager());
-        taskManagerStack.clearRedoStack();
+        TaskManagerChange change = TaskManagerChange.reset(new ArrayList<>(this.taskManager.getTaskList()),
+                new ArrayList<>(this.taskManager.getTagList()));
         this.taskManager.resetData(new TaskManager());
-        indicateTaskManagerChanged();
+        commitChange(change);
+        indicateTaskManagerChanged(change);
+    }
+
+    /**
+     * Records a change made to the task manager in the undo history.
+     * Any undone changes can no longer be redone after this.
+     */
+    private void commitChange(TaskManagerChange change) {
+        taskManagerStack.addToUndoStack(change);
+        taskManagerStack.clearRedoStack();
     }
 
     // @@author A0139399J
@@ -107,11 +130,19 @@ public class ModelManager extends ComponentManager implements Model {
         return this.taskManager;
     }
 
+    // @@author A0138909R
+    @Override
+    public boolean hasTask(ReadOnlyTask task) {
+        return this.taskManager.containsTask(task);
+    }
+    // @@author A0139399J
+
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed by {@code change}, or by an unknown change if it is null
      */
-    private void indicateTaskManagerChanged() {
-        raise(new TaskManagerChangedEvent(this.taskManager));
+    private void indicateTaskManagerChanged(TaskManagerChange change) {
+        // a snapshot is O(1) and can be saved in the background while the task manager keeps changing
+        raise(new TaskManagerChangedEvent(this.taskManager.snapshot(), change));
     }
 
     /**
@@ -123,11 +154,10 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public synchronized void deleteTasks(Set<ReadOnlyTask> targets) {
         logger.info("delete task(s) in model manager");
-        taskManagerStack.addToUndoStack(this.getTaskManager());
-        taskManagerStack.clearRedoStack();
-        this.taskManager.removeTask(targets);
+        TaskManagerChange change = TaskManagerChange.removal(this.taskManager.removeTask(targets));
+        commitChange(change);
         updateFilteredListToShowAll();
-        indicateTaskManagerChanged();
+        indicateTaskManagerChanged(change);
     }
 
     /**
@@ -139,48 +169,224 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public synchronized void addTask(Task task) throws DuplicateTaskException {
         logger.info("add task in model manager");
-        taskManagerStack.addToUndoStack(this.getTaskManager());
-        taskManagerStack.clearRedoStack();
-        this.taskManager.addTask(task);
+        TaskManagerChange change = TaskManagerChange.addition(this.taskManager.addTask(task));
+        commitChange(change);
+        updateFilteredListToShowAll();
+        indicateTaskManagerChanged(change);
+    }
+
+    // @@author A0138909R
+    @Override
+    public synchronized void addTasks(Collection<Task> tasks) throws DuplicateTaskException {
+        logger.info("add " + tasks.size() + " tasks in model manager");
+        TaskManagerChange change = TaskManagerChange.additions(this.taskManager.addTasks(tasks));
+        commitChange(change);
         updateFilteredListToShowAll();
-        indicateTaskManagerChanged();
+        indicateTaskManagerChanged(change);
     }
+    // @@author A0139399J
 
+    // @@author A0138909R
     @Override
     public synchronized void markTask(int filteredTaskListIndex, ReadOnlyTask taskToDone)
             throws UniqueTaskList.TaskNotFoundException, DuplicateTaskException {
         logger.info("marked a task in model manager as done");
-        taskManagerStack.addToUndoStack(this.getTaskManager());
-        taskManagerStack.clearRedoStack();
-        int taskManagerIndex = this.filteredTasks.getSourceIndex(filteredTaskListIndex);
-        this.taskManager.markTask(taskManagerIndex, taskToDone);
-        updateFilteredListToShowAll();
-        indicateTaskManagerChanged();
+        ReadOnlyTask target = this.filteredTasks.get(filteredTaskListIndex);
+        transaction(tasks -> tasks.markTask(target));
     }
 
     @Override
     public synchronized void unmarkTask(int filteredTaskListIndex, ReadOnlyTask taskToDone)
             throws UniqueTaskList.TaskNotFoundException, DuplicateTaskException {
-        logger.info("marked a task in model manager as done");
-        taskManagerStack.addToUndoStack(this.getTaskManager());
-        taskManagerStack.clearRedoStack();
-        int taskManagerIndex = this.filteredTasks.getSourceIndex(filteredTaskListIndex);
-        this.taskManager.unmarkTask(taskManagerIndex, taskToDone);
-        updateFilteredListToShowAll();
-        indicateTaskManagerChanged();
+        logger.info("marked a task in model manager as undone");
+        ReadOnlyTask target = this.filteredTasks.get(filteredTaskListIndex);
+        transaction(tasks -> tasks.unmarkTask(target));
     }
 
     @Override
-    public void updateTask(int filteredTaskListIndex, ReadOnlyTask editedTask) throws DuplicateTaskException {
+    public synchronized void updateTask(int filteredTaskListIndex, ReadOnlyTask editedTask)
+            throws DuplicateTaskException {
         assert editedTask != null;
         logger.info("update task in model manager");
-        taskManagerStack.addToUndoStack(this.getTaskManager());
-        taskManagerStack.clearRedoStack();
-        int taskManagerIndex = this.filteredTasks.getSourceIndex(filteredTaskListIndex);
-        this.taskManager.updateTask(taskManagerIndex, editedTask);
-        indicateTaskManagerChanged();
+        ReadOnlyTask target = this.filteredTasks.get(filteredTaskListIndex);
+        try {
+            transaction(tasks -> tasks.updateTask(target, editedTask));
+        } catch (TaskNotFoundException e) {
+            assert false : "A task in the filtered list is in the task manager";
+        }
     }
 
+    @Override
+    public synchronized void transaction(MutableTaskManager.Transaction transaction)
+            throws TaskNotFoundException, DuplicateTaskException {
+        TransactionRecorder recorder = new TransactionRecorder();
+        this.taskManager.beginBatch();
+        try {
+            transaction.apply(recorder);
+        } catch (Exception e) {
+            // only the tasks that were actually changed are reverted, so a rejected operation leaves the list as is
+            TaskManagerChange applied = recorder.toChange();
+            if (applied.getTaskCount() > 0) {
+                applied.undo(this.taskManager);
+            }
+            throw e;
+        } finally {
+            this.taskManager.endBatch();
+        }
+        TaskManagerChange change = recorder.toChange();
+        if (change.getTaskCount() == 0) {
+            // nothing was actually changed, e.g. marking a task that is already done
+            return;
+        }
+        commitChange(change);
+        updateFilteredListToShowAll();
+        indicateTaskManagerChanged(change);
+    }
+
+    /**
+     * Makes the changes of a transaction on the task manager, and records the image each task had
+     * before the transaction first changed it, so that the whole transaction becomes one change.
+     */
+    private class TransactionRecorder implements MutableTaskManager {
+        // each change replaces a stored task by a new object, so the tasks stored now are told apart by
+        // identity and map to the task they replaced before the transaction, or to null if they were added
+        private final Map<ReadOnlyTask, ReadOnlyTask> imagesBefore = new IdentityHashMap<>();
+        private final List<ReadOnlyTask> deletedImages = new ArrayList<>();
+
+        @Override
+        public void addTask(Task task) throws DuplicateTaskException {
+            this.imagesBefore.put(ModelManager.this.taskManager.addTask(task), null);
+        }
+
+        @Override
+        public void updateTask(ReadOnlyTask target, ReadOnlyTask editedTask)
+                throws TaskNotFoundException, DuplicateTaskException {
+            int index = indexOf(target);
+            ReadOnlyTask task = ModelManager.this.taskManager.getTaskList().get(index);
+            record(task, ModelManager.this.taskManager.updateTask(index, editedTask));
+        }
+
+        @Override
+        public void markTask(ReadOnlyTask target) throws TaskNotFoundException, DuplicateTaskException {
+            int index = indexOf(target);
+            ReadOnlyTask task = ModelManager.this.taskManager.getTaskList().get(index);
+            record(task, ModelManager.this.taskManager.markTask(index, task));
+        }
+
+        @Override
+        public void unmarkTask(ReadOnlyTask target) throws TaskNotFoundException, DuplicateTaskException {
+            int index = indexOf(target);
+            ReadOnlyTask task = ModelManager.this.taskManager.getTaskList().get(index);
+            record(task, ModelManager.this.taskManager.unmarkTask(index, task));
+        }
+
+        @Override
+        public void updateTasks(List<? extends ReadOnlyTask> targets, List<? extends ReadOnlyTask> editedTasks)
+                throws TaskNotFoundException, DuplicateTaskException {
+            List<ReadOnlyTask> tasks = new ArrayList<>(targets.size());
+            for (ReadOnlyTask target : targets) {
+                tasks.add(ModelManager.this.taskManager.getTaskList().get(indexOf(target)));
+            }
+            List<Task> updatedTasks = ModelManager.this.taskManager.updateTasks(tasks, editedTasks);
+            for (int i = 0; i < tasks.size(); i++) {
+                record(tasks.get(i), updatedTasks.get(i));
+            }
+        }
+
+        @Override
+        public void markTasks(List<? extends ReadOnlyTask> targets)
+                throws TaskNotFoundException, DuplicateTaskException {
+            updateTasks(targets, withIsDone(targets, true));
+        }
+
+        @Override
+        public void unmarkTasks(List<? extends ReadOnlyTask> targets)
+                throws TaskNotFoundException, DuplicateTaskException {
+            updateTasks(targets, withIsDone(targets, false));
+        }
+
+        @Override
+        public void deleteTasks(Set<ReadOnlyTask> targets) {
+            for (Task task : ModelManager.this.taskManager.removeTask(targets)) {
+                ReadOnlyTask image = imageBefore(task);
+                this.imagesBefore.remove(task);
+                if (image != null) {
+                    this.deletedImages.add(image);
+                }
+            }
+        }
+
+        /**
+         * Returns the position in the task list of the task in the task manager that is equivalent to
+         * {@code target}.
+         */
+        private int indexOf(ReadOnlyTask target) throws TaskNotFoundException {
+            int index = ModelManager.this.taskManager.indexOf(target);
+            if (index < 0) {
+                throw new TaskNotFoundException();
+            }
+            return index;
+        }
+
+        private List<ReadOnlyTask> withIsDone(List<? extends ReadOnlyTask> targets, boolean isDone) {
+            List<ReadOnlyTask> editedTasks = new ArrayList<>(targets.size());
+            for (ReadOnlyTask target : targets) {
+                Task editedTask = new Task(target);
+                editedTask.setIsDone(isDone);
+                editedTasks.add(editedTask);
+            }
+            return editedTasks;
+        }
+
+        /**
+         * Records that the stored {@code task} was replaced by {@code updatedTask}.
+         */
+        private void record(ReadOnlyTask task, ReadOnlyTask updatedTask) {
+            ReadOnlyTask image = imageBefore(task);
+            this.imagesBefore.remove(task);
+            this.imagesBefore.put(updatedTask, image);
+        }
+
+        /**
+         * Returns the task that the stored {@code task} replaced before the transaction, which is
+         * {@code task} itself if the transaction has not changed it, or null if the transaction added it.
+         */
+        private ReadOnlyTask imageBefore(ReadOnlyTask task) {
+            return this.imagesBefore.containsKey(task) ? this.imagesBefore.get(task) : task;
+        }
+
+        /**
+         * Returns the change from the images before the transaction to the tasks as they are now.
+         * Tasks that still have every detail of their image are left out.
+         */
+        TaskManagerChange toChange() {
+            List<ReadOnlyTask> before = new ArrayList<>(this.deletedImages);
+            List<ReadOnlyTask> after = new ArrayList<>();
+            for (Map.Entry<ReadOnlyTask, ReadOnlyTask> entry : this.imagesBefore.entrySet()) {
+                if (isUnchanged(entry.getKey(), entry.getValue())) {
+                    continue;
+                }
+                if (entry.getValue() != null) {
+                    before.add(entry.getValue());
+                }
+                after.add(entry.getKey());
+            }
+            return TaskManagerChange.replacement(before, after);
+        }
+
+        /**
+         * Returns true if {@code task} still has every detail of {@code image}, the image it had before the
+         * transaction changed it.
+         */
+        private boolean isUnchanged(ReadOnlyTask task, ReadOnlyTask image) {
+            return image != null && task.isSameStateAs(image)
+                    && Objects.equals(task.getStartTime(), image.getStartTime())
+                    && Objects.equals(task.getDeadline(), image.getDeadline())
+                    && task.getTagSet().equals(image.getTagSet());
+        }
+    }
+    // @@author A0139399J
+
     @Override
     public void sortBy(String sortType) {
         switch (sortType) {
@@ -204,14 +410,12 @@ public class ModelManager extends ComponentManager implements Model {
     // @@author A0138909R
     @Override
     public void undo() throws EmptyTaskManagerStackException {
-        this.taskManager.resetData(taskManagerStack.loadOlderTaskManager(this.getTaskManager()));
-        indicateTaskManagerChanged();
+        indicateTaskManagerChanged(taskManagerStack.undo(this.taskManager).inverse());
     }
 
     @Override
     public void redo() throws EmptyTaskManagerStackException {
-        this.taskManager.resetData(taskManagerStack.loadNewerTaskManager(this.getTaskManager()));
-        indicateTaskManagerChanged();
+        indicateTaskManagerChanged(taskManagerStack.redo(this.taskManager));
     }
 
     @Override
@@ -230,18 +434,31 @@ public class ModelManager extends ComponentManager implements Model {
         return new UnmodifiableObservableList<>(this.filteredTasks);
     }
 
+    // @@author A0138909R
+    @Override
+    public ListPositionIndex<ReadOnlyTask> getFilteredTaskListIndex() {
+        return this.filteredTaskPositions;
+    }
+
+    @Override
+    public TaskListPartition getFilteredTaskListPartition() {
+        return this.filteredTaskPartition;
+    }
+    // @@author A0139399J
+
     @Override
     public void updateFilteredListToShowAll() {
-        this.filteredTasks.setPredicate(null);
+        // @@author A0138909R
+        // only what is shown changes, so there is nothing to save; a new predicate refilters the list once
         this.filteredTasks.setPredicate(new DonePredicate(false));
-        indicateTaskManagerChanged();
+        // @@author A0139399J
     }
 
     @Override
     public void updateFilteredListToShowDone() {
-        this.filteredTasks.setPredicate(null);
+        // @@author A0138909R
         this.filteredTasks.setPredicate(new DonePredicate(true));
-        indicateTaskManagerChanged();
+        // @@author A0139399J
     }
 
     @Override
@@ -275,6 +492,26 @@ public class ModelManager extends ComponentManager implements Model {
             combined = combined.and(endTimePredicate);
         }
 
+        // @@author A0138909R
+        if (!isAllEmpty(nameKeywords, priorityKeywords, descriptionKeywords, tagKeywords, startTimekeywords,
+                endTimekeywords)) {
+            // the indexes find the matching tasks, so refiltering tests each task by a set lookup instead of
+            // matching its words against the keywords; the filtered list still visits all of the tasks
+            TaskIndex index = this.taskManager.getTaskIndex();
+            Set<ReadOnlyTask> matches = index.find(nameKeywords, priorityKeywords, descriptionKeywords, tagKeywords,
+                    startTimekeywords, endTimekeywords);
+            combined = new IndexedPredicate(matches, combined, index);
+        }
         this.filteredTasks.setPredicate(combined);
     }
+
+    @SafeVarargs
+    private static boolean isAllEmpty(Set<String>... keywordSets) {
+        for (Set<String> keywords : keywordSets) {
+            if (!keywords.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
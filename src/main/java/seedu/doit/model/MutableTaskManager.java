@@ -0,0 +1,68 @@
+package seedu.doit.model;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.item.UniqueTaskList.DuplicateTaskException;
+import seedu.doit.model.item.UniqueTaskList.TaskNotFoundException;
+
+//@@author A0138909R
+/**
+ * The changes that can be made to the task manager within a {@link Model#transaction(Transaction)}.
+ * Tasks are given as they appear in the task list, such as from the filtered task list.
+ */
+public interface MutableTaskManager {
+
+    /**
+     * Adds the given task.
+     */
+    void addTask(Task task) throws DuplicateTaskException;
+
+    /**
+     * Replaces the details of {@code target} with those of {@code editedTask}.
+     */
+    void updateTask(ReadOnlyTask target, ReadOnlyTask editedTask)
+            throws TaskNotFoundException, DuplicateTaskException;
+
+    /**
+     * Marks the given task as completed.
+     */
+    void markTask(ReadOnlyTask target) throws TaskNotFoundException, DuplicateTaskException;
+
+    /**
+     * Marks the given task as uncompleted.
+     */
+    void unmarkTask(ReadOnlyTask target) throws TaskNotFoundException, DuplicateTaskException;
+
+    /**
+     * Replaces the details of each task in {@code targets} with those of the task at the same position
+     * in {@code editedTasks}, as a single update of the task list.
+     */
+    void updateTasks(List<? extends ReadOnlyTask> targets, List<? extends ReadOnlyTask> editedTasks)
+            throws TaskNotFoundException, DuplicateTaskException;
+
+    /**
+     * Marks the given tasks as completed, as a single update of the task list.
+     */
+    void markTasks(List<? extends ReadOnlyTask> targets) throws TaskNotFoundException, DuplicateTaskException;
+
+    /**
+     * Marks the given tasks as uncompleted, as a single update of the task list.
+     */
+    void unmarkTasks(List<? extends ReadOnlyTask> targets) throws TaskNotFoundException, DuplicateTaskException;
+
+    /**
+     * Deletes the given tasks.
+     */
+    void deleteTasks(Set<ReadOnlyTask> targets);
+
+    /**
+     * A group of changes that is applied to the task manager as a whole, or not at all.
+     */
+    @FunctionalInterface
+    interface Transaction {
+        void apply(MutableTaskManager taskManager) throws TaskNotFoundException, DuplicateTaskException;
+    }
+}
@@ -0,0 +1,330 @@
+package seedu.doit.model;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.doit.commons.util.StringUtil;
+import seedu.doit.logic.parser.DateTimeParser;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.StartTime;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.item.WordSet;
+import seedu.doit.model.tag.Tag;
+
+//@@author A0138909R
+/**
+ * Secondary indexes over the tasks of a {@link TaskManager}, used to answer find queries
+ * without matching the words of every task against the keywords.
+ * <p>
+ * The words of names and descriptions, tags, priorities and the start and end times each map to
+ * the set of tasks that have them. A query looks up one posting set per keyword, or the union of
+ * the posting sets for fields where any keyword may match, and intersects them smallest first.
+ * The task manager updates the indexes on every change, and bumps {@link #getModificationCount()}
+ * so that results of earlier queries can tell that they are out of date.
+ * <p>
+ * Posting sets compare tasks by identity, which is cheaper than comparing their details, as each task
+ * in the task manager is a distinct object that is replaced rather than changed.
+ */
+public class TaskIndex {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final Map<String, Set<Task>> nameWords = new HashMap<>();
+    private final Map<String, Set<Task>> descriptionWords = new HashMap<>();
+    private final Map<String, Set<Task>> tagNames = new HashMap<>();
+    private final Map<String, Set<Task>> priorities = new HashMap<>();
+    private final DateIndex startTimes = new DateIndex();
+    private final DateIndex endTimes = new DateIndex();
+    private int modificationCount;
+
+    /**
+     * Returns the number of changes made to the indexes so far.
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Returns the tasks that match all of the given keyword sets, with the same meaning as the
+     * predicates in {@code seedu.doit.model.predicates}: every name, description and tag keyword
+     * must match, while any one priority, start time or end time keyword is enough.
+     * Empty keyword sets are ignored, so at least one set should have keywords.
+     */
+    public Set<ReadOnlyTask> find(Set<String> nameKeywords, Set<String> priorityKeywords,
+            Set<String> descriptionKeywords, Set<String> tagKeywords, Set<String> startTimeKeywords,
+            Set<String> endTimeKeywords) {
+        List<Set<Task>> postings = new ArrayList<>();
+        nameKeywords.forEach(keyword -> postings.add(getWordPostings(this.nameWords, keyword)));
+        descriptionKeywords.forEach(keyword -> postings.add(getWordPostings(this.descriptionWords, keyword)));
+        tagKeywords.forEach(keyword -> postings.add(getPostings(this.tagNames, keyword.trim())));
+        if (!priorityKeywords.isEmpty()) {
+            postings.add(union(priorityKeywords, keyword -> getWordPostings(this.priorities, keyword)));
+        }
+        if (!startTimeKeywords.isEmpty()) {
+            postings.add(union(startTimeKeywords, this.startTimes::find));
+        }
+        if (!endTimeKeywords.isEmpty()) {
+            postings.add(union(endTimeKeywords, this.endTimes::find));
+        }
+        return intersect(postings);
+    }
+
+    /**
+     * Adds {@code task} to the indexes under its current details.
+     */
+    void add(Task task) {
+        this.modificationCount++;
+        addWordPostings(this.nameWords, task.getName().getWords(), task);
+        addWordPostings(this.descriptionWords, task.getDescription().getWords(), task);
+        for (Tag tag : task.getTagSet()) {
+            addPosting(this.tagNames, tag.tagName, task);
+        }
+        addPosting(this.priorities, StringUtil.foldCase(task.getPriority().value), task);
+        if (task.hasStartTime()) {
+            this.startTimes.add(task.getStartTime().getEpochMinutes(), task);
+        }
+        if (task.hasEndTime()) {
+            this.endTimes.add(task.getDeadline().getEpochMinutes(), task);
+        }
+    }
+
+    /**
+     * Removes {@code task} from the indexes.
+     */
+    void remove(Task task) {
+        this.modificationCount++;
+        removeWordPostings(this.nameWords, task.getName().getWords(), task);
+        removeWordPostings(this.descriptionWords, task.getDescription().getWords(), task);
+        for (Tag tag : task.getTagSet()) {
+            removePosting(this.tagNames, tag.tagName, task);
+        }
+        removePosting(this.priorities, StringUtil.foldCase(task.getPriority().value), task);
+        if (task.hasStartTime()) {
+            this.startTimes.remove(task.getStartTime().getEpochMinutes(), task);
+        }
+        if (task.hasEndTime()) {
+            this.endTimes.remove(task.getDeadline().getEpochMinutes(), task);
+        }
+    }
+
+    /**
+     * Indexes {@code updatedTask} in place of {@code task}, which it replaced in the task manager.
+     */
+    void replace(Task task, Task updatedTask) {
+        remove(task);
+        add(updatedTask);
+    }
+
+    /**
+     * Rebuilds the indexes from {@code tasks}.
+     */
+    void reset(Iterable<Task> tasks) {
+        this.nameWords.clear();
+        this.descriptionWords.clear();
+        this.tagNames.clear();
+        this.priorities.clear();
+        this.startTimes.clear();
+        this.endTimes.clear();
+        for (Task task : tasks) {
+            add(task);
+        }
+        this.modificationCount++;
+    }
+
+    private static <K> void addPosting(Map<K, Set<Task>> index, K key, Task task) {
+        index.computeIfAbsent(key, unused -> newPostingSet()).add(task);
+    }
+
+    private static <K> void removePosting(Map<K, Set<Task>> index, K key, Task task) {
+        Set<Task> postings = index.get(key);
+        if (postings != null && postings.remove(task) && postings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static void addWordPostings(Map<String, Set<Task>> index, WordSet words, Task task) {
+        for (int i = 0; i < words.size(); i++) {
+            addPosting(index, words.get(i), task);
+        }
+    }
+
+    private static void removeWordPostings(Map<String, Set<Task>> index, WordSet words, Task task) {
+        for (int i = 0; i < words.size(); i++) {
+            removePosting(index, words.get(i), task);
+        }
+    }
+
+    private static <K> Set<Task> getPostings(Map<K, Set<Task>> index, K key) {
+        return index.getOrDefault(key, Collections.emptySet());
+    }
+
+    private static Set<Task> getWordPostings(Map<String, Set<Task>> index, String keyword) {
+        return getPostings(index, StringUtil.foldCase(keyword.trim()));
+    }
+
+    private static Set<Task> newPostingSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the union of the posting sets that {@code lookup} gives for each keyword.
+     */
+    private static Set<Task> union(Set<String> keywords, PostingLookup lookup) {
+        if (keywords.size() == 1) {
+            return lookup.find(keywords.iterator().next());
+        }
+        Set<Task> union = newPostingSet();
+        keywords.forEach(keyword -> union.addAll(lookup.find(keyword)));
+        return union;
+    }
+
+    /**
+     * Returns the tasks in all of {@code postings}, walking the smallest set and probing the others.
+     */
+    private static Set<ReadOnlyTask> intersect(List<Set<Task>> postings) {
+        Set<ReadOnlyTask> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (postings.isEmpty()) {
+            return result;
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        List<Set<Task>> others = postings.subList(1, postings.size());
+        for (Task task : postings.get(0)) {
+            if (isInAll(others, task)) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isInAll(Collection<Set<Task>> postings, Task task) {
+        for (Set<Task> posting : postings) {
+            if (!posting.contains(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks up the posting set for a single keyword.
+     */
+    private interface PostingLookup {
+        Set<Task> find(String keyword);
+    }
+
+    /**
+     * Indexes tasks by a date and time, sorted by minutes since the epoch and also grouped by time of day.
+     * A date keyword such as {@code 21/03/17} is answered with a range over the sorted minutes,
+     * and a time keyword such as {@code 13:00} with a lookup by time of day.
+     */
+    private static class DateIndex {
+        private final NavigableMap<Long, Set<Task>> byMinute = new TreeMap<>();
+        private final Map<Integer, Set<Task>> byTimeOfDay = new HashMap<>();
+
+        void add(long epochMinutes, Task task) {
+            assert epochMinutes != StartTime.NO_EPOCH_MINUTES;
+            addPosting(this.byMinute, epochMinutes, task);
+            addPosting(this.byTimeOfDay, toTimeOfDay(epochMinutes), task);
+        }
+
+        void remove(long epochMinutes, Task task) {
+            removePosting(this.byMinute, epochMinutes, task);
+            removePosting(this.byTimeOfDay, toTimeOfDay(epochMinutes), task);
+        }
+
+        void clear() {
+            this.byMinute.clear();
+            this.byTimeOfDay.clear();
+        }
+
+        /**
+         * Returns the tasks whose date or time of day is written as {@code keyword}.
+         */
+        Set<Task> find(String keyword) {
+            String word = keyword.trim();
+            LocalDate date = parseDate(word);
+            if (date != null) {
+                Set<Task> tasks = newPostingSet();
+                if (this.byMinute.isEmpty()) {
+                    return tasks;
+                }
+                // a two-digit year is written the same in every century, so each century holding tasks is looked up
+                int firstCentury = Math.floorDiv(toDate(this.byMinute.firstKey()).getYear(), 100);
+                int lastCentury = Math.floorDiv(toDate(this.byMinute.lastKey()).getYear(), 100);
+                for (int century = firstCentury; century <= lastCentury; century++) {
+                    LocalDate day = inCentury(date, century);
+                    if (day != null) {
+                        long dayStart = day.atStartOfDay().toEpochSecond(ZoneOffset.UTC) / 60;
+                        this.byMinute.subMap(dayStart, dayStart + MINUTES_PER_DAY).values().forEach(tasks::addAll);
+                    }
+                }
+                return tasks;
+            }
+            LocalTime time = parseTime(word);
+            if (time != null) {
+                return getPostings(this.byTimeOfDay, time.getHour() * 60 + time.getMinute());
+            }
+            return Collections.emptySet();
+        }
+
+        private static LocalDate toDate(long epochMinutes) {
+            return LocalDate.ofEpochDay(Math.floorDiv(epochMinutes, MINUTES_PER_DAY));
+        }
+
+        /**
+         * Returns {@code date} moved to the same two-digit year in {@code century}, or null if there is
+         * no such day, as for 29/02 in a year that is not a leap year.
+         */
+        private static LocalDate inCentury(LocalDate date, int century) {
+            try {
+                return LocalDate.of(century * 100 + Math.floorMod(date.getYear(), 100), date.getMonth(),
+                        date.getDayOfMonth());
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        private static int toTimeOfDay(long epochMinutes) {
+            return (int) Math.floorMod(epochMinutes, MINUTES_PER_DAY);
+        }
+
+        /**
+         * Returns the date written as {@code word}, or null if a date is not written exactly that way,
+         * as a keyword only matches a word that is written the same.
+         */
+        private static LocalDate parseDate(String word) {
+            try {
+                LocalDate date = LocalDate.parse(word, DateTimeParser.DATE_FORMATTER);
+                return date.format(DateTimeParser.DATE_FORMATTER).equals(word) ? date : null;
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Returns the time of day written as {@code word}, or null if a time is not written exactly that way.
+         */
+        private static LocalTime parseTime(String word) {
+            try {
+                LocalTime time = LocalTime.parse(word, DateTimeParser.TIME_FORMATTER);
+                return time.format(DateTimeParser.TIME_FORMATTER).equals(word) ? time : null;
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package seedu.doit.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.doit.commons.core.ListPositionIndex;
+import seedu.doit.model.item.ReadOnlyTask;
+
+//@@author A0138909R
+/**
+ * Splits an observable list of tasks into the tasks, events and floating tasks it holds, in the
+ * order of the list.
+ * <p>
+ * Only the tasks a change to the list adds, removes or updates are routed, each to exactly one part,
+ * so adding, removing or editing one task fires one small change in the one or two parts it affects.
+ * A new task is placed after the nearest task before it in the list that is in the same part.
+ * Sorting the list, which moves every task, repartitions the whole list instead.
+ * The position of a task in its part is found without scanning the part.
+ */
+public class TaskListPartition {
+
+    /**
+     * The parts a task can be shown in.
+     */
+    public enum Part {
+        TASK, EVENT, FLOATING_TASK;
+
+        /**
+         * Returns the part that {@code task} belongs in.
+         */
+        public static Part of(ReadOnlyTask task) {
+            if (task.isTask()) {
+                return TASK;
+            } else if (task.isEvent()) {
+                return EVENT;
+            }
+            return FLOATING_TASK;
+        }
+    }
+
+    private final ObservableList<? extends ReadOnlyTask> source;
+    private final Map<Part, PartList> parts = new EnumMap<>(Part.class);
+    private final Map<Part, ListPositionIndex<ReadOnlyTask>> positions = new EnumMap<>(Part.class);
+    // the part each task of the source list is in, told apart by identity as equal tasks may differ in details
+    private final Map<ReadOnlyTask, Part> partOfTask = new IdentityHashMap<>();
+
+    public TaskListPartition(ObservableList<? extends ReadOnlyTask> source) {
+        assert source != null;
+        this.source = source;
+        for (Part part : Part.values()) {
+            PartList partList = new PartList();
+            this.parts.put(part, partList);
+            this.positions.put(part, new ListPositionIndex<>(partList));
+        }
+        repartition();
+        this.source.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the tasks of the source list that are in {@code part}, as an unmodifiable list.
+     */
+    public ObservableList<ReadOnlyTask> getPart(Part part) {
+        return this.parts.get(part);
+    }
+
+    /**
+     * Returns the part {@code task} is in, or null if it is not in the source list.
+     */
+    public Part getPartOf(ReadOnlyTask task) {
+        return this.partOfTask.get(task);
+    }
+
+    /**
+     * Returns the position of {@code task} in its part, or -1 if it is not in the source list.
+     */
+    public int indexInPart(ReadOnlyTask task) {
+        Part part = getPartOf(task);
+        return part == null ? -1 : this.positions.get(part).indexOf(task);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends ReadOnlyTask> change) {
+        // tasks that were updated stay in their part, unless their details moved them to another part
+        List<ReadOnlyTask> removed = new ArrayList<>();
+        List<ReadOnlyTask> updated = new ArrayList<>();
+        List<Integer> insertedAt = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                repartition();
+                return;
+            }
+            removed.addAll(change.getRemoved());
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                if (change.wasUpdated()) {
+                    ReadOnlyTask task = this.source.get(i);
+                    if (this.partOfTask.get(task) == Part.of(task)) {
+                        updated.add(task);
+                    } else {
+                        removed.add(task);
+                        insertedAt.add(i);
+                    }
+                } else if (change.wasAdded()) {
+                    insertedAt.add(i);
+                }
+            }
+        }
+        route(removed, updated, insertedAt);
+    }
+
+    /**
+     * Takes {@code removed} out of their parts, and puts the tasks at the source positions {@code insertedAt}
+     * into theirs, firing at most one change in each part.
+     */
+    private void route(List<ReadOnlyTask> removed, List<ReadOnlyTask> updated, List<Integer> insertedAt) {
+        Map<Part, PartChange> changes = new EnumMap<>(Part.class);
+        for (Part part : Part.values()) {
+            changes.put(part, new PartChange());
+        }
+        // positions in the parts are looked up before any part is changed
+        for (ReadOnlyTask task : updated) {
+            Part part = this.partOfTask.get(task);
+            changes.get(part).updatedIndexes.add(this.positions.get(part).indexOf(task));
+        }
+        for (ReadOnlyTask task : removed) {
+            Part part = this.partOfTask.remove(task);
+            if (part != null) {
+                changes.get(part).removedIndexes.add(this.positions.get(part).indexOf(task));
+            }
+        }
+        Collections.sort(insertedAt);
+        for (int sourceIndex : insertedAt) {
+            ReadOnlyTask task = this.source.get(sourceIndex);
+            Part part = Part.of(task);
+            changes.get(part).insertions.add(task);
+            changes.get(part).anchorIndexes.add(findAnchorIndex(part, sourceIndex));
+        }
+        for (int sourceIndex : insertedAt) {
+            ReadOnlyTask task = this.source.get(sourceIndex);
+            this.partOfTask.put(task, Part.of(task));
+        }
+        for (Part part : Part.values()) {
+            this.parts.get(part).apply(changes.get(part));
+        }
+    }
+
+    /**
+     * Returns the position in {@code part}, before the current change, of the nearest task before
+     * {@code sourceIndex} in the source list that stays in {@code part}, or -1 if there is none.
+     * Tasks still to be routed are not in {@link #partOfTask}, so they are skipped.
+     */
+    private int findAnchorIndex(Part part, int sourceIndex) {
+        for (int i = sourceIndex - 1; i >= 0; i--) {
+            ReadOnlyTask task = this.source.get(i);
+            if (this.partOfTask.get(task) == part) {
+                return this.positions.get(part).indexOf(task);
+            }
+        }
+        return -1;
+    }
+
+    private void repartition() {
+        Map<Part, List<ReadOnlyTask>> contents = new EnumMap<>(Part.class);
+        for (Part part : Part.values()) {
+            contents.put(part, new ArrayList<>());
+        }
+        this.partOfTask.clear();
+        for (ReadOnlyTask task : this.source) {
+            Part part = Part.of(task);
+            this.partOfTask.put(task, part);
+            contents.get(part).add(task);
+        }
+        for (Part part : Part.values()) {
+            this.parts.get(part).setTasks(contents.get(part));
+        }
+    }
+
+    /**
+     * The tasks of one part, which can only be changed by the partition.
+     */
+    private static class PartList extends ObservableListBase<ReadOnlyTask> {
+        private List<ReadOnlyTask> tasks = new ArrayList<>();
+
+        @Override
+        public ReadOnlyTask get(int index) {
+            return this.tasks.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.tasks.size();
+        }
+
+        /**
+         * Replaces the tasks of this part with {@code newTasks}, firing a single change for the
+         * range between the longest unchanged prefix and suffix.
+         */
+        void setTasks(List<ReadOnlyTask> newTasks) {
+            int oldSize = this.tasks.size();
+            int newSize = newTasks.size();
+            int shorter = Math.min(oldSize, newSize);
+            int prefix = 0;
+            while (prefix < shorter && this.tasks.get(prefix) == newTasks.get(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < shorter - prefix
+                    && this.tasks.get(oldSize - 1 - suffix) == newTasks.get(newSize - 1 - suffix)) {
+                suffix++;
+            }
+            int oldTo = oldSize - suffix;
+            int newTo = newSize - suffix;
+            if (prefix == oldTo && prefix == newTo) {
+                return;
+            }
+
+            List<ReadOnlyTask> removed = new ArrayList<>(this.tasks.subList(prefix, oldTo));
+            this.tasks = newTasks;
+            beginChange();
+            if (removed.isEmpty()) {
+                nextAdd(prefix, newTo);
+            } else if (prefix == newTo) {
+                nextRemove(prefix, removed);
+            } else {
+                nextReplace(prefix, newTo, removed);
+            }
+            endChange();
+        }
+
+        /**
+         * Applies {@code change} to this part in place, firing a single change if anything changed.
+         */
+        void apply(PartChange change) {
+            if (change.isEmpty()) {
+                return;
+            }
+            beginChange();
+            for (int index : change.updatedIndexes) {
+                nextUpdate(index);
+            }
+            List<Integer> removedIndexes = change.removedIndexes;
+            Collections.sort(removedIndexes);
+            for (int i = removedIndexes.size() - 1; i >= 0; i--) {
+                int index = removedIndexes.get(i);
+                nextRemove(index, this.tasks.remove(index));
+            }
+            // each task goes after its anchor, less the tasks removed before it, and after the earlier insertions
+            int removedBefore = 0;
+            for (int i = 0; i < change.insertions.size(); i++) {
+                int anchor = change.anchorIndexes.get(i);
+                while (removedBefore < removedIndexes.size() && removedIndexes.get(removedBefore) < anchor) {
+                    removedBefore++;
+                }
+                int index = anchor - removedBefore + 1 + i;
+                this.tasks.add(index, change.insertions.get(i));
+                nextAdd(index, index + 1);
+            }
+            endChange();
+        }
+    }
+
+    /**
+     * The changes to make to one part, with positions in the part as it was before the change.
+     */
+    private static class PartChange {
+        private final List<Integer> updatedIndexes = new ArrayList<>();
+        private final List<Integer> removedIndexes = new ArrayList<>();
+        // tasks to insert in source order, each after the task at the anchor position, or first if it is -1
+        private final List<ReadOnlyTask> insertions = new ArrayList<>();
+        private final List<Integer> anchorIndexes = new ArrayList<>();
+
+        boolean isEmpty() {
+            return this.updatedIndexes.isEmpty() && this.removedIndexes.isEmpty() && this.insertions.isEmpty();
+        }
+    }
+}
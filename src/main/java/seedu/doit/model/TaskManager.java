@@ -1,10 +1,10 @@
 // @@author A0139399J
 package seedu.doit.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,16 +18,26 @@ import seedu.doit.model.item.UniqueTaskList;
 import seedu.doit.model.item.UniqueTaskList.DuplicateTaskException;
 import seedu.doit.model.item.UniqueTaskList.TaskNotFoundException;
 import seedu.doit.model.tag.Tag;
+import seedu.doit.model.tag.TagSet;
 import seedu.doit.model.tag.UniqueTagList;
 
 /**
  * Wraps all data at the task manager level
  * Duplicates are not allowed (by .equals comparison)
+ * <p>
+ * Tasks in the task manager are never changed: an update replaces a task with a new one, and a task
+ * is given the master Tag objects before it is added. The lists are persistent underneath, so
+ * {@link #snapshot()} shares them without copying.
  */
 public class TaskManager implements ReadOnlyTaskManager {
 
     private final UniqueTaskList taskList;
     private final UniqueTagList tagList;
+    // @@author A0138909R
+    // every tag in the master list, mapped to the master Tag object and the number of tasks tagged with it
+    private final Map<Tag, TagUsage> tagUsages;
+    private final TaskIndex taskIndex = new TaskIndex();
+    // @@author A0139399J
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -38,6 +48,7 @@ public class TaskManager implements ReadOnlyTaskManager {
      */ {
         taskList = new UniqueTaskList();
         tagList = new UniqueTagList();
+        tagUsages = new HashMap<>();
     }
 
     public TaskManager() {
@@ -55,26 +66,44 @@ public class TaskManager implements ReadOnlyTaskManager {
 
     public void setTasks(List<? extends ReadOnlyTask> tasks)
         throws UniqueTaskList.DuplicateTaskException {
-        this.taskList.setTasks(tasks);
+        taskList.beginBatch();
+        try {
+            this.taskList.setTasks(withMasterTags(tasks, false));
+            recountTagUsages();
+            taskIndex.reset(taskList);
+        } finally {
+            taskList.endBatch();
+        }
     }
 
     public void setTags(Collection<Tag> tags) throws UniqueTagList.DuplicateTagException {
         this.tagList.setTags(tags);
+        recountTagUsages();
     }
 
     public void resetData(ReadOnlyTaskManager newData) {
         assert newData != null;
+        // filtered views re-test the tasks when the list changes, so the indexes must be updated first
+        taskList.beginBatch();
         try {
-            setTasks(newData.getTaskList());
-        } catch (UniqueTaskList.DuplicateTaskException e) {
-            assert false : "Task Manager should not have duplicate taskList";
-        }
-        try {
-            setTags(newData.getTagList());
-        } catch (UniqueTagList.DuplicateTagException e) {
-            assert false : "Task Manager should not have duplicate tagList";
+            try {
+                this.tagList.setTags(newData.getTagList());
+            } catch (UniqueTagList.DuplicateTagException e) {
+                assert false : "Task Manager should not have duplicate tagList";
+            }
+            resetTagUsages();
+            try {
+                // the tasks of another task manager or of a snapshot never change, so they are shared instead of copied
+                boolean isShared = newData instanceof TaskManager || newData instanceof TaskManagerSnapshot;
+                this.taskList.setTasks(withMasterTags(newData.getTaskList(), isShared));
+            } catch (UniqueTaskList.DuplicateTaskException e) {
+                assert false : "Task Manager should not have duplicate taskList";
+            }
+            recountTagUsages();
+            taskIndex.reset(taskList);
+        } finally {
+            taskList.endBatch();
         }
-        syncMasterTagListWith(taskList);
     }
 
     public void setTaskComparator(Comparator<ReadOnlyTask> taskComparator) {
@@ -85,111 +114,395 @@ public class TaskManager implements ReadOnlyTaskManager {
 
     /**
      * Adds a task to the task manager.
-     * Also checks the new task's tagList and updates {@link #tagList} with any new tagList found,
-     * and updates the Tag objects in the task to point to those in {@link #tagList}.
+     * Also checks the new task's tagList and updates {@link #tagList} with any new tagList found.
+     * If the Tag objects in the task are not those in {@link #tagList}, a copy of the task pointing
+     * to them is added instead. The task added must not be changed afterwards.
      *
+     * @return the task now in the task manager
      * @throws UniqueTaskList.DuplicateTaskException if an equivalent task already exists.
      */
-    public void addTask(Task p) throws UniqueTaskList.DuplicateTaskException {
-        syncMasterTagListWith(p);
-        taskList.add(p);
+    public Task addTask(Task p) throws UniqueTaskList.DuplicateTaskException {
+        Task task = withMasterTags(p, new HashMap<>());
+        taskList.beginBatch();
+        try {
+            taskList.add(task);
+            acquireTags(task);
+            taskIndex.add(task);
+        } finally {
+            taskList.endBatch();
+        }
+        return task;
+    }
+
+    // @@author A0138909R
+    /**
+     * Adds all of {@code tasks} to the task manager, or none of them if any is a duplicate.
+     * The tasks are merged into the task list in a single change, and new tags are added to
+     * {@link #tagList} once for the whole batch.
+     *
+     * @throws UniqueTaskList.DuplicateTaskException if an equivalent task already exists, or two tasks to
+     *                                               add are equivalent.
+     * @return the tasks as stored, in the order given.
+     */
+    public List<Task> addTasks(Collection<Task> tasks) throws UniqueTaskList.DuplicateTaskException {
+        final Map<Tag, Tag> newMasterTags = new HashMap<>();
+        final List<Task> tasksToAdd = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> tasksToAdd.add(withMasterTags(task, newMasterTags)));
+        taskList.beginBatch();
+        try {
+            taskList.addAll(tasksToAdd);
+            final List<Tag> newTags = new ArrayList<>();
+            for (Task task : tasksToAdd) {
+                acquireTags(task, newTags);
+                taskIndex.add(task);
+            }
+            addMasterTags(newTags);
+        } finally {
+            taskList.endBatch();
+        }
+        return tasksToAdd;
     }
+    // @@author A0139399J
 
     /**
-     * Updates the task in the list at position {@code index} with {@code editedReadOnlyTask}.
-     * {@code TaskManager}'s tag list will be updated with the tagList of {@code editedReadOnlyTask}.
+     * Replaces the task in the list at position {@code index} with a copy of {@code editedReadOnlyTask}.
+     * {@code TaskManager}'s tag list will be updated with the tagList of {@code editedReadOnlyTask},
+     * and tags no longer used by any task are removed from it.
      *
+     * @return the task now in the list
      * @throws DuplicateTaskException    if updating the task's details causes the task to be equivalent to
      *                                   another existing task in the list.
      * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
-     * @see #syncMasterTagListWith(Task)
+     * @see #acquireTags(Task)
      */
-    public void updateTask(int index, ReadOnlyTask editedReadOnlyTask)
+    public Task updateTask(int index, ReadOnlyTask editedReadOnlyTask)
         throws UniqueTaskList.DuplicateTaskException {
         assert editedReadOnlyTask != null;
+        return replaceTask(index, new Task(editedReadOnlyTask));
+    }
 
-        Task editedTask = new Task(editedReadOnlyTask);
-        syncMasterTagListWith(editedTask);
-        // TODO: the tagList master list will be updated even though the below line fails.
-        // This can cause the tagList master list to have additional tagList that are not tagged to any task
-        // in the task list.
-        taskList.updateTask(index, editedTask);
+    // @@author A0138909R
+    /**
+     * Updates each task in {@code targets} with the task at the same position in {@code editedTasks},
+     * or none of them if any update would make two tasks equivalent.
+     * The task list reports all the updates as a single change, and {@link #tagList} is updated
+     * once for the whole batch.
+     *
+     * @return the tasks now in the list, in the order of {@code editedTasks}
+     * @throws TaskNotFoundException  if a target could not be found in the list.
+     * @throws DuplicateTaskException if updating the tasks causes a task to be equivalent to another task.
+     */
+    public List<Task> updateTasks(List<? extends ReadOnlyTask> targets, List<? extends ReadOnlyTask> editedTasks)
+            throws UniqueTaskList.TaskNotFoundException, DuplicateTaskException {
+        assert targets.size() == editedTasks.size();
+        final List<Task> tasksToUpdate = new ArrayList<>(targets.size());
+        final List<Task> edited = new ArrayList<>(editedTasks.size());
+        final Map<Tag, Tag> newMasterTags = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Task task = taskList.find(targets.get(i));
+            if (task == null) {
+                throw new UniqueTaskList.TaskNotFoundException();
+            }
+            tasksToUpdate.add(task);
+            edited.add(withMasterTags(new Task(editedTasks.get(i)), newMasterTags));
+        }
+
+        final List<Task> updatedTasks = taskList.updateTasks(tasksToUpdate, edited);
+        // the tag counts only change once the update has succeeded
+        final List<Tag> newTags = new ArrayList<>();
+        updatedTasks.forEach(task -> acquireTags(task, newTags));
+        addMasterTags(newTags);
+        final List<Tag> unusedTags = new ArrayList<>();
+        tasksToUpdate.forEach(task -> releaseTags(task.getTagSet(), unusedTags));
+        removeMasterTags(unusedTags);
+        for (int i = 0; i < tasksToUpdate.size(); i++) {
+            taskIndex.replace(tasksToUpdate.get(i), updatedTasks.get(i));
+        }
+        return updatedTasks;
     }
+    // @@author A0139399J
 
     /**
      * Marks an existing task in the to-do list.
      *
+     * @return the marked task now in the list
      * @throws TaskNotFoundException if no such task could be found in the list.
      * @throws DuplicateTaskException
      */
-    public void markTask(int taskIndex, ReadOnlyTask taskToDone)
+    public Task markTask(int taskIndex, ReadOnlyTask taskToDone)
             throws UniqueTaskList.TaskNotFoundException, DuplicateTaskException {
-        taskList.mark(taskIndex, taskToDone);
+        Task markedTask = new Task(taskToDone);
+        markedTask.setIsDone(true);
+        return replaceTask(taskIndex, markedTask);
     }
 
 
     /**
      * Marks an existing task in the to-do list.
      *
+     * @return the unmarked task now in the list
      * @throws TaskNotFoundException if no such task could be found in the list.
      * @throws DuplicateTaskException
      */
-    public void unmarkTask(int taskIndex, ReadOnlyTask taskToDone)
+    public Task unmarkTask(int taskIndex, ReadOnlyTask taskToDone)
             throws UniqueTaskList.TaskNotFoundException, DuplicateTaskException {
-        taskList.unmark(taskIndex, taskToDone);
+        Task unmarkedTask = new Task(taskToDone);
+        unmarkedTask.setIsDone(false);
+        return replaceTask(taskIndex, unmarkedTask);
     }
 
+    // @@author A0138909R
     /**
-     * Ensures that every tag in this task:
-     * - exists in the master list {@link #tagList}
-     * - points to a Tag object in the master list
+     * Replaces the task in the list at position {@code index} with {@code replacement}, which no one else holds.
      */
-    private void syncMasterTagListWith(Task task) {
-        final UniqueTagList taskTags = task.getTags();
-        tagList.mergeFrom(taskTags);
+    private Task replaceTask(int index, Task replacement) throws DuplicateTaskException {
+        Task taskToUpdate = taskList.asObservableList().get(index);
+        Task updatedTask = taskList.updateTask(index, withMasterTags(replacement, new HashMap<>()));
+        // the tag counts only change once the update has succeeded
+        acquireTags(updatedTask);
+        releaseTags(taskToUpdate.getTagSet());
+        taskIndex.replace(taskToUpdate, updatedTask);
+        return updatedTask;
+    }
 
-        // Create map with values = tag object references in the master list
-        // used for checking task tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tagList.forEach(tag -> masterTagObjects.put(tag, tag));
+    /**
+     * Returns {@code task}, or a copy of it, with every tag pointing to a Tag object in the master list
+     * {@link #tagList}. Tags that are not in the master list yet are looked up in and added to
+     * {@code newMasterTags}, so tasks added together share one Tag object for each new tag.
+     * Tasks in the list are never changed, so this is done before a task is added.
+     */
+    private Task withMasterTags(Task task, Map<Tag, Tag> newMasterTags) {
+        final TagSet taskTags = task.getTagSet();
+        final List<Tag> masterTags = new ArrayList<>(taskTags.size());
+        boolean isAllMasterTags = true;
+        for (Tag tag : taskTags) {
+            TagUsage usage = tagUsages.get(tag);
+            Tag masterTag = usage != null ? usage.tag : newMasterTags.computeIfAbsent(tag, unused -> tag);
+            masterTags.add(masterTag);
+            isAllMasterTags &= masterTag == tag;
+        }
+        if (isAllMasterTags) {
+            return task;
+        }
+        Task copy = new Task(task);
+        copy.setTags(TagSet.of(masterTags));
+        return copy;
+    }
 
-        // Rebuild the list of task tagList to point to the relevant tagList in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        taskTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        task.setTags(new UniqueTagList(correctTagReferences));
+    /**
+     * Returns {@code tasks} as tasks with every tag pointing to a Tag object in the master list.
+     * Tasks are copied, unless {@code isShared} says that they never change and can be kept as they are.
+     */
+    private List<Task> withMasterTags(List<? extends ReadOnlyTask> tasks, boolean isShared) {
+        final Map<Tag, Tag> newMasterTags = new HashMap<>();
+        final List<Task> masterTagged = new ArrayList<>(tasks.size());
+        for (ReadOnlyTask task : tasks) {
+            Task stored = isShared ? (Task) task : new Task(task);
+            masterTagged.add(withMasterTags(stored, newMasterTags));
+        }
+        return masterTagged;
     }
 
     /**
-     * Ensures that every tag in these taskList:
-     * - exists in the master list {@link #tagList}
-     * - points to a Tag object in the master list
-     *
-     * @see #syncMasterTagListWith(Task)
+     * Counts one more use of every tag in this task, and ensures that every tag in this task
+     * exists in the master list {@link #tagList}.
+     */
+    private void acquireTags(Task task) {
+        final List<Tag> newTags = new ArrayList<>();
+        acquireTags(task, newTags);
+        addMasterTags(newTags);
+    }
+
+    /**
+     * Counts one more use of every tag in this task, whose tags already point to the master Tag objects.
+     * Tags that are not in the master list yet are registered and added to {@code newTags}.
+     */
+    private void acquireTags(Task task, List<Tag> newTags) {
+        for (Tag tag : task.getTagSet()) {
+            TagUsage usage = tagUsages.get(tag);
+            if (usage == null) {
+                usage = new TagUsage(tag);
+                tagUsages.put(tag, usage);
+                newTags.add(tag);
+            }
+            assert usage.tag == tag : "Tasks are given the master tags before they are added";
+            usage.count++;
+        }
+    }
+
+    /**
+     * Counts one less use of every tag in {@code tags}.
+     * Tags that are no longer used by any task are removed from the master list {@link #tagList}.
+     */
+    private void releaseTags(TagSet tags) {
+        final List<Tag> unusedTags = new ArrayList<>();
+        releaseTags(tags, unusedTags);
+        removeMasterTags(unusedTags);
+    }
+
+    /**
+     * Counts one less use of every tag in {@code tags}.
+     * Tags that are no longer used by any task are unregistered and added to {@code unusedTags}.
+     */
+    private void releaseTags(TagSet tags, List<Tag> unusedTags) {
+        for (Tag tag : tags) {
+            TagUsage usage = tagUsages.get(tag);
+            if (usage != null && --usage.count == 0) {
+                tagUsages.remove(tag);
+                unusedTags.add(tag);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds {@link #tagUsages} from the master list and the tasks in one pass over the tag references.
+     * Tags in the master list that no task uses are kept, as they were given explicitly.
+     */
+    private void recountTagUsages() {
+        resetTagUsages();
+        final List<Tag> newTags = new ArrayList<>();
+        taskList.forEach(task -> acquireTags(task, newTags));
+        tagList.mergeFrom(newTags);
+    }
+
+    /**
+     * Registers every tag in the master list with no uses.
      */
-    private void syncMasterTagListWith(UniqueTaskList tasks) {
-        tasks.forEach(this::syncMasterTagListWith);
+    private void resetTagUsages() {
+        tagUsages.clear();
+        tagList.forEach(tag -> tagUsages.put(tag, new TagUsage(tag)));
     }
 
+    /**
+     * Appends tags that are not in the master list yet to it.
+     */
+    private void addMasterTags(List<Tag> newTags) {
+        tagList.mergeFrom(newTags);
+    }
+
+    /**
+     * Removes tags that are no longer in use from the master list.
+     */
+    private void removeMasterTags(List<Tag> unusedTags) {
+        if (unusedTags.isEmpty()) {
+            return;
+        }
+        tagList.remove(unusedTags);
+    }
+
+    /**
+     * Returns an immutable view of the current tasks and tags in O(1).
+     * Later changes to this task manager are not seen by the snapshot.
+     */
+    public TaskManagerSnapshot snapshot() {
+        return new TaskManagerSnapshot(taskList.snapshot(), tagList.snapshot());
+    }
+
+    /**
+     * Returns the position of the equivalent task in the task list, or -1 if there is none.
+     */
+    public int indexOf(ReadOnlyTask task) {
+        return taskList.indexOf(task);
+    }
+
+    /**
+     * Returns true if the task list contains a task equivalent to {@code task}.
+     */
+    public boolean containsTask(ReadOnlyTask task) {
+        return taskList.contains(task);
+    }
+
+    /**
+     * Starts grouping the changes to the task list, so that its listeners see them as a single change
+     * when {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        taskList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the last call to {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        taskList.endBatch();
+    }
+
+    /**
+     * Returns the secondary indexes over the tasks, which are kept current on every change.
+     */
+    public TaskIndex getTaskIndex() {
+        return taskIndex;
+    }
+    // @@author A0139399J
+
     /**
      * Removes the equivalent task from the UniqueTaskList.
      *
      */
     public void removeTask(ReadOnlyTask task) {
-        taskList.remove(task);
+        Task toRemove = taskList.find(task);
+        if (toRemove != null && taskList.remove(toRemove)) {
+            releaseTags(toRemove.getTagSet());
+            taskIndex.remove(toRemove);
+        }
     }
 
     /**
      * Removes the equivalent taskList from the UniqueTaskList.
      *
+     * @return the tasks that were removed, as they were stored.
      */
-    public void removeTask(Set<ReadOnlyTask> tasks) {
+    public List<Task> removeTask(Set<ReadOnlyTask> tasks) {
+        List<Task> toRemove = new ArrayList<>();
+        for (ReadOnlyTask task : tasks) {
+            Task found = taskList.find(task);
+            if (found != null) {
+                toRemove.add(found);
+            }
+        }
         taskList.remove(tasks);
+        for (Task task : toRemove) {
+            releaseTags(task.getTagSet());
+            taskIndex.remove(task);
+        }
+        return toRemove;
     }
 
     //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tagList.add(t);
+        tagUsages.put(t, new TagUsage(t));
+    }
+
+    /**
+     * Adds the tags that are not already in {@link #tagList}.
+     */
+    public void mergeTags(Collection<Tag> tags) {
+        final List<Tag> newTags = new ArrayList<>();
+        for (Tag tag : tags) {
+            if (!tagUsages.containsKey(tag)) {
+                tagUsages.put(tag, new TagUsage(tag));
+                newTags.add(tag);
+            }
+        }
+        addMasterTags(newTags);
+    }
+
+    /**
+     * Removes the equivalent tags from {@link #tagList}.
+     * Tags that are still used by a task are kept.
+     */
+    public void removeTags(Collection<Tag> tags) {
+        final List<Tag> unusedTags = new ArrayList<>();
+        for (Tag tag : tags) {
+            TagUsage usage = tagUsages.get(tag);
+            if (usage != null && usage.count == 0) {
+                tagUsages.remove(tag);
+                unusedTags.add(tag);
+            }
+        }
+        removeMasterTags(unusedTags);
     }
 
 //// util methods
@@ -223,4 +536,17 @@ public class TaskManager implements ReadOnlyTaskManager {
         // use this method for custom fields hashing instead of implementing your own
         return Objects.hash(taskList, tagList);
     }
+
+    // @@author A0138909R
+    /**
+     * A master tag and the number of tasks in the task manager tagged with it.
+     */
+    private static class TagUsage {
+        private final Tag tag;
+        private int count;
+
+        TagUsage(Tag tag) {
+            this.tag = tag;
+        }
+    }
 }
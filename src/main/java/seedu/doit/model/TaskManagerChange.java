@@ -0,0 +1,176 @@
+package seedu.doit.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.item.UniqueTaskList;
+import seedu.doit.model.tag.Tag;
+
+//@@author A0138909R
+/**
+ * Records the difference a single command made to a {@link TaskManager} so that
+ * it can be undone and redone without copying the whole task manager.
+ * <p>
+ * A change is described by the task images it removed, the task images it added
+ * and the master tags it removed or added. Undoing removes what was added and
+ * restores what was removed, redoing does the opposite, so both cost
+ * O(changed tasks). Storage also writes a change as it is, so saving it costs
+ * O(changed tasks) as well.
+ * <p>
+ * Tasks in a task manager are replaced rather than edited, so the images are the
+ * task objects themselves and are shared with the task manager instead of copied.
+ * Images given to a change must therefore never be modified afterwards.
+ */
+public class TaskManagerChange {
+
+    private final List<ReadOnlyTask> removedTasks;
+    private final List<ReadOnlyTask> addedTasks;
+    // master tags are added and dropped along with the tasks using them, so only tags
+    // that no task used have to be recorded, and a clear and its undo are the only changes to them
+    private final List<Tag> removedTags;
+    private final List<Tag> addedTags;
+
+    private TaskManagerChange(List<ReadOnlyTask> removedTasks, List<ReadOnlyTask> addedTasks,
+            List<Tag> removedTags, List<Tag> addedTags) {
+        this.removedTasks = removedTasks;
+        this.addedTasks = addedTasks;
+        this.removedTags = removedTags;
+        this.addedTags = addedTags;
+    }
+
+    /**
+     * Creates a change where {@code addedTask} was added.
+     */
+    public static TaskManagerChange addition(ReadOnlyTask addedTask) {
+        return new TaskManagerChange(Collections.emptyList(), Collections.singletonList(addedTask),
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Creates a change where {@code addedTasks} were added together, e.g. by an import.
+     */
+    public static TaskManagerChange additions(Collection<? extends ReadOnlyTask> addedTasks) {
+        return new TaskManagerChange(Collections.emptyList(), new ArrayList<>(addedTasks), Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    /**
+     * Creates a change where {@code removedTasks} were removed.
+     */
+    public static TaskManagerChange removal(Collection<? extends ReadOnlyTask> removedTasks) {
+        return new TaskManagerChange(new ArrayList<>(removedTasks), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Creates a change where the tasks with the images {@code before} were replaced by {@code after},
+     * e.g. by a transaction.
+     */
+    public static TaskManagerChange replacement(Collection<? extends ReadOnlyTask> before,
+            Collection<? extends ReadOnlyTask> after) {
+        return new TaskManagerChange(new ArrayList<>(before), new ArrayList<>(after), Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    /**
+     * Creates a change where all tasks and tags were removed, e.g. by a clear.
+     */
+    public static TaskManagerChange reset(Collection<? extends ReadOnlyTask> removedTasks,
+            Collection<Tag> removedTags) {
+        return new TaskManagerChange(new ArrayList<>(removedTasks), Collections.emptyList(),
+                new ArrayList<>(removedTags), Collections.emptyList());
+    }
+
+    /**
+     * Returns the change that reverts this change, e.g. the change an undo made.
+     */
+    public TaskManagerChange inverse() {
+        return new TaskManagerChange(this.addedTasks, this.removedTasks, this.addedTags, this.removedTags);
+    }
+
+    /**
+     * Reverts this change on the given task manager.
+     */
+    public void undo(TaskManager taskManager) {
+        apply(taskManager, this.addedTasks, this.addedTags, this.removedTasks, this.removedTags);
+    }
+
+    /**
+     * Re-applies this change on the given task manager.
+     */
+    public void redo(TaskManager taskManager) {
+        apply(taskManager, this.removedTasks, this.removedTags, this.addedTasks, this.addedTags);
+    }
+
+    /**
+     * Returns the task images this change removed. Redoing the change removes the master tags
+     * in {@link #getRemovedTags()} first, then these tasks, then adds the tasks in
+     * {@link #getAddedTasks()} and last the master tags in {@link #getAddedTags()}.
+     */
+    public List<ReadOnlyTask> getRemovedTasks() {
+        return Collections.unmodifiableList(this.removedTasks);
+    }
+
+    public List<ReadOnlyTask> getAddedTasks() {
+        return Collections.unmodifiableList(this.addedTasks);
+    }
+
+    public List<Tag> getRemovedTags() {
+        return Collections.unmodifiableList(this.removedTags);
+    }
+
+    public List<Tag> getAddedTags() {
+        return Collections.unmodifiableList(this.addedTags);
+    }
+
+    /**
+     * Returns the number of task images held by this change, used to bound the
+     * memory taken by the undo history.
+     */
+    public int getTaskCount() {
+        return this.removedTasks.size() + this.addedTasks.size();
+    }
+
+    private static void apply(TaskManager taskManager, List<ReadOnlyTask> tasksToRemove, List<Tag> tagsToRemove,
+            List<ReadOnlyTask> toAdd, List<Tag> tagsToAdd) {
+        taskManager.removeTags(tagsToRemove);
+        // listeners of the task list see the whole change at once
+        taskManager.beginBatch();
+        try {
+            applyTasks(taskManager, tasksToRemove, toAdd);
+        } finally {
+            taskManager.endBatch();
+        }
+        taskManager.mergeTags(tagsToAdd);
+    }
+
+    private static void applyTasks(TaskManager taskManager, List<ReadOnlyTask> tasksToRemove,
+            List<ReadOnlyTask> toAdd) {
+        if (!tasksToRemove.isEmpty()) {
+            taskManager.removeTask(new HashSet<>(tasksToRemove));
+        }
+        try {
+            if (toAdd.size() == 1) {
+                taskManager.addTask(asTask(toAdd.get(0)));
+            } else if (!toAdd.isEmpty()) {
+                List<Task> tasks = new ArrayList<>(toAdd.size());
+                toAdd.forEach(task -> tasks.add(asTask(task)));
+                taskManager.addTasks(tasks);
+            }
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assert false : "Replaying a recorded change should not create duplicate tasks";
+        }
+    }
+
+    /**
+     * Returns {@code image} as a {@code Task}, copying it only if it is some other kind of task.
+     */
+    private static Task asTask(ReadOnlyTask image) {
+        return image instanceof Task ? (Task) image : new Task(image);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.doit.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.doit.commons.core.PersistentSequence;
+import seedu.doit.commons.core.UnmodifiableObservableList;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.tag.Tag;
+
+//@@author A0138909R
+/**
+ * An immutable, point-in-time view of a {@link TaskManager}.
+ * <p>
+ * A snapshot shares the persistent sequences that hold the tasks and tags of the task manager,
+ * whose tasks are never changed, so taking one is O(1) and it never sees later changes.
+ * Snapshots can be held and read on any thread, e.g. by storage while the user keeps editing.
+ * The lists are only built when first read, in the order of the task manager's lists.
+ */
+public class TaskManagerSnapshot implements ReadOnlyTaskManager {
+
+    private final PersistentSequence<? extends ReadOnlyTask> tasks;
+    private final PersistentSequence<Tag> tags;
+
+    private ObservableList<ReadOnlyTask> taskList;
+    private ObservableList<Tag> tagList;
+
+    TaskManagerSnapshot(PersistentSequence<? extends ReadOnlyTask> tasks, PersistentSequence<Tag> tags) {
+        this.tasks = tasks;
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a snapshot of {@code data}, which is {@code data} itself if it is already a snapshot.
+     * Data from other sources is copied once.
+     */
+    public static TaskManagerSnapshot of(ReadOnlyTaskManager data) {
+        assert data != null;
+        if (data instanceof TaskManagerSnapshot) {
+            return (TaskManagerSnapshot) data;
+        }
+        if (data instanceof TaskManager) {
+            return ((TaskManager) data).snapshot();
+        }
+        return new TaskManager(data).snapshot();
+    }
+
+    @Override
+    public synchronized ObservableList<ReadOnlyTask> getTaskList() {
+        if (this.taskList == null) {
+            this.taskList = toObservableList(this.tasks);
+        }
+        return this.taskList;
+    }
+
+    @Override
+    public synchronized ObservableList<Tag> getTagList() {
+        if (this.tagList == null) {
+            this.tagList = toObservableList(this.tags);
+        }
+        return this.tagList;
+    }
+
+    private static <E> ObservableList<E> toObservableList(PersistentSequence<? extends E> elements) {
+        List<E> list = new ArrayList<>(elements.size());
+        elements.forEach(list::add);
+        return new UnmodifiableObservableList<>(FXCollections.observableList(list));
+    }
+
+    @Override
+    public String toString() {
+        return this.tasks.size() + " taskList, " + this.tags.size() + " tagList";
+    }
+}
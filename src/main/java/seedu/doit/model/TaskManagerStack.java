@@ -1,19 +1,30 @@
 package seedu.doit.model;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.logging.Logger;
 
 import seedu.doit.commons.core.LogsCenter;
 import seedu.doit.commons.exceptions.EmptyTaskManagerStackException;
 
 //@@author A0138909R
+/**
+ * Keeps the undo and redo history of the task manager as a journal of
+ * {@link TaskManagerChange}s. The undo history is bounded both by the number of
+ * changes kept and by the total number of task images those changes hold.
+ */
 public class TaskManagerStack {
     public static final String NOTHING_TO_REDO = "There is nothing to redo!";
     public static final String NOTHING_TO_UNDO = "There is nothing to undo!";
-    private static final Stack<ReadOnlyTaskManager> undoStack = new Stack<ReadOnlyTaskManager>();
-    private static final Stack<ReadOnlyTaskManager> redoStack = new Stack<ReadOnlyTaskManager>();
+    public static final int DEFAULT_MAX_DEPTH = 100;
+    public static final int DEFAULT_MAX_TASK_COUNT = 100000;
+    private static final Deque<TaskManagerChange> undoStack = new ArrayDeque<TaskManagerChange>();
+    private static final Deque<TaskManagerChange> redoStack = new ArrayDeque<TaskManagerChange>();
     private static final Logger logger = LogsCenter.getLogger(TaskManagerStack.class);
     private static TaskManagerStack instance = null;
+    private static int maxDepth = DEFAULT_MAX_DEPTH;
+    private static int maxTaskCount = DEFAULT_MAX_TASK_COUNT;
+    private static int undoTaskCount = 0;
 
     protected TaskManagerStack() {
     }
@@ -26,51 +37,71 @@ public class TaskManagerStack {
     }
 
     /**
-     * Adds another copy of the ReadOnlyTaskManager to the undostack
+     * Sets the bounds of the undo history.
      *
-     * @param readOnlyTaskManager
+     * @param depth
+     *            maximum number of changes that can be undone
+     * @param taskCount
+     *            maximum number of task images kept across those changes. The
+     *            latest change is always kept even if it alone exceeds this.
      */
-    public void addToUndoStack(ReadOnlyTaskManager readOnlyTaskManager) {
-        ReadOnlyTaskManager oldReadOnlyTaskManager = new TaskManager(readOnlyTaskManager);
-        undoStack.push(oldReadOnlyTaskManager);
+    public void setLimits(int depth, int taskCount) {
+        assert depth > 0 && taskCount > 0;
+        maxDepth = depth;
+        maxTaskCount = taskCount;
+        trimUndoStack();
     }
 
     /**
-     * When there is a need to undo a command this is called
+     * Records a change made to the task manager so that it can be undone
      *
-     * @return the undid task manager
+     * @param change
+     */
+    public void addToUndoStack(TaskManagerChange change) {
+        undoStack.push(change);
+        undoTaskCount += change.getTaskCount();
+        trimUndoStack();
+    }
+
+    /**
+     * When there is a need to undo a command this is called. Reverts the latest
+     * change on {@code taskManager}.
+     *
+     * @return the change that was reverted
      * @throws EmptyTaskManagerStackException
      *             if there is an empty undostack
      */
-    public ReadOnlyTaskManager loadOlderTaskManager(ReadOnlyTaskManager readOnlyTaskManager)
-            throws EmptyTaskManagerStackException {
+    public TaskManagerChange undo(TaskManager taskManager) throws EmptyTaskManagerStackException {
         if (undoStack.isEmpty()) {
             logger.info(NOTHING_TO_UNDO);
             throw new EmptyTaskManagerStackException(NOTHING_TO_UNDO);
         }
-        ReadOnlyTaskManager newReadOnlyTaskManager = new TaskManager(readOnlyTaskManager);
-        redoStack.push(newReadOnlyTaskManager);
-        ReadOnlyTaskManager undidTaskManager = undoStack.pop();
-        return undidTaskManager;
+        TaskManagerChange change = undoStack.pop();
+        undoTaskCount -= change.getTaskCount();
+        change.undo(taskManager);
+        redoStack.push(change);
+        return change;
     }
 
     /**
-     * When there is a need to redo a command this is called
+     * When there is a need to redo a command this is called. Re-applies the
+     * latest undone change on {@code taskManager}.
      *
-     * @return the redid task manager
+     * @return the change that was re-applied
      * @throws EmptyTaskManagerStackException
      *             if there is an empty redostack
      */
-    public ReadOnlyTaskManager loadNewerTaskManager(ReadOnlyTaskManager readOnlyTaskManager)
-            throws EmptyTaskManagerStackException {
+    public TaskManagerChange redo(TaskManager taskManager) throws EmptyTaskManagerStackException {
         if (redoStack.isEmpty()) {
             logger.info(NOTHING_TO_REDO);
             throw new EmptyTaskManagerStackException(NOTHING_TO_REDO);
         }
-        ReadOnlyTaskManager oldReadOnlyTaskManager = new TaskManager(readOnlyTaskManager);
-        undoStack.push(oldReadOnlyTaskManager);
-        ReadOnlyTaskManager redidTaskManager = redoStack.pop();
-        return redidTaskManager;
+        TaskManagerChange change = redoStack.pop();
+        change.redo(taskManager);
+        undoStack.push(change);
+        undoTaskCount += change.getTaskCount();
+        trimUndoStack();
+        return change;
     }
 
     /**
@@ -85,6 +116,16 @@ public class TaskManagerStack {
      */
     public void clearUndoStack() {
         undoStack.clear();
+        undoTaskCount = 0;
+    }
+
+    /**
+     * Drops the oldest changes until the undo history is within its bounds
+     */
+    private void trimUndoStack() {
+        while (undoStack.size() > maxDepth || (undoTaskCount > maxTaskCount && undoStack.size() > 1)) {
+            undoTaskCount -= undoStack.removeLast().getTaskCount();
+        }
     }
 
 }
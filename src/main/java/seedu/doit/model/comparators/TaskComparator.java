@@ -13,4 +13,18 @@ public interface TaskComparator extends Comparator<ReadOnlyTask> {
     @Override
     public int compare(ReadOnlyTask t1, ReadOnlyTask t2);
 
+    // @@author A0138909R
+    /**
+     * Compares the done status and then the item type of two tasks.
+     * Undone items come before done items, and the item types are ranked as follows
+     * from highest: 1) tasks 2) events 3) floating tasks
+     */
+    default int compareDoneAndItemType(ReadOnlyTask curr, ReadOnlyTask other) {
+        int compareDone = Boolean.compare(curr.getIsDone(), other.getIsDone());
+        if (compareDone != 0) {
+            return compareDone;
+        }
+        return Integer.compare(curr.getItemType(), other.getItemType());
+    }
+
 }
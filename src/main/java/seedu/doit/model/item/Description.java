@@ -1,6 +1,8 @@
 // @@author A0139399J
 package seedu.doit.model.item;
 
+import java.util.regex.Pattern;
+
 import seedu.doit.commons.exceptions.IllegalValueException;
 
 /**
@@ -14,8 +16,12 @@ public class Description {
      *  Any String is a valid description
      */
     public static final String DESCRIPTION_VALIDATION_REGEX = ".*";
+    private static final Pattern DESCRIPTION_VALIDATION_PATTERN = Pattern.compile(DESCRIPTION_VALIDATION_REGEX);
 
     public final String value;
+    // @@author A0138909R
+    private WordSet words;
+    // @@author A0139399J
 
     /**
      * Validates given description.
@@ -34,7 +40,7 @@ public class Description {
      * Returns true if a given string is a valid task description.
      */
     public static boolean isValidDescription(String test) {
-        return test.matches(DESCRIPTION_VALIDATION_REGEX);
+        return DESCRIPTION_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -49,4 +55,15 @@ public class Description {
             && this.value.equals(((Description) other).value)); // state check
     }
 
+    // @@author A0138909R
+    /**
+     * Returns the case-folded words of this description, split once and then kept.
+     */
+    public WordSet getWords() {
+        if (this.words == null) {
+            this.words = WordSet.of(this.value);
+        }
+        return this.words;
+    }
+
 }
@@ -2,7 +2,8 @@
 package seedu.doit.model.item;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
+import java.util.regex.Pattern;
 
 import seedu.doit.commons.exceptions.IllegalValueException;
 import seedu.doit.logic.parser.DateTimeParser;
@@ -18,9 +19,18 @@ public class EndTime implements Comparable<EndTime> {
         + "DD/MM/YY HH:MM Format or relative date today, tomorrow, next wednesday";
     public static final String ENDTIME_VALIDATION_REGEX = "^$|^([0-2][0-9]||3[0-1]$)/([0-9]||0[0-9]||1[0-2])"
         + "/([0-9][0-9])?[0-9][0-9] [0-2]\\d:[0-6]\\d$";
+    private static final Pattern ENDTIME_VALIDATION_PATTERN = Pattern.compile(ENDTIME_VALIDATION_REGEX);
+
+    // @@author A0138909R
+    public static final long NO_EPOCH_MINUTES = Long.MIN_VALUE;
+    // @@author A0139399J
 
     public final String value;
     private final LocalDateTime dateObject;
+    private final long epochMinutes;
+    // @@author A0138909R
+    private WordSet words;
+    // @@author A0139399J
 
 
     /**
@@ -29,7 +39,21 @@ public class EndTime implements Comparable<EndTime> {
     public EndTime() {
         this.value = NO_END_TIME;
         this.dateObject = null;
+        this.epochMinutes = NO_EPOCH_MINUTES;
+    }
+
+    // @@author A0138909R
+    /**
+     * Creates a EndTime for a date and time that is already parsed, such as one read from the data file,
+     * without running the natural language date parser.
+     */
+    public EndTime(LocalDateTime dateTime) {
+        assert dateTime != null;
+        this.dateObject = dateTime;
+        this.value = formatDate(dateTime);
+        this.epochMinutes = toEpochMinutes(dateTime);
     }
+    // @@author A0139399J
 
     /**
      * Validates given endTime.
@@ -40,6 +64,7 @@ public class EndTime implements Comparable<EndTime> {
         if (endTime.equals(NO_END_TIME)) {
             this.value = NO_END_TIME;
             this.dateObject = null;
+            this.epochMinutes = NO_EPOCH_MINUTES;
         } else {
             String trimmedEndTime = endTime.trim();
 
@@ -47,6 +72,7 @@ public class EndTime implements Comparable<EndTime> {
                 .orElseThrow(() -> new IllegalValueException(MESSAGE_ENDTIME_CONSTRAINTS));
 
             String dateInString = formatDate(dateObject);
+            this.epochMinutes = toEpochMinutes(dateObject);
 
             if (!isValidEndTime(dateInString)) {
                 throw new IllegalValueException(MESSAGE_ENDTIME_CONSTRAINTS);
@@ -59,13 +85,18 @@ public class EndTime implements Comparable<EndTime> {
      * Returns if a given string is a valid item end time.
      */
     public static boolean isValidEndTime(String test) {
-        return test.matches(ENDTIME_VALIDATION_REGEX);
+        return ENDTIME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     private static String formatDate(LocalDateTime input) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
-        return input.format(formatter);
+        return input.format(DateTimeParser.DATE_TIME_FORMATTER);
+    }
+
+    // @@author A0138909R
+    private static long toEpochMinutes(LocalDateTime input) {
+        return Math.floorDiv(input.toEpochSecond(ZoneOffset.UTC), 60);
     }
+    // @@author A0139399J
 
     @Override
     public String toString() {
@@ -81,11 +112,29 @@ public class EndTime implements Comparable<EndTime> {
 
     @Override
     public int compareTo(EndTime other) {
-        return this.value.compareTo(other.value);
+        return Long.compare(this.epochMinutes, other.epochMinutes);
     }
 
     public LocalDateTime getDateTimeObject() {
         return this.dateObject;
     }
 
+    // @@author A0138909R
+    /**
+     * Returns the time in minutes since the epoch, or {@link #NO_EPOCH_MINUTES} if there is no time.
+     */
+    public long getEpochMinutes() {
+        return this.epochMinutes;
+    }
+
+    /**
+     * Returns the case-folded words of this end time, split once and then kept.
+     */
+    public WordSet getWords() {
+        if (this.words == null) {
+            this.words = WordSet.of(this.value);
+        }
+        return this.words;
+    }
+
 }
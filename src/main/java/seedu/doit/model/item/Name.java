@@ -1,6 +1,8 @@
 // @@author A0139399J
 package seedu.doit.model.item;
 
+import java.util.regex.Pattern;
+
 import seedu.doit.commons.exceptions.IllegalValueException;
 
 /**
@@ -17,8 +19,12 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String NAME_VALIDATION_REGEX = "^[^-\\s][a-zA-Z0-9_\\s-]+$";
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
 
     public final String fullName;
+    // @@author A0138909R
+    private WordSet words;
+    // @@author A0139399J
 
     /**
      * Validates given name.
@@ -38,7 +44,7 @@ public class Name {
      * Returns true if a given string is a valid task name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -54,4 +60,15 @@ public class Name {
             && this.fullName.equals(((Name) other).fullName)); // state check
     }
 
+    // @@author A0138909R
+    /**
+     * Returns the case-folded words of this name, split once and then kept.
+     */
+    public WordSet getWords() {
+        if (this.words == null) {
+            this.words = WordSet.of(this.fullName);
+        }
+        return this.words;
+    }
+
 }
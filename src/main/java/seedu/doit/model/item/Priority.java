@@ -1,11 +1,15 @@
 // @@author A0139399J
 package seedu.doit.model.item;
 
+import java.util.regex.Pattern;
+
 import seedu.doit.commons.exceptions.IllegalValueException;
 
 /**
  * Represents a Task's priority in the task manager.
  * Guarantees: immutable; is valid as declared in {@link #isValidPriority(String)}
+ * <p>
+ * There is one shared instance for each priority, given by {@link #of(String)}.
  */
 public class Priority implements Comparable<Priority> {
 
@@ -13,8 +17,18 @@ public class Priority implements Comparable<Priority> {
     public static final String PRIORITY_VALIDATION_REGEX = "(low)|(med)|(high)";
     public static final String PRIORITY_LOW = "low";
     public static final String PRIORITY_MED = "med";
+    public static final String PRIORITY_HIGH = "high";
+
+    private static final Pattern PRIORITY_VALIDATION_PATTERN = Pattern.compile(PRIORITY_VALIDATION_REGEX);
+
+    // @@author A0138909R
+    private static final Priority LOW = new Priority(PRIORITY_LOW, 3);
+    private static final Priority MED = new Priority(PRIORITY_MED, 2);
+    private static final Priority HIGH = new Priority(PRIORITY_HIGH, 1);
+    // @@author A0139399J
 
     public final String value;
+    private final int priorityValue;
 
     /**
      * Validates given priority.
@@ -28,13 +42,40 @@ public class Priority implements Comparable<Priority> {
             throw new IllegalValueException(MESSAGE_PRIORITY_CONSTRAINTS);
         }
         this.value = trimmedPriority;
+        this.priorityValue = getPriorityValue(trimmedPriority);
+    }
+
+    // @@author A0138909R
+    private Priority(String value, int priorityValue) {
+        this.value = value;
+        this.priorityValue = priorityValue;
+    }
+
+    /**
+     * Returns the shared instance for the given priority.
+     *
+     * @throws IllegalValueException if given priority string is invalid.
+     */
+    public static Priority of(String priority) throws IllegalValueException {
+        assert priority != null;
+        switch (priority.trim()) {
+        case PRIORITY_LOW:
+            return LOW;
+        case PRIORITY_MED:
+            return MED;
+        case PRIORITY_HIGH:
+            return HIGH;
+        default:
+            throw new IllegalValueException(MESSAGE_PRIORITY_CONSTRAINTS);
+        }
     }
+    // @@author A0139399J
 
     /**
      * Returns true if a given string is a valid task priority.
      */
     public static boolean isValidPriority(String test) {
-        return test.matches(PRIORITY_VALIDATION_REGEX);
+        return PRIORITY_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -49,7 +90,7 @@ public class Priority implements Comparable<Priority> {
             && this.value.equals(((Priority) other).value)); // state check
     }
 
-    private int getPriorityValue() {
+    private static int getPriorityValue(String value) {
         if (PRIORITY_LOW.equals(value)) {
             return 3;
         } else if (PRIORITY_MED.equals(value)) {
@@ -59,11 +100,18 @@ public class Priority implements Comparable<Priority> {
         }
     }
 
+    // @@author A0138909R
+    /**
+     * Returns the rank of this priority: 1 for high, 2 for med and 3 for low.
+     */
+    public int getOrdinal() {
+        return this.priorityValue;
+    }
+    // @@author A0139399J
+
     @Override
     public int compareTo(Priority other) {
-        Integer currPriorityValue = getPriorityValue();
-        Integer otherPriorityValue = other.getPriorityValue();
-        return currPriorityValue.compareTo(otherPriorityValue);
+        return Integer.compare(this.priorityValue, other.priorityValue);
     }
 
 }
@@ -1,6 +1,9 @@
 // @@author A0139399J
 package seedu.doit.model.item;
 
+import java.util.Locale;
+
+import seedu.doit.model.tag.TagSet;
 import seedu.doit.model.tag.UniqueTagList;
 
 /**
@@ -27,6 +30,15 @@ public interface ReadOnlyTask {
      */
     UniqueTagList getTags();
 
+    // @@author A0138909R
+    /**
+     * Returns the tags as an immutable set that can be read without copying.
+     */
+    default TagSet getTagSet() {
+        return TagSet.of(getTags());
+    }
+    // @@author A0139399J
+
     /**
      * Returns true if both have the same state. (interfaces cannot override .equals)
      */
@@ -97,9 +109,10 @@ public interface ReadOnlyTask {
     }
 
     default void appendTags(StringBuilder builder) {
-        if (!getTags().asObservableList().isEmpty()) {
+        TagSet tags = getTagSet();
+        if (!tags.isEmpty()) {
             builder.append(" Tags: ");
-            getTags().forEach(builder::append);
+            tags.forEach(builder::append);
         }
     }
 
@@ -114,4 +127,35 @@ public interface ReadOnlyTask {
     boolean isEvent();
 
     boolean isFloatingTask();
+
+    // @@author A0138909R
+    /**
+     * Returns the start time in minutes since the epoch, or {@link StartTime#NO_EPOCH_MINUTES}
+     * if there is no start time.
+     */
+    default long getStartTimeKey() {
+        return hasStartTime() ? getStartTime().getEpochMinutes() : StartTime.NO_EPOCH_MINUTES;
+    }
+
+    /**
+     * Returns the deadline in minutes since the epoch, or {@link EndTime#NO_EPOCH_MINUTES}
+     * if there is no deadline.
+     */
+    default long getEndTimeKey() {
+        return hasEndTime() ? getDeadline().getEpochMinutes() : EndTime.NO_EPOCH_MINUTES;
+    }
+
+    /**
+     * Returns the rank of the priority, as given by {@link Priority#getOrdinal()}.
+     */
+    default int getPriorityKey() {
+        return getPriority().getOrdinal();
+    }
+
+    /**
+     * Returns the name in lower case, for ordering names without regard to case.
+     */
+    default String getNameKey() {
+        return getName().fullName.toLowerCase(Locale.ROOT);
+    }
 }
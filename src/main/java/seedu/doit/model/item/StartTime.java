@@ -2,7 +2,8 @@
 package seedu.doit.model.item;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
+import java.util.regex.Pattern;
 
 import seedu.doit.commons.exceptions.IllegalValueException;
 import seedu.doit.logic.parser.DateTimeParser;
@@ -18,9 +19,18 @@ public class StartTime implements Comparable<StartTime> {
         + "DD/MM/YY HH:MM Format or relative date today, tomorrow, next wednesday";
     public static final String STARTTIME_VALIDATION_REGEX = "^$|^([0-2][0-9]||3[0-1])/([0-9]||0[0-9]||1[0-2])"
         + "/([0-9][0-9])?[0-9][0-9] [0-2]\\d:[0-6]\\d$";
+    private static final Pattern STARTTIME_VALIDATION_PATTERN = Pattern.compile(STARTTIME_VALIDATION_REGEX);
+
+    // @@author A0138909R
+    public static final long NO_EPOCH_MINUTES = Long.MIN_VALUE;
+    // @@author A0139399J
 
     public final String value;
     private final LocalDateTime dateObject;
+    private final long epochMinutes;
+    // @@author A0138909R
+    private WordSet words;
+    // @@author A0139399J
 
     /**
      * Gives a NO_START_TIME which represents there is no start time.
@@ -28,7 +38,21 @@ public class StartTime implements Comparable<StartTime> {
     public StartTime() {
         this.value = NO_START_TIME;
         this.dateObject = null;
+        this.epochMinutes = NO_EPOCH_MINUTES;
+    }
+
+    // @@author A0138909R
+    /**
+     * Creates a StartTime for a date and time that is already parsed, such as one read from the data file,
+     * without running the natural language date parser.
+     */
+    public StartTime(LocalDateTime dateTime) {
+        assert dateTime != null;
+        this.dateObject = dateTime;
+        this.value = formatDate(dateTime);
+        this.epochMinutes = toEpochMinutes(dateTime);
     }
+    // @@author A0139399J
 
     /**
      * Validates given startTime.
@@ -39,6 +63,7 @@ public class StartTime implements Comparable<StartTime> {
         if (startTime.equals(NO_START_TIME)) {
             this.value = NO_START_TIME;
             this.dateObject = null;
+            this.epochMinutes = NO_EPOCH_MINUTES;
         } else {
             String trimmedStartTime = startTime.trim();
 
@@ -46,6 +71,7 @@ public class StartTime implements Comparable<StartTime> {
                 .orElseThrow(() -> new IllegalValueException(MESSAGE_STARTTIME_CONSTRAINTS));
 
             String dateInString = formatDate(dateObject);
+            this.epochMinutes = toEpochMinutes(dateObject);
 
             if (!isValidStartTime(dateInString)) {
                 throw new IllegalValueException(MESSAGE_STARTTIME_CONSTRAINTS);
@@ -59,14 +85,18 @@ public class StartTime implements Comparable<StartTime> {
      * Returns if a given string is a valid task start time.
      */
     public static boolean isValidStartTime(String test) {
-        return test.matches(STARTTIME_VALIDATION_REGEX);
+        return STARTTIME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     private static String formatDate(LocalDateTime input) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
-        return input.format(formatter);
+        return input.format(DateTimeParser.DATE_TIME_FORMATTER);
+    }
 
+    // @@author A0138909R
+    private static long toEpochMinutes(LocalDateTime input) {
+        return Math.floorDiv(input.toEpochSecond(ZoneOffset.UTC), 60);
     }
+    // @@author A0139399J
 
     @Override
     public String toString() {
@@ -82,11 +112,29 @@ public class StartTime implements Comparable<StartTime> {
 
     @Override
     public int compareTo(StartTime other) {
-        return this.value.compareTo(other.value);
+        return Long.compare(this.epochMinutes, other.epochMinutes);
     }
 
     public LocalDateTime getDateTimeObject() {
         return this.dateObject;
     }
 
+    // @@author A0138909R
+    /**
+     * Returns the time in minutes since the epoch, or {@link #NO_EPOCH_MINUTES} if there is no time.
+     */
+    public long getEpochMinutes() {
+        return this.epochMinutes;
+    }
+
+    /**
+     * Returns the case-folded words of this start time, split once and then kept.
+     */
+    public WordSet getWords() {
+        if (this.words == null) {
+            this.words = WordSet.of(this.value);
+        }
+        return this.words;
+    }
+
 }
@@ -4,6 +4,7 @@ package seedu.doit.model.item;
 import java.util.Objects;
 
 import seedu.doit.commons.util.CollectionUtil;
+import seedu.doit.model.tag.TagSet;
 import seedu.doit.model.tag.UniqueTagList;
 
 /**
@@ -18,7 +19,16 @@ public class Task implements ReadOnlyTask {
     private EndTime endTime;
     private Description description;
     private boolean isDone;
-    private UniqueTagList tags;
+    private TagSet tags;
+
+    // @@author A0138909R
+    // sort keys, kept up to date by the setters so that comparators only compare primitives
+    private int itemType;
+    private long startTimeKey;
+    private long endTimeKey;
+    private int priorityKey;
+    private String nameKey;
+    // @@author A0139399J
 
     // ================ Constructor methods ==============================
 
@@ -27,16 +37,26 @@ public class Task implements ReadOnlyTask {
      */
     public Task(Name name, Priority priority, StartTime startTime, EndTime endTime, Description description,
             UniqueTagList tags, boolean isDone) {
+        this(name, priority, startTime, endTime, description, TagSet.of(tags), isDone);
         assert !CollectionUtil.isAnyNull(name, startTime, endTime);
+    }
+
+    // @@author A0138909R
+    /**
+     * Constructor that shares the given immutable tag set.
+     */
+    private Task(Name name, Priority priority, StartTime startTime, EndTime endTime, Description description,
+            TagSet tags, boolean isDone) {
         this.name = name;
         this.priority = priority;
         this.startTime = startTime;
         this.endTime = endTime;
         this.description = description;
         this.isDone = isDone;
-        this.tags = new UniqueTagList(tags); // protect internal tags from
-                                             // changes in the arg list
+        this.tags = tags; // immutable, so changes to the argument cannot affect this task
+        updateSortKeys();
     }
+    // @@author A0139399J
 
     /**
      * Event Constructor where every field must be present except isDone.
@@ -84,11 +104,8 @@ public class Task implements ReadOnlyTask {
      * Creates a copy of the given ReadOnlyTask.
      */
     public Task(ReadOnlyTask source) {
-        this(source.getName(), source.getPriority(), source.getDescription(), source.getTags());
-        this.startTime = source.getStartTime();
-        this.endTime = source.getDeadline();
-        this.isDone = source.getIsDone();
-
+        this(source.getName(), source.getPriority(), source.getStartTime(), source.getDeadline(),
+            source.getDescription(), source.getTagSet(), source.getIsDone());
     }
 
     // ================ Getter and Setter methods ==============================
@@ -101,6 +118,7 @@ public class Task implements ReadOnlyTask {
     public void setName(Name name) {
         assert name != null;
         this.name = name;
+        updateSortKeys();
     }
 
     @Override
@@ -111,6 +129,7 @@ public class Task implements ReadOnlyTask {
     public void setPriority(Priority priority) {
         assert priority != null;
         this.priority = priority;
+        updateSortKeys();
     }
 
     @Override
@@ -130,6 +149,7 @@ public class Task implements ReadOnlyTask {
     public void setStartTime(StartTime startTime) {
         assert startTime != null;
         this.startTime = startTime;
+        updateSortKeys();
     }
 
     @Override
@@ -140,6 +160,7 @@ public class Task implements ReadOnlyTask {
     public void setEndTime(EndTime endTime) {
         assert endTime != null;
         this.endTime = endTime;
+        updateSortKeys();
     }
 
     @Override
@@ -174,14 +195,29 @@ public class Task implements ReadOnlyTask {
 
     @Override
     public UniqueTagList getTags() {
-        return new UniqueTagList(this.tags);
+        return this.tags.toUniqueTagList();
+    }
+
+    // @@author A0138909R
+    @Override
+    public TagSet getTagSet() {
+        return this.tags;
+    }
+
+    /**
+     * Replaces this task's tags with the given tags.
+     */
+    public void setTags(TagSet replacement) {
+        assert replacement != null;
+        this.tags = replacement;
     }
+    // @@author A0139399J
 
     /**
      * Replaces this task's tags with the tags in the argument tag list.
      */
     public void setTags(UniqueTagList replacement) {
-        this.tags.setTags(replacement);
+        this.tags = TagSet.of(replacement);
     }
 
     /**
@@ -215,14 +251,44 @@ public class Task implements ReadOnlyTask {
      */
     @Override
     public int getItemType() {
+        return this.itemType;
+    }
+
+    // @@author A0138909R
+    @Override
+    public long getStartTimeKey() {
+        return this.startTimeKey;
+    }
+
+    @Override
+    public long getEndTimeKey() {
+        return this.endTimeKey;
+    }
+
+    @Override
+    public int getPriorityKey() {
+        return this.priorityKey;
+    }
+
+    @Override
+    public String getNameKey() {
+        return this.nameKey;
+    }
+
+    private void updateSortKeys() {
         if (isTask()) {
-            return 1;
+            this.itemType = 1;
         } else if (isEvent()) {
-            return 2;
+            this.itemType = 2;
         } else {
-            return 3;
+            this.itemType = 3;
         }
+        this.startTimeKey = ReadOnlyTask.super.getStartTimeKey();
+        this.endTimeKey = ReadOnlyTask.super.getEndTimeKey();
+        this.priorityKey = this.priority == null ? 0 : ReadOnlyTask.super.getPriorityKey();
+        this.nameKey = ReadOnlyTask.super.getNameKey();
     }
+    // @@author A0139399J
 
     // ================ Misc methods ==============================
 
@@ -238,15 +304,16 @@ public class Task implements ReadOnlyTask {
         this.setEndTime(replacement.getDeadline());
         this.setIsDone(replacement.getIsDone());
         this.setDescription(replacement.getDescription());
-        this.setTags(replacement.getTags());
+        this.setTags(replacement.getTagSet());
     }
 
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing
-        // your own
-        return Objects.hash(this.name, this.priority, this.description, this.tags);
+        // your own. Only the fields compared by isSameStateAs are hashed so that
+        // equal tasks always share a hash code.
+        return Objects.hash(this.name.fullName, this.priority.value, this.description.value, this.isDone);
     }
 
     @Override
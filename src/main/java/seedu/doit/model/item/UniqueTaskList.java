@@ -1,13 +1,20 @@
 // @@author A0139399J
 package seedu.doit.model.item;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.doit.commons.core.BatchedObservableList;
+import seedu.doit.commons.core.PersistentSequence;
 import seedu.doit.commons.core.UnmodifiableObservableList;
 import seedu.doit.commons.exceptions.DuplicateDataException;
 import seedu.doit.commons.util.CollectionUtil;
@@ -17,13 +24,23 @@ import seedu.doit.model.comparators.TaskNameComparator;
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
  * <p>
  * Supports a minimal set of list operations.
+ * The list is kept sorted by its comparator. Each mutation places the affected task
+ * by binary search instead of re-sorting, so listeners only see a single change.
+ * Uniqueness is checked against a hash index of the tasks, so it costs O(1).
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} reach listeners as one change.
+ * <p>
+ * Tasks in the list are never changed: an update replaces the task with a new one. A {@code Task}
+ * given to the list is stored as it is, so it must not be changed afterwards either. This lets
+ * {@link #snapshot()} hand out the tasks without copying them.
  *
  * @see Task#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Task> internalList = new BatchedObservableList<>();
+    // hashed by the fields compared in ReadOnlyTask#isSameStateAs
+    private final Map<Task, Task> taskIndex = new HashMap<>();
     private Comparator<ReadOnlyTask> taskComparator = new TaskNameComparator();
 
     /**
@@ -31,8 +48,62 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(ReadOnlyTask toCheck) {
         assert toCheck != null;
-        return internalList.contains(toCheck);
+        return taskIndex.containsKey(asTask(toCheck));
+    }
+
+    /**
+     * Returns the task in the list that is equivalent to the given argument, or null if there is none.
+     */
+    public Task find(ReadOnlyTask toFind) {
+        assert toFind != null;
+        return taskIndex.get(asTask(toFind));
+    }
+
+    // @@author A0138909R
+    /**
+     * Returns the position of the equivalent task in the list, or -1 if there is none.
+     * The task is found by binary search, as the list is sorted.
+     */
+    public int indexOf(ReadOnlyTask toFind) {
+        assert toFind != null;
+        Task task = find(toFind);
+        if (task == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (taskComparator.compare(internalList.get(mid), task) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < internalList.size() && taskComparator.compare(internalList.get(i), task) == 0; i++) {
+            if (internalList.get(i) == task) {
+                return i;
+            }
+        }
+        // only reached if a task was edited outside of this list and is out of order
+        return internalList.indexOf(task);
+    }
+
+    /**
+     * Starts grouping the changes to the list, so that listeners see them as a single change
+     * when {@link #endBatch()} is called. Batches may be nested.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the last call to {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
+    // @@author A0139399J
 
     /**
      * Adds a task to the list.
@@ -44,28 +115,106 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
-        internalList.sort(taskComparator);
+        taskIndex.put(toAdd, toAdd);
+        internalList.add(findInsertionIndex(toAdd, internalList.size()), toAdd);
+    }
+
+    // @@author A0138909R
+    /**
+     * Adds all of {@code toAdd} to the list, or none of them.
+     * The new tasks are sorted once and merged into the list, so listeners see a single change
+     * and tasks that compare equal keep the order they would have from adding them one at a time.
+     *
+     * @throws DuplicateTaskException if a task to add is a duplicate of an existing task in the list,
+     *                                or of another task to add.
+     */
+    public void addAll(Collection<Task> toAdd) throws DuplicateTaskException {
+        assert toAdd != null;
+        final Map<Task, Task> added = new HashMap<>();
+        for (Task task : toAdd) {
+            assert task != null;
+            if (contains(task) || added.putIfAbsent(task, task) != null) {
+                throw new DuplicateTaskException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        final List<Task> sortedAdditions = new ArrayList<>(toAdd);
+        sortedAdditions.sort(taskComparator);
+        taskIndex.putAll(added);
+        internalList.addAllSorted(sortedAdditions, taskComparator);
     }
 
     /**
-     * Updates the task in the list at position {@code index} with {@code editedTask}.
+     * Replaces each task in {@code tasksToUpdate} with the task at the same position in
+     * {@code editedTasks}, or none of them.
+     * The updated tasks are taken out of the list and their replacements sorted once and merged in,
+     * so listeners see a single change however many tasks are updated.
      *
+     * @return the tasks now in the list, in the order of {@code editedTasks}
+     * @throws DuplicateTaskException if an edited task is equivalent to a task in the list that is not updated,
+     *                                or to another edited task.
+     */
+    public List<Task> updateTasks(List<Task> tasksToUpdate, List<? extends ReadOnlyTask> editedTasks)
+            throws DuplicateTaskException {
+        assert tasksToUpdate != null && editedTasks != null;
+        assert tasksToUpdate.size() == editedTasks.size();
+        // tasks that are equal by their details may still differ in other fields, so they are told apart by identity
+        final Set<Task> updated = Collections.newSetFromMap(new IdentityHashMap<>());
+        updated.addAll(tasksToUpdate);
+        assert updated.size() == tasksToUpdate.size() : "A task can only be updated once";
+        final List<Task> replacements = new ArrayList<>(editedTasks.size());
+        final Map<Task, Task> edited = new HashMap<>();
+        for (ReadOnlyTask editedTask : editedTasks) {
+            final Task task = asTask(editedTask);
+            final Task existing = find(task);
+            if ((existing != null && !updated.contains(existing)) || edited.putIfAbsent(task, task) != null) {
+                throw new DuplicateTaskException();
+            }
+            replacements.add(task);
+        }
+        if (tasksToUpdate.isEmpty()) {
+            return replacements;
+        }
+
+        internalList.beginBatch();
+        try {
+            internalList.removeAll(updated);
+            tasksToUpdate.forEach(taskIndex::remove);
+            replacements.forEach(task -> taskIndex.put(task, task));
+            final List<Task> sortedUpdates = new ArrayList<>(replacements);
+            sortedUpdates.sort(taskComparator);
+            internalList.addAllSorted(sortedUpdates, taskComparator);
+        } finally {
+            internalList.endBatch();
+        }
+        return replacements;
+    }
+    // @@author A0139399J
+
+    /**
+     * Replaces the task in the list at position {@code index} with {@code editedTask}.
+     *
+     * @return the task now in the list, which is {@code editedTask} itself if it is a {@code Task}
      * @throws DuplicateTaskException    if updating the task's details causes the task to be equivalent to
      *                                   another existing task in the list.
      * @throws IndexOutOfBoundsException if {@code index} < 0 or >= the size of the list.
      */
-    public void updateTask(int index, ReadOnlyTask editedTask) throws DuplicateTaskException {
+    public Task updateTask(int index, ReadOnlyTask editedTask) throws DuplicateTaskException {
         assert editedTask != null;
 
         Task taskToUpdate = internalList.get(index);
-        if (!taskToUpdate.equals(editedTask) && internalList.contains(editedTask)) {
+        if (!taskToUpdate.equals(editedTask) && contains(editedTask)) {
             throw new DuplicateTaskException();
         }
 
-        taskToUpdate.resetData(editedTask);
-        internalList.set(index, taskToUpdate);
-        internalList.sort(taskComparator);
+        Task replacement = asTask(editedTask);
+        taskIndex.remove(taskToUpdate);
+        taskIndex.put(replacement, replacement);
+        reposition(index, replacement);
+        return replacement;
     }
 
     /**
@@ -74,12 +223,11 @@ public class UniqueTaskList implements Iterable<Task> {
      * @throws TaskNotFoundException if no such task could be found in the list.
      * @throws DuplicateTaskException
      */
-    public void mark(int taskIndex, ReadOnlyTask toMark) throws TaskNotFoundException, DuplicateTaskException {
+    public Task mark(int taskIndex, ReadOnlyTask toMark) throws TaskNotFoundException, DuplicateTaskException {
         assert toMark != null;
         Task markedTask = new Task(toMark);
         markedTask.setIsDone(true);
-        updateTask(taskIndex, markedTask);
-        internalList.sort(taskComparator);
+        return updateTask(taskIndex, markedTask);
     }
 
     /**
@@ -88,12 +236,11 @@ public class UniqueTaskList implements Iterable<Task> {
      * @throws TaskNotFoundException if no such task could be found in the list.
      * @throws DuplicateTaskException
      */
-    public void unmark(int taskIndex, ReadOnlyTask toMark) throws TaskNotFoundException, DuplicateTaskException {
+    public Task unmark(int taskIndex, ReadOnlyTask toMark) throws TaskNotFoundException, DuplicateTaskException {
         assert toMark != null;
         Task markedTask = new Task(toMark);
         markedTask.setIsDone(false);
-        updateTask(taskIndex, markedTask);
-        internalList.sort(taskComparator);
+        return updateTask(taskIndex, markedTask);
     }
 
     /**
@@ -103,9 +250,14 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean remove(ReadOnlyTask toRemove) {
         assert toRemove != null;
-        final boolean taskFoundAndDeleted = internalList.remove(toRemove);
-        internalList.sort(taskComparator);
-        return taskFoundAndDeleted;
+        int index = indexOf(toRemove);
+        if (index < 0) {
+            return false;
+        }
+        taskIndex.remove(internalList.get(index));
+        // removing an element keeps the remaining elements sorted
+        internalList.remove(index);
+        return true;
     }
 
     /**
@@ -115,21 +267,55 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean remove(Set<ReadOnlyTask> tasksToRemove) {
         assert tasksToRemove != null;
-        final boolean taskFoundAndDeleted = internalList.removeAll(tasksToRemove);
-        internalList.sort(taskComparator);
-        return taskFoundAndDeleted;
+        // the positions are found by binary search, and the tasks are then removed in a single pass
+        int[] indexes = new int[tasksToRemove.size()];
+        int foundCount = 0;
+        for (ReadOnlyTask toRemove : tasksToRemove) {
+            int index = indexOf(toRemove);
+            if (index >= 0) {
+                indexes[foundCount++] = index;
+            }
+        }
+        if (foundCount == 0) {
+            return false;
+        }
+        for (int i = 0; i < foundCount; i++) {
+            taskIndex.remove(internalList.get(indexes[i]));
+        }
+        return internalList.removeAt(Arrays.copyOf(indexes, foundCount));
     }
 
     public void setTasks(UniqueTaskList replacement) {
-        this.internalList.setAll(replacement.internalList);
-        internalList.sort(taskComparator);
+        this.taskIndex.clear();
+        this.taskIndex.putAll(replacement.taskIndex);
+        if (replacement.taskComparator == taskComparator) {
+            this.internalList.setAll(replacement.internalList);
+        } else {
+            List<Task> sorted = new ArrayList<>(replacement.internalList);
+            sorted.sort(taskComparator);
+            this.internalList.setAll(sorted);
+        }
     }
 
+    /**
+     * Replaces the tasks of this list by {@code tasks}. Tasks that are already {@code Task}s are stored as they are.
+     *
+     * @throws DuplicateTaskException if two of the tasks are equivalent.
+     */
     public void setTasks(List<? extends ReadOnlyTask> tasks) throws DuplicateTaskException {
         final UniqueTaskList replacement = new UniqueTaskList();
+        replacement.taskComparator = taskComparator;
+        final List<Task> sorted = new ArrayList<>(tasks.size());
         for (final ReadOnlyTask task : tasks) {
-            replacement.add(new Task(task));
+            final Task toAdd = asTask(task);
+            if (replacement.taskIndex.putIfAbsent(toAdd, toAdd) != null) {
+                throw new DuplicateTaskException();
+            }
+            sorted.add(toAdd);
         }
+        // a single sort is cheaper than inserting the tasks one at a time
+        sorted.sort(taskComparator);
+        replacement.internalList.setAll(sorted);
         setTasks(replacement);
     }
 
@@ -142,6 +328,61 @@ public class UniqueTaskList implements Iterable<Task> {
         internalList.sort(taskComparator);
     }
 
+    /**
+     * Returns {@code task} as a {@code Task} so that it can be looked up in {@link #taskIndex}.
+     */
+    private static Task asTask(ReadOnlyTask task) {
+        return task instanceof Task ? (Task) task : new Task(task);
+    }
+
+    /**
+     * Replaces the task at position {@code index} with {@code task}, placed where it belongs.
+     * The new task takes the place of the old one, with a single update, if it is in order there.
+     */
+    private void reposition(int index, Task task) {
+        int newIndex = findInsertionIndex(task, index);
+        if (newIndex == index) {
+            internalList.set(index, task);
+        } else {
+            internalList.beginBatch();
+            try {
+                internalList.remove(index);
+                internalList.add(newIndex, task);
+            } finally {
+                internalList.endBatch();
+            }
+        }
+    }
+
+    /**
+     * Returns the position at which {@code task} should be inserted to keep the list sorted,
+     * placing it after any task that compares equal to it.
+     * The element at {@code skippedIndex}, if any, is treated as already removed from the list.
+     */
+    private int findInsertionIndex(ReadOnlyTask task, int skippedIndex) {
+        int low = 0;
+        int high = skippedIndex < internalList.size() ? internalList.size() - 1 : internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Task midTask = internalList.get(mid < skippedIndex ? mid : mid + 1);
+            if (taskComparator.compare(midTask, task) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // @@author A0138909R
+    /**
+     * Returns the tasks in their current order, which later changes to this list do not affect, in O(1).
+     */
+    public PersistentSequence<Task> snapshot() {
+        return internalList.snapshot();
+    }
+    // @@author A0139399J
+
     public UnmodifiableObservableList<Task> asObservableList() {
         return new UnmodifiableObservableList<>(internalList);
     }
@@ -0,0 +1,64 @@
+package seedu.doit.model.item;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.doit.commons.util.StringUtil;
+
+//@@author A0138909R
+/**
+ * The distinct, case-folded words of a piece of text, split on whitespace.
+ * <p>
+ * Text fields tokenize themselves into a WordSet once and keep it, so keyword matching does
+ * not split or case-fold the text again for every keyword.
+ *
+ * @see StringUtil#foldCase(String)
+ * @see StringUtil#splitWords(String)
+ */
+public final class WordSet {
+
+    private static final WordSet EMPTY = new WordSet(new String[0]);
+
+    private final String[] words;
+
+    private WordSet(String[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns the words of {@code text}.
+     */
+    public static WordSet of(String text) {
+        assert text != null;
+        List<String> splitWords = StringUtil.splitWords(text);
+        if (splitWords.isEmpty()) {
+            return EMPTY;
+        }
+        String[] folded = splitWords.stream().map(StringUtil::foldCase).distinct().toArray(String[]::new);
+        Arrays.sort(folded);
+        return new WordSet(folded);
+    }
+
+    public int size() {
+        return this.words.length;
+    }
+
+    /**
+     * Returns the word at {@code index}. Words are sorted.
+     */
+    public String get(int index) {
+        return this.words[index];
+    }
+
+    /**
+     * Returns true if this set has {@code foldedWord}, which must already be case-folded.
+     */
+    public boolean contains(String foldedWord) {
+        return Arrays.binarySearch(this.words, foldedWord) >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.words);
+    }
+}
@@ -4,7 +4,6 @@ package seedu.doit.model.predicates;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.doit.commons.util.StringUtil;
 import seedu.doit.model.item.ReadOnlyTask;
 
 /**
@@ -12,15 +11,14 @@ import seedu.doit.model.item.ReadOnlyTask;
  * descriptionKeyWords
  */
 public class DescriptionPredicate implements Predicate<ReadOnlyTask> {
-    private Set<String> descriptionKeyWords;
+    private KeywordSet descriptionKeyWords;
 
     public DescriptionPredicate(Set<String> descriptionKeyWords) {
-        this.descriptionKeyWords = descriptionKeyWords;
+        this.descriptionKeyWords = new KeywordSet(descriptionKeyWords);
     }
 
     @Override
     public boolean test(ReadOnlyTask task) {
-        return this.descriptionKeyWords.stream()
-                .allMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getDescription().value, keyword));
+        return this.descriptionKeyWords.isAllIn(task.getDescription().getWords());
     }
 }
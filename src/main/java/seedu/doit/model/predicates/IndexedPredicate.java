@@ -0,0 +1,41 @@
+// @@author A0138909R
+package seedu.doit.model.predicates;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.doit.model.TaskIndex;
+import seedu.doit.model.item.ReadOnlyTask;
+
+/**
+ * A predicate that answers from the tasks a {@link TaskIndex} query found, as long as the index
+ * has not changed since. A task that is added or edited afterwards is tested with the predicate
+ * the query stands for instead, so the result stays the same as testing every task.
+ * A filtered list still tests each of its tasks, but each test is a lookup in the found set.
+ */
+public class IndexedPredicate implements Predicate<ReadOnlyTask> {
+    private final Set<ReadOnlyTask> matches;
+    private final Predicate<ReadOnlyTask> predicate;
+    private final TaskIndex index;
+    private final int modificationCount;
+
+    /**
+     * @param matches the tasks found by the query, compared by identity
+     * @param predicate the predicate that the query stands for
+     * @param index the index the query was run on
+     */
+    public IndexedPredicate(Set<ReadOnlyTask> matches, Predicate<ReadOnlyTask> predicate, TaskIndex index) {
+        this.matches = matches;
+        this.predicate = predicate;
+        this.index = index;
+        this.modificationCount = index.getModificationCount();
+    }
+
+    @Override
+    public boolean test(ReadOnlyTask task) {
+        if (this.index.getModificationCount() == this.modificationCount) {
+            return this.matches.contains(task);
+        }
+        return this.predicate.test(task);
+    }
+}
@@ -0,0 +1,57 @@
+// @@author A0138909R
+package seedu.doit.model.predicates;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.doit.commons.util.StringUtil;
+import seedu.doit.model.item.WordSet;
+
+/**
+ * The keywords of a find query, trimmed and case-folded once when the query is made.
+ * <p>
+ * Matching a task walks the task's {@link WordSet} and looks each word up in the keyword hash set,
+ * so it costs O(words in the task) and allocates nothing.
+ */
+public class KeywordSet {
+    private final Set<String> keywords = new HashSet<>();
+
+    public KeywordSet(Collection<String> keywords) {
+        for (String keyword : keywords) {
+            this.keywords.add(StringUtil.foldCase(keyword.trim()));
+        }
+    }
+
+    /**
+     * Returns true if {@code foldedWord}, which must already be case-folded, is one of the keywords.
+     */
+    public boolean contains(String foldedWord) {
+        return this.keywords.contains(foldedWord);
+    }
+
+    /**
+     * Returns true if every keyword is one of {@code words}.
+     */
+    public boolean isAllIn(WordSet words) {
+        int found = 0;
+        for (int i = 0; i < words.size() && found < this.keywords.size(); i++) {
+            if (this.keywords.contains(words.get(i))) {
+                found++;
+            }
+        }
+        return found == this.keywords.size();
+    }
+
+    /**
+     * Returns true if any keyword is one of {@code words}.
+     */
+    public boolean isAnyIn(WordSet words) {
+        for (int i = 0; i < words.size(); i++) {
+            if (this.keywords.contains(words.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
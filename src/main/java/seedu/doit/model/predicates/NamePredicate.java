@@ -4,7 +4,6 @@ package seedu.doit.model.predicates;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.doit.commons.util.StringUtil;
 import seedu.doit.model.item.ReadOnlyTask;
 
 /**
@@ -12,15 +11,14 @@ import seedu.doit.model.item.ReadOnlyTask;
 * nameKeyWords
 */
 public class NamePredicate implements Predicate<ReadOnlyTask> {
-    private Set<String> nameKeyWords;
+    private KeywordSet nameKeyWords;
 
     public NamePredicate(Set<String> nameKeyWords) {
-        this.nameKeyWords = nameKeyWords;
+        this.nameKeyWords = new KeywordSet(nameKeyWords);
     }
 
     @Override
     public boolean test(ReadOnlyTask task) {
-        return this.nameKeyWords.stream()
-                .allMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getName().fullName, keyword));
+        return this.nameKeyWords.isAllIn(task.getName().getWords());
     }
 }
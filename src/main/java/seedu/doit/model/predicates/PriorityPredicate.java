@@ -12,15 +12,15 @@ import seedu.doit.model.item.ReadOnlyTask;
 * priorityKeyWords
 */
 public class PriorityPredicate implements Predicate<ReadOnlyTask> {
-    private Set<String> priorityKeyWords;
+    private KeywordSet priorityKeyWords;
 
     public PriorityPredicate(Set<String> priorityKeyWords) {
-        this.priorityKeyWords = priorityKeyWords;
+        this.priorityKeyWords = new KeywordSet(priorityKeyWords);
     }
 
     @Override
     public boolean test(ReadOnlyTask task) {
-        return this.priorityKeyWords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getPriority().value, keyword));
+        // a priority is a single word
+        return this.priorityKeyWords.contains(StringUtil.foldCase(task.getPriority().value));
     }
 }
@@ -4,21 +4,19 @@ package seedu.doit.model.predicates;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.doit.commons.util.StringUtil;
 import seedu.doit.model.item.ReadOnlyTask;
 
 public class StartTimePredicate implements Predicate<ReadOnlyTask> {
-    private Set<String> startTimeKeyWords;
+    private KeywordSet startTimeKeyWords;
 
     public StartTimePredicate(Set<String> endTimeKeyWords) {
-        this.startTimeKeyWords = endTimeKeyWords;
+        this.startTimeKeyWords = new KeywordSet(endTimeKeyWords);
     }
 
     @Override
     public boolean test(ReadOnlyTask task) {
         if (task.hasStartTime()) {
-            return this.startTimeKeyWords.stream()
-                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getStartTime().value, keyword));
+            return this.startTimeKeyWords.isAnyIn(task.getStartTime().getWords());
         } else {
             return false;
         }
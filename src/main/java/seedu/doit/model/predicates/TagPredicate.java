@@ -4,9 +4,8 @@ package seedu.doit.model.predicates;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.doit.commons.exceptions.IllegalValueException;
 import seedu.doit.model.item.ReadOnlyTask;
-import seedu.doit.model.tag.Tag;
+import seedu.doit.model.tag.TagSet;
 
 /**
 * A predicate that will return true if any of the ReadOnlyTask tags matches the
@@ -21,13 +20,21 @@ public class    TagPredicate implements Predicate<ReadOnlyTask> {
 
     @Override
     public boolean test(ReadOnlyTask task) {
-        return this.tagKeywords.stream().allMatch(keyword -> {
-            try {
-                return (task.getTags().contains(new Tag(keyword)));
-            } catch (IllegalValueException e) {
-                e.printStackTrace();
-                return false;
+        TagSet tags = task.getTagSet();
+        return this.tagKeywords.stream().allMatch(keyword -> hasTagNamed(tags, keyword.trim()));
+    }
+
+    // @@author A0138909R
+    /**
+     * Returns true if {@code tags} has a tag named {@code tagName}.
+     * Names that are not valid tag names never match, as no tag can have them.
+     */
+    private static boolean hasTagNamed(TagSet tags, String tagName) {
+        for (int i = 0; i < tags.size(); i++) {
+            if (tags.get(i).tagName.equals(tagName)) {
+                return true;
             }
-        });
+        }
+        return false;
     }
 }
@@ -1,16 +1,29 @@
 // @@author A0139399J
 package seedu.doit.model.tag;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
 import seedu.doit.commons.exceptions.IllegalValueException;
 
 /**
  * Represents a Tag in the task manager. Guarantees: immutable; name is valid as
  * declared in {@link #isValidTagName(String)}
+ * <p>
+ * {@link #of(String)} gives one shared instance for each tag name that is still in use.
  */
 public class Tag {
 
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern TAG_VALIDATION_PATTERN = Pattern.compile(TAG_VALIDATION_REGEX);
+
+    // @@author A0138909R
+    // weak on both sides, so the tags of deleted tasks can still be collected
+    private static final Map<String, WeakReference<Tag>> internedTags = new WeakHashMap<>();
+    // @@author A0139399J
 
     public final String tagName;
 
@@ -29,11 +42,42 @@ public class Tag {
         this.tagName = trimmedName;
     }
 
+    // @@author A0138909R
+    /**
+     * Returns the shared Tag with the given name, creating it the first time the name is seen.
+     *
+     * @throws IllegalValueException
+     *             if the given tag name string is invalid.
+     */
+    public static Tag of(String name) throws IllegalValueException {
+        assert name != null;
+        synchronized (internedTags) {
+            Tag tag = getInterned(name);
+            if (tag != null) {
+                return tag;
+            }
+            Tag created = new Tag(name);
+            tag = getInterned(created.tagName);
+            if (tag != null) {
+                return tag;
+            }
+            // the key is the tag's own name, so the entry lives exactly as long as the tag
+            internedTags.put(created.tagName, new WeakReference<>(created));
+            return created;
+        }
+    }
+
+    private static Tag getInterned(String name) {
+        WeakReference<Tag> reference = internedTags.get(name);
+        return reference == null ? null : reference.get();
+    }
+    // @@author A0139399J
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return TAG_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
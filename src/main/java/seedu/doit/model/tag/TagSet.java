@@ -0,0 +1,127 @@
+package seedu.doit.model.tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+//@@author A0138909R
+/**
+ * An immutable set of tags, kept in a small array sorted by tag name.
+ * <p>
+ * Tasks only have a handful of tags, so lookups scan the array instead of hashing.
+ * The set can be read through {@link #get(int)}, {@link #asList()} or iteration
+ * without copying the tags. As the order is fixed, equal sets list their tags in
+ * the same order.
+ */
+public final class TagSet implements Iterable<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+    private final List<Tag> view;
+    private final int hashCode;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        this.view = Collections.unmodifiableList(Arrays.asList(tags));
+        this.hashCode = Arrays.hashCode(tags);
+    }
+
+    /**
+     * Returns a TagSet of the given tags, leaving out nulls and duplicates.
+     */
+    public static TagSet of(Iterable<Tag> tags) {
+        assert tags != null;
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        List<Tag> unique = new ArrayList<>();
+        for (Tag tag : tags) {
+            if (tag != null && !unique.contains(tag)) {
+                unique.add(tag);
+            }
+        }
+        if (unique.isEmpty()) {
+            return EMPTY;
+        }
+        unique.sort(TAG_NAME_ORDER);
+        return new TagSet(unique.toArray(new Tag[unique.size()]));
+    }
+
+    public int size() {
+        return this.tags.length;
+    }
+
+    public boolean isEmpty() {
+        return this.tags.length == 0;
+    }
+
+    public Tag get(int index) {
+        return this.tags[index];
+    }
+
+    /**
+     * Returns true if the set contains an equivalent Tag as the given argument.
+     */
+    public boolean contains(Tag toCheck) {
+        assert toCheck != null;
+        for (Tag tag : this.tags) {
+            if (tag == toCheck || tag.equals(toCheck)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an unmodifiable list view of the tags.
+     */
+    public List<Tag> asList() {
+        return this.view;
+    }
+
+    /**
+     * Returns a new, modifiable UniqueTagList with the tags in this set.
+     */
+    public UniqueTagList toUniqueTagList() {
+        UniqueTagList tagList = new UniqueTagList();
+        tagList.mergeFrom(this.view);
+        return tagList;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return this.view.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TagSet)) {
+            return false;
+        }
+        TagSet otherSet = (TagSet) other;
+        return this.hashCode == otherSet.hashCode && Arrays.equals(this.tags, otherSet.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Tag tag : this.tags) {
+            builder.append(tag);
+        }
+        return builder.toString();
+    }
+}
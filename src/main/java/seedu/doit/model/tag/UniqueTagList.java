@@ -9,8 +9,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.doit.commons.core.BatchedObservableList;
+import seedu.doit.commons.core.PersistentSequence;
 import seedu.doit.commons.core.UnmodifiableObservableList;
 import seedu.doit.commons.exceptions.DuplicateDataException;
 import seedu.doit.commons.exceptions.IllegalValueException;
@@ -20,13 +20,15 @@ import seedu.doit.commons.util.CollectionUtil;
  * A list of tags that enforces no nulls and uniqueness between its elements.
  * <p>
  * Supports minimal set of list operations for the app's features.
+ * Uniqueness is checked against a hash index of the tags, so it costs O(1).
  *
  * @see Tag#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniqueTagList implements Iterable<Tag> {
 
-    private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Tag> internalList = new BatchedObservableList<>();
+    private final Set<Tag> tagIndex = new HashSet<>();
 
     /**
      * Constructs empty TagList.
@@ -41,7 +43,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public UniqueTagList(String... tags) throws DuplicateTagException, IllegalValueException {
         final List<Tag> tagList = new ArrayList<Tag>();
         for (String tag : tags) {
-            tagList.add(new Tag(tag));
+            tagList.add(Tag.of(tag));
         }
         setTags(tagList);
     }
@@ -56,6 +58,7 @@ public class UniqueTagList implements Iterable<Tag> {
         if (!CollectionUtil.elementsAreUnique(initialTags)) {
             throw new DuplicateTagException();
         }
+        tagIndex.addAll(initialTags);
         internalList.addAll(initialTags);
     }
 
@@ -74,6 +77,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public UniqueTagList(Set<Tag> tags) {
         assert !CollectionUtil.isAnyNull(tags);
+        tagIndex.addAll(tags);
         internalList.addAll(tags);
     }
 
@@ -82,6 +86,7 @@ public class UniqueTagList implements Iterable<Tag> {
      * Insulates from changes in source.
      */
     public UniqueTagList(UniqueTagList source) {
+        tagIndex.addAll(source.tagIndex);
         internalList.addAll(source.internalList); // insulate internal list from changes in argument
     }
 
@@ -90,21 +95,26 @@ public class UniqueTagList implements Iterable<Tag> {
      * This set is mutable and change-insulated against the internal list.
      */
     public Set<Tag> toSet() {
-        return new HashSet<>(internalList);
+        return new HashSet<>(tagIndex);
     }
 
     /**
      * Replaces the Tags in this list with those in the argument tag list.
      */
     public void setTags(UniqueTagList replacement) {
+        this.tagIndex.clear();
+        this.tagIndex.addAll(replacement.tagIndex);
         this.internalList.setAll(replacement.internalList);
     }
 
     public void setTags(Collection<Tag> tags) throws DuplicateTagException {
         assert !CollectionUtil.isAnyNull(tags);
-        if (!CollectionUtil.elementsAreUnique(tags)) {
+        final Set<Tag> replacementIndex = new HashSet<>(tags);
+        if (replacementIndex.size() != tags.size()) {
             throw new DuplicateTagException();
         }
+        tagIndex.clear();
+        tagIndex.addAll(replacementIndex);
         internalList.setAll(tags);
     }
 
@@ -112,10 +122,30 @@ public class UniqueTagList implements Iterable<Tag> {
      * Ensures every tag in the argument list exists in this object.
      */
     public void mergeFrom(UniqueTagList from) {
-        final Set<Tag> alreadyInside = this.toSet();
-        from.internalList.stream()
-            .filter(tag -> !alreadyInside.contains(tag))
-            .forEach(internalList::add);
+        mergeFrom(from.internalList);
+    }
+
+    /**
+     * Ensures every tag in the argument collection exists in this object.
+     */
+    public void mergeFrom(Collection<Tag> from) {
+        final List<Tag> toAdd = new ArrayList<>();
+        for (Tag tag : from) {
+            if (tagIndex.add(tag)) {
+                toAdd.add(tag);
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Removes the equivalent tags from this list.
+     */
+    public void remove(Collection<Tag> toRemove) {
+        assert toRemove != null;
+        if (tagIndex.removeAll(toRemove)) {
+            internalList.removeAll(toRemove);
+        }
     }
 
     /**
@@ -123,7 +153,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public boolean contains(Tag toCheck) {
         assert toCheck != null;
-        return internalList.contains(toCheck);
+        return tagIndex.contains(toCheck);
     }
 
     /**
@@ -136,6 +166,7 @@ public class UniqueTagList implements Iterable<Tag> {
         if (contains(toAdd)) {
             throw new DuplicateTagException();
         }
+        tagIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -144,6 +175,15 @@ public class UniqueTagList implements Iterable<Tag> {
         return internalList.iterator();
     }
 
+    // @@author A0138909R
+    /**
+     * Returns the current tags, which later changes to this list do not affect, in O(1).
+     */
+    public PersistentSequence<Tag> snapshot() {
+        return internalList.snapshot();
+    }
+    // @@author A0139399J
+
     public UnmodifiableObservableList<Tag> asObservableList() {
         return new UnmodifiableObservableList<>(internalList);
     }
@@ -157,7 +197,7 @@ public class UniqueTagList implements Iterable<Tag> {
     }
 
     public boolean equalsOrderInsensitive(UniqueTagList other) {
-        return this == other || new HashSet<>(this.internalList).equals(new HashSet<>(other.internalList));
+        return this == other || this.tagIndex.equals(other.tagIndex);
     }
 
     @Override
@@ -20,22 +20,22 @@ public class SampleDataUtil {
     public static Task[] getSampleTasks() {
         try {
             return new Task[] {
-                new Task(new Name("Refactor"), new Priority("low"), new EndTime("04/04/14"),
+                new Task(new Name("Refactor"), Priority.of("low"), new EndTime("04/04/14"),
                     new Description("Refactor all mentions of task / taskManager"),
                     new UniqueTagList("Huanhui")),
-                new Task(new Name("pass Travis"), new Priority("med"), new EndTime("04/04/14"),
+                new Task(new Name("pass Travis"), Priority.of("med"), new EndTime("04/04/14"),
                     new Description("Remove trailing whitespaces in md files for Travis to pass"),
                     new UniqueTagList("keanwai", "z")),
-                new Task(new Name("help"), new Priority("high"), new EndTime("04/04/14"),
+                new Task(new Name("help"), Priority.of("high"), new EndTime("04/04/14"),
                     new Description("Update help command"),
                     new UniqueTagList("ChiaSin")),
-                new Task(new Name("merge"), new Priority("med"), new EndTime("04/04/14"),
+                new Task(new Name("merge"), Priority.of("med"), new EndTime("04/04/14"),
                     new Description("Fix the master branch merge conflicts"),
                     new UniqueTagList("JinShun")),
-                new Task(new Name("help botton"), new Priority("high"), new EndTime("04/04/14"),
+                new Task(new Name("help botton"), Priority.of("high"), new EndTime("04/04/14"),
                     new Description("Update Help button to our user guide"),
                     new UniqueTagList("ChiaSin")),
-                new Task(new Name("UI interface"), new Priority("low"), new EndTime("04/04/14"),
+                new Task(new Name("UI interface"), Priority.of("low"), new EndTime("04/04/14"),
                     new Description("have 3 lists"),
                     new UniqueTagList("Huanhui")),
             };
@@ -0,0 +1,232 @@
+package seedu.doit.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.commons.exceptions.IllegalValueException;
+import seedu.doit.commons.util.FileUtil;
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManager;
+import seedu.doit.model.item.Description;
+import seedu.doit.model.item.EndTime;
+import seedu.doit.model.item.Name;
+import seedu.doit.model.item.Priority;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.StartTime;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.tag.Tag;
+import seedu.doit.model.tag.UniqueTagList;
+
+//@@author A0138909R
+/**
+ * A class to access TaskManager data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of
+ * every tag name, the master tag list and then the tasks. Strings are written as their
+ * UTF-8 byte length followed by the bytes, tags are written as indexes into the tag
+ * table, and start times and deadlines are written as minutes since the epoch.
+ * Files are read whole into a buffer, so no handle or mapping outlives the read.
+ */
+public class BinaryTaskManagerStorage extends XmlTaskManagerStorage {
+
+    public static final int MAGIC_NUMBER = 0x446f4974; // "DoIt"
+    public static final short FORMAT_VERSION = 1;
+
+    private static final long NO_TIME = StartTime.NO_EPOCH_MINUTES;
+
+    public BinaryTaskManagerStorage(String filePath) {
+        super(filePath);
+    }
+
+    public BinaryTaskManagerStorage(String filePath, int generationsKept) {
+        super(filePath, generationsKept);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file in the binary format.
+     */
+    public static boolean isBinaryFile(String filePath) {
+        return filePath.endsWith(FileUtil.BINARY_FILE_TYPE);
+    }
+
+    @Override
+    protected ReadOnlyTaskManager readTaskManagerFile(File file)
+            throws DataConversionException, FileNotFoundException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return readTaskManager(buffer);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new DataConversionException(new IOException("Truncated or corrupt file " + file, e));
+        } catch (IllegalValueException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    protected void writeTaskManagerFile(ReadOnlyTaskManager taskManager, File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            writeTaskManager(out, taskManager);
+        }
+    }
+
+    // ================ Reading ==============================
+
+    private static TaskManager readTaskManager(ByteBuffer buffer) throws IOException, IllegalValueException {
+        if (buffer.getInt() != MAGIC_NUMBER) {
+            throw new IOException("Not a DoIt binary data file");
+        }
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary data file version " + version);
+        }
+
+        byte[] stringBytes = new byte[0];
+        Tag[] tagTable = new Tag[readCount(buffer)];
+        for (int i = 0; i < tagTable.length; i++) {
+            stringBytes = ensureCapacity(stringBytes, buffer);
+            tagTable[i] = Tag.of(readString(buffer, stringBytes));
+        }
+
+        TaskManager taskManager = new TaskManager();
+        List<Tag> masterTags = new ArrayList<>();
+        int masterTagCount = readCount(buffer);
+        for (int i = 0; i < masterTagCount; i++) {
+            masterTags.add(readTag(buffer, tagTable));
+        }
+        taskManager.setTags(masterTags);
+
+        List<Task> tasks = new ArrayList<>();
+        int taskCount = readCount(buffer);
+        for (int i = 0; i < taskCount; i++) {
+            stringBytes = ensureCapacity(stringBytes, buffer);
+            Name name = new Name(readString(buffer, stringBytes));
+            stringBytes = ensureCapacity(stringBytes, buffer);
+            Priority priority = Priority.of(readString(buffer, stringBytes));
+            stringBytes = ensureCapacity(stringBytes, buffer);
+            Description description = new Description(readString(buffer, stringBytes));
+            boolean isDone = buffer.get() != 0;
+            long startTime = buffer.getLong();
+            long deadline = buffer.getLong();
+            UniqueTagList tags = new UniqueTagList();
+            int tagCount = readCount(buffer);
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(readTag(buffer, tagTable));
+            }
+            tasks.add(new Task(name, priority,
+                    startTime == NO_TIME ? new StartTime() : new StartTime(toDateTime(startTime)),
+                    deadline == NO_TIME ? new EndTime() : new EndTime(toDateTime(deadline)),
+                    description, tags, isDone));
+        }
+        taskManager.setTasks(tasks);
+        return taskManager;
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException("Invalid element count " + count);
+        }
+        return count;
+    }
+
+    private static Tag readTag(ByteBuffer buffer, Tag[] tagTable) throws IOException {
+        int tagIndex = buffer.getInt();
+        if (tagIndex < 0 || tagIndex >= tagTable.length) {
+            throw new IOException("Invalid tag index " + tagIndex);
+        }
+        return tagTable[tagIndex];
+    }
+
+    /**
+     * Returns {@code bytes}, or a larger array if the string at the buffer's position does not fit in it.
+     */
+    private static byte[] ensureCapacity(byte[] bytes, ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt(buffer.position());
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid string length " + length);
+        }
+        return length <= bytes.length ? bytes : new byte[length];
+    }
+
+    private static String readString(ByteBuffer buffer, byte[] bytes) {
+        int length = buffer.getInt();
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static LocalDateTime toDateTime(long epochMinutes) {
+        return LocalDateTime.ofEpochSecond(epochMinutes * 60, 0, ZoneOffset.UTC);
+    }
+
+    // ================ Writing ==============================
+
+    private static void writeTaskManager(DataOutputStream out, ReadOnlyTaskManager taskManager)
+            throws IOException {
+        // numbers every tag name, in the order they are first used
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Tag tag : taskManager.getTagList()) {
+            tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size());
+        }
+        for (ReadOnlyTask task : taskManager.getTaskList()) {
+            for (Tag tag : task.getTagSet()) {
+                tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size());
+            }
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(tagIndexes.size());
+        for (String tagName : tagIndexes.keySet()) {
+            writeString(out, tagName);
+        }
+        out.writeInt(taskManager.getTagList().size());
+        for (Tag tag : taskManager.getTagList()) {
+            out.writeInt(tagIndexes.get(tag.tagName));
+        }
+
+        out.writeInt(taskManager.getTaskList().size());
+        for (ReadOnlyTask task : taskManager.getTaskList()) {
+            writeString(out, task.getName().fullName);
+            writeString(out, task.getPriority().value);
+            writeString(out, task.getDescription().value);
+            out.writeBoolean(task.getIsDone());
+            out.writeLong(task.hasStartTime() ? task.getStartTime().getEpochMinutes() : NO_TIME);
+            out.writeLong(task.hasEndTime() ? task.getDeadline().getEpochMinutes() : NO_TIME);
+            out.writeInt(task.getTagSet().size());
+            for (Tag tag : task.getTagSet()) {
+                out.writeInt(tagIndexes.get(tag.tagName));
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
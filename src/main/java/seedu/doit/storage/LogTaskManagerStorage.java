@@ -0,0 +1,345 @@
+package seedu.doit.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.doit.commons.core.LogsCenter;
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.commons.exceptions.IllegalValueException;
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManager;
+import seedu.doit.model.TaskManagerChange;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.tag.Tag;
+
+//@@author A0138909R
+/**
+ * A class to access TaskManager data stored as an xml snapshot plus an
+ * append-only log of the changes made since that snapshot.
+ * <p>
+ * Each save is given the {@link TaskManagerChange}s the model made since the
+ * previous save, and appends only the tasks and tags those changes removed or
+ * added, so the cost of a save grows with the size of the change rather than
+ * the size of the task manager. A save whose changes are not known writes a new
+ * snapshot instead. Once the log grows past the compaction threshold, a new
+ * snapshot is written and the log is emptied.
+ * <p>
+ * Replaying a record leaves the task manager in the same state whether or not
+ * the record was already applied, so a crash between writing a snapshot and
+ * emptying the log does not corrupt the data.
+ */
+public class LogTaskManagerStorage extends XmlStreamTaskManagerStorage {
+
+    public static final String LOG_FILE_SUFFIX = ".log";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(LogTaskManagerStorage.class);
+
+    private static final String ADD_TASK = "+";
+    private static final String REMOVE_TASK = "-";
+    private static final String ADD_TAG = "#+";
+    private static final String REMOVE_TAG = "#-";
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final String TAG_SEPARATOR = ",";
+    private static final int TASK_FIELD_COUNT = 8;
+
+    private final long compactionThresholdBytes;
+
+    // the file whose snapshot and log hold the data last read or saved, or null if no save can be appended to it
+    private String savedFilePath;
+
+    public LogTaskManagerStorage(String filePath) {
+        this(filePath, DEFAULT_GENERATIONS_KEPT, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * @param generationsKept
+     *            number of previous versions of the snapshot to keep
+     * @param compactionThresholdBytes
+     *            log size above which the log is compacted into a new snapshot
+     */
+    public LogTaskManagerStorage(String filePath, int generationsKept, long compactionThresholdBytes) {
+        super(filePath, generationsKept);
+        assert compactionThresholdBytes > 0;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    /**
+     * Returns the log file kept next to the snapshot at {@code filePath}.
+     */
+    public static File getLogFile(String filePath) {
+        return new File(filePath + LOG_FILE_SUFFIX);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyTaskManager> readTaskManager(String filePath)
+            throws DataConversionException, FileNotFoundException {
+        assert filePath != null;
+
+        this.savedFilePath = null;
+        File taskManagerFile = new File(filePath);
+        File logFile = getLogFile(filePath);
+        if (logFile.exists() && taskManagerFile.exists()) {
+            ReadOnlyTaskManager snapshot = null;
+            try {
+                snapshot = readTaskManagerFile(taskManagerFile);
+            } catch (DataConversionException dce) {
+                logger.warning("TaskManager file " + taskManagerFile + " could not be read, ignoring " + logFile);
+            }
+            if (snapshot != null) {
+                TaskManager taskManager = new TaskManager(snapshot);
+                replayLog(logFile, taskManager);
+                this.savedFilePath = filePath;
+                return Optional.of(taskManager);
+            }
+        } else if (logFile.exists()) {
+            logger.warning("TaskManager file " + taskManagerFile + " not found, ignoring " + logFile);
+        }
+
+        // the log only applies to the snapshot it was written after, not to an older generation
+        // otherwise the next save writes a new snapshot, which replaces the ignored log
+        Optional<ReadOnlyTaskManager> taskManager = super.readTaskManager(filePath);
+        if (taskManager.isPresent() && !logFile.exists()) {
+            this.savedFilePath = filePath;
+        }
+        return taskManager;
+    }
+
+    @Override
+    public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+        saveTaskManager(taskManager, null, filePath);
+    }
+
+    @Override
+    public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, List<TaskManagerChange> changes,
+            String filePath) throws IOException {
+        assert taskManager != null;
+        assert filePath != null;
+
+        if (changes == null || !filePath.equals(this.savedFilePath)) {
+            writeSnapshot(taskManager, filePath);
+            return;
+        }
+
+        List<String> records = new ArrayList<>();
+        for (TaskManagerChange change : changes) {
+            addRecords(records, change);
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        File logFile = getLogFile(filePath);
+        // a failed append may leave only some of the records, so the next save writes a new snapshot
+        this.savedFilePath = null;
+        appendToLog(logFile, records);
+        this.savedFilePath = filePath;
+
+        if (logFile.length() > this.compactionThresholdBytes) {
+            logger.info("Compacting TaskManager log " + logFile);
+            writeSnapshot(taskManager, filePath);
+        }
+    }
+
+    @Override
+    public void copyTaskManager(String oldPath, String newPath) throws IOException {
+        super.copyTaskManager(oldPath, newPath);
+        File oldLogFile = getLogFile(oldPath);
+        if (oldLogFile.exists()) {
+            Files.copy(oldLogFile.toPath(), getLogFile(newPath).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(getLogFile(newPath).toPath());
+        }
+    }
+
+    /**
+     * Writes {@code taskManager} as a new snapshot at {@code filePath} and then empties its log.
+     */
+    private void writeSnapshot(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+        this.savedFilePath = null;
+        super.saveTaskManager(taskManager, filePath);
+        Files.deleteIfExists(getLogFile(filePath).toPath());
+        this.savedFilePath = filePath;
+    }
+
+    /**
+     * Adds the records of {@code change} in the order the change is applied, so that replaying them
+     * makes the same change.
+     */
+    private static void addRecords(List<String> records, TaskManagerChange change) {
+        for (Tag tag : change.getRemovedTags()) {
+            records.add(REMOVE_TAG + FIELD_SEPARATOR + tag.tagName);
+        }
+        for (ReadOnlyTask task : change.getRemovedTasks()) {
+            records.add(REMOVE_TASK + FIELD_SEPARATOR + toRecord(task));
+        }
+        for (ReadOnlyTask task : change.getAddedTasks()) {
+            records.add(ADD_TASK + FIELD_SEPARATOR + toRecord(task));
+        }
+        for (Tag tag : change.getAddedTags()) {
+            records.add(ADD_TAG + FIELD_SEPARATOR + tag.tagName);
+        }
+    }
+
+    private static void appendToLog(File logFile, List<String> changes) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(logFile, true);
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            for (String change : changes) {
+                writer.write(change);
+                writer.write('\n');
+            }
+            writer.flush();
+            out.getChannel().force(false);
+        }
+    }
+
+    // ================ Replaying ==============================
+
+    /**
+     * Applies every record in {@code logFile} to {@code taskManager} in order.
+     * A last record that cannot be parsed is assumed to be cut off by a crash and is ignored.
+     */
+    private static void replayLog(File logFile, TaskManager taskManager) throws DataConversionException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(logFile), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                String next = reader.readLine();
+                try {
+                    applyRecord(line, taskManager);
+                } catch (IllegalValueException | IllegalArgumentException e) {
+                    if (next != null) {
+                        throw new DataConversionException(e);
+                    }
+                    logger.warning("Ignoring incomplete last record in " + logFile);
+                }
+                line = next;
+            }
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    private static void applyRecord(String record, TaskManager taskManager) throws IllegalValueException {
+        List<String> fields = splitFields(record);
+        switch (fields.get(0)) {
+        case ADD_TASK:
+            Task toAdd = toTask(fields);
+            // replaces the task if the record was already applied
+            taskManager.removeTask(toAdd);
+            taskManager.addTask(toAdd);
+            break;
+        case REMOVE_TASK:
+            taskManager.removeTask(toTask(fields));
+            break;
+        case ADD_TAG:
+            taskManager.mergeTags(Collections.singleton(toTag(fields)));
+            break;
+        case REMOVE_TAG:
+            taskManager.removeTags(Collections.singleton(toTag(fields)));
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown record type " + fields.get(0));
+        }
+    }
+
+    private static Task toTask(List<String> fields) throws IllegalValueException {
+        if (fields.size() != TASK_FIELD_COUNT) {
+            throw new IllegalArgumentException("Task record has " + fields.size() + " fields");
+        }
+        List<String> tagNames = new ArrayList<>();
+        if (!fields.get(7).isEmpty()) {
+            Collections.addAll(tagNames, fields.get(7).split(TAG_SEPARATOR));
+        }
+        return new XmlAdaptedTask(fields.get(1), fields.get(2), fields.get(3), Boolean.parseBoolean(fields.get(4)),
+                fields.get(5), fields.get(6), tagNames).toModelType();
+    }
+
+    private static Tag toTag(List<String> fields) throws IllegalValueException {
+        if (fields.size() != 2) {
+            throw new IllegalArgumentException("Tag record has " + fields.size() + " fields");
+        }
+        return Tag.of(fields.get(1));
+    }
+
+    // ================ Encoding ==============================
+
+    /**
+     * Encodes every field of {@code task}, so that a change to any field gives a different record.
+     */
+    private static String toRecord(ReadOnlyTask task) {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : task.getTagSet()) {
+            tagNames.add(tag.tagName);
+        }
+        Collections.sort(tagNames);
+        StringBuilder builder = new StringBuilder();
+        appendField(builder, task.getName().fullName);
+        appendField(builder, task.getPriority().value);
+        appendField(builder, task.getDescription().value);
+        appendField(builder, Boolean.toString(task.getIsDone()));
+        appendField(builder, task.hasStartTime() ? XmlAdaptedTask.toStoredStartTime(task) : "");
+        appendField(builder, task.hasEndTime() ? XmlAdaptedTask.toStoredDeadline(task) : "");
+        builder.append(String.join(TAG_SEPARATOR, tagNames));
+        return builder.toString();
+    }
+
+    private static void appendField(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '\\':
+                builder.append("\\\\");
+                break;
+            case '\t':
+                builder.append("\\t");
+                break;
+            case '\n':
+                builder.append("\\n");
+                break;
+            case '\r':
+                builder.append("\\r");
+                break;
+            default:
+                builder.append(c);
+            }
+        }
+        builder.append(FIELD_SEPARATOR);
+    }
+
+    private static List<String> splitFields(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i + 1 < record.length()) {
+                char escaped = record.charAt(++i);
+                field.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
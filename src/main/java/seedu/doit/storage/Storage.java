@@ -1,6 +1,8 @@
 package seedu.doit.storage;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.doit.commons.events.model.TaskManagerChangedEvent;
@@ -10,6 +12,7 @@ import seedu.doit.commons.events.storage.TaskManagerSaveChangedEvent;
 import seedu.doit.commons.exceptions.DataConversionException;
 import seedu.doit.model.ReadOnlyTaskManager;
 import seedu.doit.model.UserPrefs;
+import seedu.doit.model.item.Task;
 
 /**
  * API of the Storage component
@@ -38,6 +41,19 @@ public interface Storage extends TaskManagerStorage, UserPrefsStorage {
      */
     void handleTaskManagerChangedEvent(TaskManagerChangedEvent abce);
 
+    // @@author A0138909R
+    /**
+     * Writes any task manager changes that are still waiting to be saved, and
+     * waits until they are on the hard disk.
+     */
+    void flushTaskManager();
+
+    /**
+     * Writes any task manager changes that are still waiting to be saved, and
+     * stops saving in the background. Called once, when the app stops.
+     */
+    void shutdown();
+
     // @@author A0138909R
     /**
      * Creates a new file path for the Task Manager to save. Saves the current
@@ -51,5 +67,13 @@ public interface Storage extends TaskManagerStorage, UserPrefsStorage {
      * Loads an existing file path for the Task Manager.
      */
     void handleTaskManagerLoadChangedEvent(TaskManagerLoadChangedEvent event);
+
+    /**
+     * Reads the tasks to import from the CSV, iCalendar or task manager data file at {@code filePath}.
+     *
+     * @throws FileNotFoundException   if there is no file at {@code filePath}.
+     * @throws DataConversionException if the file is not in the expected format, or a task in it is invalid.
+     */
+    List<Task> importTasks(String filePath) throws DataConversionException, IOException;
     // @@author
 }
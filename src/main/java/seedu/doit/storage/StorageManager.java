@@ -1,6 +1,11 @@
 package seedu.doit.storage;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -16,7 +21,9 @@ import seedu.doit.commons.events.storage.TaskManagerSaveChangedEvent;
 import seedu.doit.commons.exceptions.DataConversionException;
 import seedu.doit.commons.util.ConfigUtil;
 import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManagerChange;
 import seedu.doit.model.UserPrefs;
+import seedu.doit.model.item.Task;
 
 /**
  * Manages storage of TaskManager data in local storage.
@@ -24,9 +31,12 @@ import seedu.doit.model.UserPrefs;
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    // guarded by this, as the autosave thread saves through it while the path can change on the UI thread
     private TaskManagerStorage taskManagerStorage;
     private UserPrefsStorage userPrefsStorage;
     private Config config;
+    // saves in the background when set, otherwise saves synchronously
+    private TaskManagerAutosaver autosaver;
 
     public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage, Config config) {
         super();
@@ -36,15 +46,68 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     public StorageManager(String taskManagerFilePath, String userPrefsFilePath) {
-        this(new XmlTaskManagerStorage(taskManagerFilePath), new JsonUserPrefsStorage(userPrefsFilePath), new Config());
+        this(new XmlStreamTaskManagerStorage(taskManagerFilePath), new JsonUserPrefsStorage(userPrefsFilePath), new Config());
         this.config.setTaskManagerFilePath(taskManagerFilePath);
         this.config.setUserPrefsFilePath(userPrefsFilePath);
     }
 
+    /**
+     * Creates a StorageManager that saves task manager changes in the background,
+     * as configured by the autosave settings in {@code config}.
+     */
     public StorageManager(Config config) {
-        this(config.getTaskManagerFilePath(), config.getUserPrefsFilePath());
+        this(createTaskManagerStorage(config), new JsonUserPrefsStorage(config.getUserPrefsFilePath()), config);
+        // saves through this manager, so that it follows changes to the data file and its format
+        this.autosaver = new TaskManagerAutosaver(this,
+            e -> raise(new DataSavingExceptionEvent(e)), config.getAutosaveDebounceMillis(),
+            config.getAutosaveMaxDelayMillis());
     }
 
+    // @@author A0138909R
+    /**
+     * Creates the task manager storage for the storage format chosen in {@code config}.
+     */
+    private static TaskManagerStorage createTaskManagerStorage(Config config) {
+        return createTaskManagerStorage(config.getTaskManagerFilePath(), config);
+    }
+
+    /**
+     * Creates the task manager storage for the data file at {@code filePath}.
+     * Binary data files are chosen by their file extension, other files use the
+     * storage format chosen in {@code config}.
+     */
+    private static TaskManagerStorage createTaskManagerStorage(String filePath, Config config) {
+        if (BinaryTaskManagerStorage.isBinaryFile(filePath)) {
+            return new BinaryTaskManagerStorage(filePath, config.getDataFileGenerations());
+        }
+        switch (config.getTaskManagerStorageFormat()) {
+        case Config.STORAGE_FORMAT_LOG:
+            return new LogTaskManagerStorage(filePath, config.getDataFileGenerations(),
+                config.getLogCompactionThresholdBytes());
+        case Config.STORAGE_FORMAT_XML:
+            // fallthrough
+        default:
+            return new XmlStreamTaskManagerStorage(filePath, config.getDataFileGenerations());
+        }
+    }
+
+    /**
+     * Returns the current task manager storage if it reads and writes files in the
+     * format of {@code filePath}, or a new storage for that format otherwise.
+     */
+    private TaskManagerStorage getStorageFor(String filePath) {
+        if (isSameFormat(filePath, this.taskManagerStorage.getTaskManagerFilePath())) {
+            return this.taskManagerStorage;
+        }
+        return createTaskManagerStorage(filePath, this.config);
+    }
+
+    private static boolean isSameFormat(String filePath, String otherFilePath) {
+        return BinaryTaskManagerStorage.isBinaryFile(filePath)
+            == BinaryTaskManagerStorage.isBinaryFile(otherFilePath);
+    }
+    // @@author
+
     public Config getConfig() {
         return this.config;
     }
@@ -63,44 +126,73 @@ public class StorageManager extends ComponentManager implements Storage {
 
     // ================ TaskManager methods ==============================
     @Override
-    public String getTaskManagerFilePath() {
+    public synchronized String getTaskManagerFilePath() {
         return this.taskManagerStorage.getTaskManagerFilePath();
     }
 
     @Override
-    public Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
+    public synchronized Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
         return readTaskManager(this.taskManagerStorage.getTaskManagerFilePath());
     }
 
     @Override
-    public Optional<ReadOnlyTaskManager> readTaskManager(String filePath) throws DataConversionException, IOException {
+    public synchronized Optional<ReadOnlyTaskManager> readTaskManager(String filePath)
+            throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return this.taskManagerStorage.readTaskManager(filePath);
+        return getStorageFor(filePath).readTaskManager(filePath);
     }
 
     @Override
-    public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
+    public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
         saveTaskManager(taskManager, this.taskManagerStorage.getTaskManagerFilePath());
     }
 
     @Override
-    public void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+    public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        this.taskManagerStorage.saveTaskManager(taskManager, filePath);
+        getStorageFor(filePath).saveTaskManager(taskManager, filePath);
     }
 
+    // @@author A0138909R
+    @Override
+    public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, List<TaskManagerChange> changes,
+            String filePath) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + filePath);
+        getStorageFor(filePath).saveTaskManager(taskManager, changes, filePath);
+    }
+    // @@author
+
     @Override
     @Subscribe
     public void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event,
                 "Local data changed, saving to file" + this.config.getTaskManagerFilePath()));
+        if (this.autosaver != null) {
+            this.autosaver.requestSave(event.data, event.change);
+            return;
+        }
         try {
-            saveTaskManager(event.data);
+            List<TaskManagerChange> changes = event.change == null ? null : Collections.singletonList(event.change);
+            saveTaskManager(event.data, changes, getTaskManagerFilePath());
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    @Override
+    public void flushTaskManager() {
+        if (this.autosaver != null) {
+            this.autosaver.flush();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (this.autosaver != null) {
+            this.autosaver.shutdown();
+        }
+    }
+
     // @@author A0138909R
     @Override
     @Subscribe
@@ -108,12 +200,16 @@ public class StorageManager extends ComponentManager implements Storage {
         String newPath = event.getFilePath();
         logger.info(LogsCenter.getEventHandlingLogMessage(event,
                 "Directory changed, saving to new directory at: " + newPath));
+        // pending changes belong to the old file
+        flushTaskManager();
         String oldPath = this.config.getTaskManagerFilePath();
         this.config.setTaskManagerFilePath(newPath);
         setTaskManagerFilePath(newPath);
         try {
             copyTaskManager(oldPath, newPath);
             ConfigUtil.saveConfig(this.config, Config.DEFAULT_CONFIG_FILE);
+            // the copy already holds the flushed data, and saving it again would keep a duplicate generation
+            return;
         } catch (IOException ioe) {
             this.config.setTaskManagerFilePath(oldPath);
             setTaskManagerFilePath(oldPath);
@@ -133,6 +229,8 @@ public class StorageManager extends ComponentManager implements Storage {
         String newPath = event.getFilePath();
         logger.info(LogsCenter.getEventHandlingLogMessage(event,
                 "Directory changed, saving to new directory at: " + newPath));
+        // pending changes belong to the old file
+        flushTaskManager();
         String oldPath = this.config.getTaskManagerFilePath();
         this.config.setTaskManagerFilePath(newPath);
         setTaskManagerFilePath(newPath);
@@ -147,13 +245,36 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     @Override
-    public void setTaskManagerFilePath(String filePath) {
+    public List<Task> importTasks(String filePath) throws DataConversionException, IOException {
+        logger.fine("Attempting to import tasks from file: " + filePath);
+        return TaskImporter.readTasks(filePath);
+    }
+
+    @Override
+    public synchronized void setTaskManagerFilePath(String filePath) {
+        this.taskManagerStorage = getStorageFor(filePath);
         this.taskManagerStorage.setTaskManagerFilePath(filePath);
     }
 
     @Override
-    public void copyTaskManager(String oldPath, String newPath) throws IOException {
-        this.taskManagerStorage.copyTaskManager(oldPath, newPath);
+    public synchronized void copyTaskManager(String oldPath, String newPath) throws IOException {
+        if (isSameFormat(oldPath, newPath)) {
+            getStorageFor(newPath).copyTaskManager(oldPath, newPath);
+            return;
+        }
+        // the file has to be converted into the format of the new file
+        try {
+            Optional<ReadOnlyTaskManager> data = createTaskManagerStorage(oldPath, this.config)
+                .readTaskManager(oldPath);
+            if (!data.isPresent()) {
+                throw new FileNotFoundException("TaskManager file " + oldPath + " not found");
+            }
+            // replaces the new file like a copy would, rather than keeping it as a generation
+            Files.deleteIfExists(Paths.get(newPath));
+            getStorageFor(newPath).saveTaskManager(data.get(), newPath);
+        } catch (DataConversionException dce) {
+            throw new IOException("Error when converting " + oldPath, dce);
+        }
     }
     // @@author
 }
@@ -0,0 +1,482 @@
+package seedu.doit.storage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.doit.commons.core.LogsCenter;
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.commons.exceptions.IllegalValueException;
+import seedu.doit.logic.parser.DateTimeParser;
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.item.Priority;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+
+//@@author A0138909R
+/**
+ * Reads tasks to import from a CSV file, an iCalendar (.ics) file or a DoIt data file.
+ * The format of each file is chosen by its file extension.
+ * <p>
+ * The CSV and iCalendar readers only split the file into the raw values of each task. The raw
+ * values are then validated and turned into tasks in parallel, since parsing dates and checking
+ * names dominates the cost of a large import. If any task is invalid, nothing is imported.
+ * <p>
+ * A CSV file starts with a header row naming its columns, in any order: {@code name} is required,
+ * while {@code priority}, {@code start}, {@code end} (or {@code deadline}), {@code description},
+ * {@code tags} (separated by spaces) and {@code done} are optional. Other columns are ignored.
+ * <p>
+ * An iCalendar file gives a task for each {@code VEVENT} and {@code VTODO}, from its SUMMARY,
+ * DESCRIPTION, DTSTART, DTEND or DUE, PRIORITY, CATEGORIES and STATUS. Only the first occurrence
+ * of a recurring event is imported. Characters that DoIt does not allow in names and tags are
+ * left out, as calendars written by other applications use them freely.
+ */
+public class TaskImporter {
+
+    public static final String CSV_FILE_TYPE = ".csv";
+    public static final String ICS_FILE_TYPE = ".ics";
+    public static final String MESSAGE_INVALID_START_TIME = "Start Time cannot be earlier then End Time!";
+
+    private static final Logger logger = LogsCenter.getLogger(TaskImporter.class);
+
+    private static final String CSV_NAME = "name";
+    private static final String CSV_PRIORITY = "priority";
+    private static final String CSV_START = "start";
+    private static final String CSV_END = "end";
+    private static final String CSV_DEADLINE = "deadline";
+    private static final String CSV_DESCRIPTION = "description";
+    private static final String CSV_TAGS = "tags";
+    private static final String CSV_DONE = "done";
+    private static final List<String> CSV_DONE_VALUES = Arrays.asList("true", "yes", "done", "x");
+    private static final Pattern TAG_SEPARATOR_PATTERN = Pattern.compile("[\\s;]+");
+
+    // the format in which tasks are stored, so that converted dates take the fast path when parsed
+    private static final DateTimeFormatter ICS_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter ICS_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Pattern ICS_NAME_DISALLOWED_PATTERN = Pattern.compile("[^a-zA-Z0-9_\\s-]+");
+    private static final Pattern ICS_TAG_DISALLOWED_PATTERN = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private TaskImporter() {
+    }
+
+    /**
+     * Returns the tasks in the file at {@code filePath}, in the order they appear in the file.
+     *
+     * @throws FileNotFoundException   if there is no file at {@code filePath}.
+     * @throws DataConversionException if the file is not in the expected format, or a task in it is invalid.
+     */
+    public static List<Task> readTasks(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+        String lowerCasePath = filePath.toLowerCase(Locale.ROOT);
+        if (!lowerCasePath.endsWith(CSV_FILE_TYPE) && !lowerCasePath.endsWith(ICS_FILE_TYPE)) {
+            ReadOnlyTaskManager data = TaskManagerFileConverter.getStorageFor(filePath).readTaskManager(filePath)
+                    .orElseThrow(() -> new FileNotFoundException("File not found : " + filePath));
+            List<Task> tasks = new ArrayList<>(data.getTaskList().size());
+            for (ReadOnlyTask task : data.getTaskList()) {
+                tasks.add(new Task(task));
+            }
+            return tasks;
+        }
+
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            throw new FileNotFoundException("File not found : " + filePath);
+        }
+        logger.info("Importing tasks from " + filePath);
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            List<RawTask> rawTasks = lowerCasePath.endsWith(CSV_FILE_TYPE) ? readCsv(reader) : readIcs(reader);
+            return toTasks(rawTasks);
+        }
+    }
+
+    /**
+     * Validates the raw tasks and converts them in parallel, keeping their order.
+     *
+     * @throws DataConversionException if any raw task is invalid, naming the line it came from.
+     */
+    static List<Task> toTasks(List<RawTask> rawTasks) throws DataConversionException {
+        try {
+            return rawTasks.parallelStream().map(RawTask::toTask).collect(Collectors.toList());
+        } catch (InvalidRawTaskException e) {
+            throw new DataConversionException(e.getCause());
+        }
+    }
+
+    //// CSV
+
+    /**
+     * Splits CSV text into raw tasks, reading the column names from its header row.
+     */
+    static List<RawTask> readCsv(Reader reader) throws IOException, DataConversionException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return Collections.emptyList();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = header.size() - 1; i >= 0; i--) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey(CSV_NAME)) {
+            throw new DataConversionException(new IllegalValueException("The CSV header has no name column"));
+        }
+        Integer endColumn = columns.containsKey(CSV_END) ? columns.get(CSV_END) : columns.get(CSV_DEADLINE);
+
+        List<RawTask> rawTasks = new ArrayList<>();
+        int line = csv.getLineNumber() + 1;
+        for (List<String> record = csv.readRecord(); record != null; record = csv.readRecord()) {
+            if (!(record.size() == 1 && record.get(0).trim().isEmpty())) {
+                String priority = getField(record, columns.get(CSV_PRIORITY));
+                String tags = getField(record, columns.get(CSV_TAGS));
+                rawTasks.add(new RawTask(line,
+                        getField(record, columns.get(CSV_NAME)),
+                        priority.isEmpty() ? Priority.PRIORITY_LOW : priority,
+                        getField(record, columns.get(CSV_DESCRIPTION)),
+                        CSV_DONE_VALUES.contains(getField(record, columns.get(CSV_DONE)).toLowerCase(Locale.ROOT)),
+                        getField(record, columns.get(CSV_START)),
+                        getField(record, endColumn),
+                        tags.isEmpty() ? Collections.emptyList() : Arrays.asList(TAG_SEPARATOR_PATTERN.split(tags))));
+            }
+            line = csv.getLineNumber() + 1;
+        }
+        return rawTasks;
+    }
+
+    private static String getField(List<String> record, Integer column) {
+        return column == null || column >= record.size() ? "" : record.get(column).trim();
+    }
+
+    /**
+     * Reads the records of CSV text as in RFC 4180, where fields may be quoted to hold commas,
+     * line breaks and quotes written twice.
+     */
+    private static class CsvReader {
+        private final Reader reader;
+        private int lineNumber;
+        private int next;
+
+        CsvReader(Reader reader) throws IOException {
+            this.reader = reader;
+            this.next = reader.read();
+        }
+
+        /**
+         * Returns the number of lines read so far.
+         */
+        int getLineNumber() {
+            return this.lineNumber;
+        }
+
+        /**
+         * Returns the fields of the next record, or null at the end of the text.
+         */
+        List<String> readRecord() throws IOException {
+            if (this.next == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean isQuoted = false;
+            while (this.next != -1) {
+                char c = (char) this.next;
+                this.next = this.reader.read();
+                if (isQuoted) {
+                    if (c == '"' && this.next == '"') {
+                        field.append('"');
+                        this.next = this.reader.read();
+                    } else if (c == '"') {
+                        isQuoted = false;
+                    } else {
+                        if (c == '\n') {
+                            this.lineNumber++;
+                        }
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    isQuoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    this.lineNumber++;
+                    break;
+                } else if (c != '\r') {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    //// iCalendar
+
+    /**
+     * Splits iCalendar text into raw tasks, one for each event and to-do.
+     */
+    static List<RawTask> readIcs(BufferedReader reader) throws IOException {
+        List<RawTask> rawTasks = new ArrayList<>();
+        Map<String, IcsProperty> properties = null;
+        int componentLine = 0;
+        // the depth of components nested in the current event or to-do, such as alarms
+        int nestedDepth = 0;
+        for (IcsProperty property : unfold(reader)) {
+            if (property.name.equals("BEGIN")) {
+                if (properties != null) {
+                    nestedDepth++;
+                } else if (property.value.equalsIgnoreCase("VEVENT") || property.value.equalsIgnoreCase("VTODO")) {
+                    properties = new HashMap<>();
+                    componentLine = property.line;
+                }
+            } else if (property.name.equals("END") && properties != null) {
+                if (nestedDepth > 0) {
+                    nestedDepth--;
+                } else {
+                    rawTasks.add(toRawTask(componentLine, properties));
+                    properties = null;
+                }
+            } else if (properties != null && nestedDepth == 0) {
+                properties.putIfAbsent(property.name, property);
+            }
+        }
+        return rawTasks;
+    }
+
+    private static RawTask toRawTask(int line, Map<String, IcsProperty> properties) {
+        String name = getText(properties.get("SUMMARY"));
+        name = WHITESPACE_PATTERN.matcher(ICS_NAME_DISALLOWED_PATTERN.matcher(name).replaceAll(" "))
+                .replaceAll(" ").trim();
+        String start = getDateTime(properties.get("DTSTART"));
+        String end = getDateTime(properties.containsKey("DTEND") ? properties.get("DTEND") : properties.get("DUE"));
+        String status = getText(properties.get("STATUS"));
+        boolean isDone = status.equalsIgnoreCase("COMPLETED") || properties.containsKey("COMPLETED");
+
+        List<String> tags = new ArrayList<>();
+        IcsProperty categories = properties.get("CATEGORIES");
+        if (categories != null) {
+            for (String category : categories.value.split("(?<!\\\\),")) {
+                String tag = ICS_TAG_DISALLOWED_PATTERN.matcher(unescape(category)).replaceAll("");
+                if (!tag.isEmpty()) {
+                    tags.add(tag);
+                }
+            }
+        }
+        return new RawTask(line, name, toPriority(getText(properties.get("PRIORITY"))),
+                getText(properties.get("DESCRIPTION")), isDone, start, end, tags);
+    }
+
+    /**
+     * Returns the priority for an iCalendar priority, where 1 to 4 is high, 5 is medium, and 6 to 9
+     * or no priority is low.
+     */
+    private static String toPriority(String icsPriority) {
+        int level;
+        try {
+            level = Integer.parseInt(icsPriority.trim());
+        } catch (NumberFormatException e) {
+            return Priority.PRIORITY_LOW;
+        }
+        if (level >= 1 && level <= 4) {
+            return Priority.PRIORITY_HIGH;
+        } else if (level == 5) {
+            return Priority.PRIORITY_MED;
+        }
+        return Priority.PRIORITY_LOW;
+    }
+
+    private static String getText(IcsProperty property) {
+        return property == null ? "" : unescape(property.value).trim();
+    }
+
+    private static String unescape(String text) {
+        StringBuilder unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char escaped = text.charAt(++i);
+                // descriptions are a single line in DoIt
+                unescaped.append(escaped == 'n' || escaped == 'N' ? ' ' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Returns the date and time of {@code property} in the local time zone, written the way tasks are stored,
+     * or the value unchanged for the task to reject if it is not an iCalendar date or date and time.
+     * A date without a time is taken to start at midnight.
+     */
+    private static String getDateTime(IcsProperty property) {
+        if (property == null) {
+            return "";
+        }
+        String value = property.value.trim();
+        try {
+            LocalDateTime dateTime;
+            if (value.length() == 8) {
+                dateTime = LocalDate.parse(value, ICS_DATE_FORMATTER).atStartOfDay();
+            } else if (value.endsWith("Z")) {
+                dateTime = LocalDateTime.parse(value.substring(0, value.length() - 1), ICS_DATE_TIME_FORMATTER)
+                        .atOffset(ZoneOffset.UTC).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } else if (property.parameters.containsKey("TZID")) {
+                dateTime = LocalDateTime.parse(value, ICS_DATE_TIME_FORMATTER)
+                        .atZone(ZoneId.of(property.parameters.get("TZID")))
+                        .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } else {
+                dateTime = LocalDateTime.parse(value, ICS_DATE_TIME_FORMATTER);
+            }
+            return DateTimeParser.formatStoredDateTime(dateTime);
+        } catch (DateTimeException e) {
+            return value;
+        }
+    }
+
+    /**
+     * Joins the folded lines of iCalendar text, where a line starting with a space or tab continues
+     * the line before it, and splits each line into a property.
+     */
+    private static List<IcsProperty> unfold(BufferedReader reader) throws IOException {
+        List<IcsProperty> properties = new ArrayList<>();
+        StringBuilder unfolded = null;
+        int unfoldedLine = 0;
+        int lineNumber = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            if (unfolded != null && !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t')) {
+                unfolded.append(line, 1, line.length());
+                continue;
+            }
+            if (unfolded != null) {
+                properties.add(IcsProperty.parse(unfoldedLine, unfolded.toString()));
+            }
+            unfolded = line.isEmpty() ? null : new StringBuilder(line);
+            unfoldedLine = lineNumber;
+        }
+        if (unfolded != null) {
+            properties.add(IcsProperty.parse(unfoldedLine, unfolded.toString()));
+        }
+        return properties;
+    }
+
+    /**
+     * A content line of an iCalendar file, such as {@code DTSTART;TZID=Asia/Singapore:20170321T090000}.
+     */
+    private static class IcsProperty {
+        final int line;
+        final String name;
+        final Map<String, String> parameters = new HashMap<>();
+        final String value;
+
+        private IcsProperty(int line, String name, String value) {
+            this.line = line;
+            this.name = name;
+            this.value = value;
+        }
+
+        static IcsProperty parse(int line, String text) {
+            int colon = indexOfUnquoted(text, ':');
+            String nameAndParameters = colon < 0 ? text : text.substring(0, colon);
+            String[] parts = nameAndParameters.split(";");
+            IcsProperty property = new IcsProperty(line, parts[0].trim().toUpperCase(Locale.ROOT),
+                    colon < 0 ? "" : text.substring(colon + 1));
+            for (int i = 1; i < parts.length; i++) {
+                int equals = parts[i].indexOf('=');
+                if (equals > 0) {
+                    property.parameters.put(parts[i].substring(0, equals).toUpperCase(Locale.ROOT),
+                            parts[i].substring(equals + 1).replace("\"", ""));
+                }
+            }
+            return property;
+        }
+
+        private static int indexOfUnquoted(String text, char target) {
+            boolean isQuoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    isQuoted = !isQuoted;
+                } else if (c == target && !isQuoted) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    //// raw tasks
+
+    /**
+     * The raw values of a task read from a file, with the line it starts on.
+     */
+    static class RawTask {
+        private final int line;
+        private final String name;
+        private final XmlAdaptedTask adaptedTask;
+
+        RawTask(int line, String name, String priority, String description, boolean isDone, String startTime,
+                String deadline, List<String> tagNames) {
+            this.line = line;
+            this.name = name;
+            this.adaptedTask = new XmlAdaptedTask(name, priority, description, isDone, startTime, deadline,
+                    tagNames);
+        }
+
+        /**
+         * Returns the task with these values.
+         *
+         * @throws InvalidRawTaskException if any value is invalid, or the task starts after it ends.
+         */
+        Task toTask() {
+            try {
+                Task task = this.adaptedTask.toModelType();
+                if (task.hasStartTime() && task.hasEndTime()
+                        && !task.getStartTime().getDateTimeObject().isBefore(task.getDeadline().getDateTimeObject())) {
+                    throw new IllegalValueException(MESSAGE_INVALID_START_TIME);
+                }
+                return task;
+            } catch (IllegalValueException e) {
+                throw new InvalidRawTaskException(new IllegalValueException(
+                        "Line " + this.line + " (" + this.name + "): " + e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Carries an invalid raw task out of the parallel conversion.
+     */
+    private static class InvalidRawTaskException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        InvalidRawTaskException(IllegalValueException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalValueException getCause() {
+            return (IllegalValueException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.doit.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.doit.commons.core.LogsCenter;
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManagerChange;
+import seedu.doit.model.TaskManagerSnapshot;
+
+//@@author A0138909R
+/**
+ * Saves the task manager on a background thread, coalescing bursts of save
+ * requests into a single write.
+ * <p>
+ * A save is written once no new request has arrived for the debounce window,
+ * but never later than the max delay after the first unsaved request.
+ * The changes of the coalesced requests are passed on together, so that a
+ * storage can write only what changed since the previous save.
+ */
+public class TaskManagerAutosaver {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskManagerAutosaver.class);
+
+    private final TaskManagerStorage taskManagerStorage;
+    private final Consumer<IOException> onSaveFailure;
+    private final long debounceMillis;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService executor;
+
+    private ReadOnlyTaskManager pendingData;
+    // the changes made since the last save in order, or null if some of them are not known
+    private List<TaskManagerChange> pendingChanges;
+    private long firstPendingTime;
+    private ScheduledFuture<?> scheduledSave;
+
+    /**
+     * @param taskManagerStorage
+     *            the storage that the task manager is written to
+     * @param onSaveFailure
+     *            called on the background thread when a save fails
+     * @param debounceMillis
+     *            quiet period after the latest request before saving
+     * @param maxDelayMillis
+     *            longest time a request can wait before it is saved
+     */
+    public TaskManagerAutosaver(TaskManagerStorage taskManagerStorage, Consumer<IOException> onSaveFailure,
+            long debounceMillis, long maxDelayMillis) {
+        assert taskManagerStorage != null && onSaveFailure != null;
+        assert debounceMillis >= 0 && maxDelayMillis >= debounceMillis;
+        this.taskManagerStorage = taskManagerStorage;
+        this.onSaveFailure = onSaveFailure;
+        this.debounceMillis = debounceMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TaskManager autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code taskManager} to be saved after an unknown change.
+     *
+     * @see #requestSave(ReadOnlyTaskManager, TaskManagerChange)
+     */
+    public void requestSave(ReadOnlyTaskManager taskManager) {
+        requestSave(taskManager, null);
+    }
+
+    /**
+     * Schedules {@code taskManager} to be saved, replacing any save that has not been written yet.
+     * A snapshot is taken so that later changes to {@code taskManager} are not seen by the save.
+     *
+     * @param change
+     *            the change that was made to {@code taskManager}, or null if it is not known
+     */
+    public synchronized void requestSave(ReadOnlyTaskManager taskManager, TaskManagerChange change) {
+        long now = System.currentTimeMillis();
+        if (this.pendingData == null) {
+            this.pendingChanges = new ArrayList<>();
+        }
+        if (change == null) {
+            this.pendingChanges = null;
+        } else if (this.pendingChanges != null) {
+            this.pendingChanges.add(change);
+        }
+        this.pendingData = TaskManagerSnapshot.of(taskManager);
+        if (this.scheduledSave == null) {
+            this.firstPendingTime = now;
+        } else {
+            this.scheduledSave.cancel(false);
+        }
+        long delay = Math.min(this.debounceMillis, this.firstPendingTime + this.maxDelayMillis - now);
+        this.scheduledSave = this.executor.schedule(this::savePending, Math.max(0, delay), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes any pending save and waits until it, and any save already in progress, is on disk.
+     */
+    public void flush() {
+        try {
+            this.executor.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Autosave failed while flushing: " + e.getCause());
+        }
+    }
+
+    /**
+     * Flushes any pending save and stops the background thread.
+     */
+    public void shutdown() {
+        flush();
+        this.executor.shutdown();
+    }
+
+    private void savePending() {
+        ReadOnlyTaskManager data;
+        List<TaskManagerChange> changes;
+        synchronized (this) {
+            data = this.pendingData;
+            changes = this.pendingChanges;
+            this.pendingData = null;
+            this.pendingChanges = null;
+            this.scheduledSave = null;
+        }
+        if (data == null) {
+            return;
+        }
+        try {
+            this.taskManagerStorage.saveTaskManager(data, changes, this.taskManagerStorage.getTaskManagerFilePath());
+        } catch (IOException e) {
+            this.onSaveFailure.accept(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.doit.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import seedu.doit.commons.core.LogsCenter;
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.model.ReadOnlyTaskManager;
+
+//@@author A0138909R
+/**
+ * Converts TaskManager data files between the xml and the binary formats.
+ * The format of each file is chosen by its file extension.
+ * <p>
+ * Can be run on its own with {@code main SOURCE_FILE TARGET_FILE}.
+ */
+public class TaskManagerFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskManagerFileConverter.class);
+
+    private TaskManagerFileConverter() {
+    }
+
+    /**
+     * Returns a storage for the data file at {@code filePath}, in the format given by its file extension.
+     */
+    public static TaskManagerStorage getStorageFor(String filePath) {
+        if (BinaryTaskManagerStorage.isBinaryFile(filePath)) {
+            return new BinaryTaskManagerStorage(filePath);
+        }
+        return new XmlStreamTaskManagerStorage(filePath);
+    }
+
+    /**
+     * Reads the data file at {@code sourcePath} and writes the same data to {@code targetPath}.
+     *
+     * @throws FileNotFoundException
+     *             if there is no data file at {@code sourcePath}.
+     * @throws DataConversionException
+     *             if the data file at {@code sourcePath} is not in the expected format.
+     */
+    public static void convert(String sourcePath, String targetPath) throws DataConversionException, IOException {
+        assert sourcePath != null && targetPath != null;
+        logger.info("Converting " + sourcePath + " to " + targetPath);
+        ReadOnlyTaskManager data = getStorageFor(sourcePath).readTaskManager()
+                .orElseThrow(() -> new FileNotFoundException("File not found : " + sourcePath));
+        getStorageFor(targetPath).saveTaskManager(data);
+    }
+
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: TaskManagerFileConverter SOURCE_FILE TARGET_FILE");
+            System.exit(1);
+        }
+        convert(args[0], args[1]);
+    }
+}
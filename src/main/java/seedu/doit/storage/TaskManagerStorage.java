@@ -1,11 +1,13 @@
 package seedu.doit.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.doit.commons.exceptions.DataConversionException;
 import seedu.doit.model.ReadOnlyTaskManager;
 import seedu.doit.model.TaskManager;
+import seedu.doit.model.TaskManagerChange;
 
 /**
  * Represents a storage for {@link TaskManager}.
@@ -54,6 +56,21 @@ public interface TaskManagerStorage {
      */
     void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException;
 
+    // @@author A0138909R
+    /**
+     * Saves {@code taskManager}, which differs from the data last read from or saved to {@code filePath}
+     * by {@code changes} made in order. Storages that can write only the changes do so, the others save
+     * the whole task manager.
+     *
+     * @param changes
+     *            the changes since the last save, or null if they are not known.
+     * @see #saveTaskManager(ReadOnlyTaskManager)
+     */
+    default void saveTaskManager(ReadOnlyTaskManager taskManager, List<TaskManagerChange> changes, String filePath)
+            throws IOException {
+        saveTaskManager(taskManager, filePath);
+    }
+
     // @@author A0138909R
     /**
      * Copies the file in oldPath to file in newPath
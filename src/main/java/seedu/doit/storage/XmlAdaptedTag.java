@@ -35,7 +35,7 @@ public class XmlAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted task
      */
     public Tag toModelType() throws IllegalValueException {
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
 }
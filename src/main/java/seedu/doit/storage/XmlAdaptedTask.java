@@ -1,11 +1,14 @@
 package seedu.doit.storage;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.doit.commons.exceptions.IllegalValueException;
+import seedu.doit.logic.parser.DateTimeParser;
 import seedu.doit.model.item.Description;
 import seedu.doit.model.item.EndTime;
 import seedu.doit.model.item.Name;
@@ -45,6 +48,25 @@ public class XmlAdaptedTask {
     }
 
     // @@author A0138909R
+    /**
+     * Constructs an XmlAdaptedTask from the raw values of a task element, used
+     * when reading the data file one element at a time.
+     */
+    XmlAdaptedTask(String name, String priority, String description, boolean isDone, String startTime,
+            String deadline, List<String> tagNames) {
+        this.name = name;
+        this.priority = priority;
+        this.description = description;
+        this.isDone = isDone;
+        this.startTime = startTime;
+        this.deadline = deadline;
+        for (String tagName : tagNames) {
+            XmlAdaptedTag tag = new XmlAdaptedTag();
+            tag.tagName = tagName;
+            this.tagged.add(tag);
+        }
+    }
+    // @@author
 
     /**
      * Converts a given Task into this class for JAXB use.
@@ -55,19 +77,11 @@ public class XmlAdaptedTask {
     public XmlAdaptedTask(ReadOnlyTask source) {
         this.name = source.getName().fullName;
         this.priority = source.getPriority().value;
-        if (source.hasStartTime()) {
-            this.startTime = source.getStartTime().value;
-        } else {
-            this.startTime = null;
-        }
-        if (source.hasEndTime()) {
-            this.deadline = source.getDeadline().value;
-        } else {
-            this.deadline = null;
-        }
+        this.startTime = toStoredStartTime(source);
+        this.deadline = toStoredDeadline(source);
         this.description = source.getDescription().value;
         this.tagged = new ArrayList<>();
-        for (Tag tag : source.getTags()) {
+        for (Tag tag : source.getTagSet()) {
             this.tagged.add(new XmlAdaptedTag(tag));
         }
         this.isDone = source.getIsDone();
@@ -94,12 +108,51 @@ public class XmlAdaptedTask {
         }
 
         final Name name = new Name(this.name);
-        final Priority priority = new Priority(this.priority);
-        final StartTime startTime = new StartTime(this.startTime);
-        final EndTime deadline = new EndTime(this.deadline);
+        final Priority priority = Priority.of(this.priority);
+        final StartTime startTime = toStartTime(this.startTime);
+        final EndTime deadline = toEndTime(this.deadline);
         final Description description = new Description(this.description);
         final UniqueTagList tags = new UniqueTagList(taskTags);
         return new Task(name, priority, startTime, deadline, description, tags, this.isDone);
     }
+
+    // @@author A0138909R
+    /**
+     * Returns the start time of {@code task} in the format it is stored in, or null if it has none.
+     */
+    static String toStoredStartTime(ReadOnlyTask task) {
+        return task.hasStartTime() ? DateTimeParser.formatStoredDateTime(task.getStartTime().getDateTimeObject()) : null;
+    }
+
+    /**
+     * Returns the deadline of {@code task} in the format it is stored in, or null if it has none.
+     */
+    static String toStoredDeadline(ReadOnlyTask task) {
+        return task.hasEndTime() ? DateTimeParser.formatStoredDateTime(task.getDeadline().getDateTimeObject()) : null;
+    }
+
+    /**
+     * Converts a stored start time, only falling back to the natural language date parser
+     * if it is not in the format written by the application.
+     */
+    private static StartTime toStartTime(String value) throws IllegalValueException {
+        if (value.equals(StartTime.NO_START_TIME)) {
+            return new StartTime();
+        }
+        Optional<LocalDateTime> dateTime = DateTimeParser.parseStoredDateTime(value);
+        return dateTime.isPresent() ? new StartTime(dateTime.get()) : new StartTime(value);
+    }
+
+    /**
+     * Converts a stored deadline, only falling back to the natural language date parser
+     * if it is not in the format written by the application.
+     */
+    private static EndTime toEndTime(String value) throws IllegalValueException {
+        if (value.equals(EndTime.NO_END_TIME)) {
+            return new EndTime();
+        }
+        Optional<LocalDateTime> dateTime = DateTimeParser.parseStoredDateTime(value);
+        return dateTime.isPresent() ? new EndTime(dateTime.get()) : new EndTime(value);
+    }
     // @@author
 }
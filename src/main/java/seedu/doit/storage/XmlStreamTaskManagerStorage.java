@@ -0,0 +1,258 @@
+package seedu.doit.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.commons.exceptions.IllegalValueException;
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManager;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.tag.Tag;
+
+//@@author A0138909R
+/**
+ * A class to access TaskManager data stored as an xml file on the hard disk,
+ * reading and writing one task element at a time with StAX instead of
+ * building the whole document with JAXB.
+ * The file format is the same as the one written by {@link XmlTaskManagerStorage}.
+ */
+public class XmlStreamTaskManagerStorage extends XmlTaskManagerStorage {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String XSI_NAMESPACE = "http://www.w3.org/2001/XMLSchema-instance";
+    private static final String XSI_PREFIX = "xsi";
+    private static final String INDENT = "    ";
+    private static final String NEW_LINE = "\n";
+
+    private static final String ROOT_ELEMENT = "taskmanager";
+    private static final String TASK_ELEMENT = "tasks";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String NAME_ELEMENT = "name";
+    private static final String PRIORITY_ELEMENT = "priority";
+    private static final String DESCRIPTION_ELEMENT = "description";
+    private static final String IS_DONE_ELEMENT = "isDone";
+    private static final String START_TIME_ELEMENT = "startTime";
+    private static final String DEADLINE_ELEMENT = "deadline";
+    private static final String TASK_TAG_ELEMENT = "tagged";
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    static {
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public XmlStreamTaskManagerStorage(String filePath) {
+        super(filePath);
+    }
+
+    public XmlStreamTaskManagerStorage(String filePath, int generationsKept) {
+        super(filePath, generationsKept);
+    }
+
+    @Override
+    protected ReadOnlyTaskManager readTaskManagerFile(File taskManagerFile)
+            throws DataConversionException, FileNotFoundException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(taskManagerFile))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                return parseTaskManager(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (FileNotFoundException fnfe) {
+            throw fnfe;
+        } catch (XMLStreamException | IllegalValueException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    protected void writeTaskManagerFile(ReadOnlyTaskManager taskManager, File file) throws IOException {
+        try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            out.write(XML_DECLARATION);
+            out.write(NEW_LINE);
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out);
+            try {
+                writeTaskManager(writer, taskManager);
+                writer.flush();
+            } finally {
+                writer.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Error when writing " + file, e);
+        }
+    }
+
+    // ================ Reading ==============================
+
+    private static TaskManager parseTaskManager(XMLStreamReader reader)
+            throws XMLStreamException, IllegalValueException {
+        TaskManager taskManager = new TaskManager();
+        reader.nextTag();
+        if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new XMLStreamException("Unexpected root element " + reader.getLocalName(), reader.getLocation());
+        }
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case TASK_ELEMENT:
+                taskManager.addTask(parseTask(reader).toModelType());
+                break;
+            case TAG_ELEMENT:
+                taskManager.mergeTags(Collections.singleton(Tag.of(reader.getElementText())));
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+        return taskManager;
+    }
+
+    /**
+     * Reads the task element the reader is positioned at, leaving the reader at its end tag.
+     */
+    private static XmlAdaptedTask parseTask(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String priority = null;
+        String description = null;
+        boolean isDone = false;
+        String startTime = null;
+        String deadline = null;
+        List<String> tagNames = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case NAME_ELEMENT:
+                name = readNillableText(reader);
+                break;
+            case PRIORITY_ELEMENT:
+                priority = readNillableText(reader);
+                break;
+            case DESCRIPTION_ELEMENT:
+                description = readNillableText(reader);
+                break;
+            case IS_DONE_ELEMENT:
+                String isDoneText = reader.getElementText().trim();
+                isDone = "true".equals(isDoneText) || "1".equals(isDoneText);
+                break;
+            case START_TIME_ELEMENT:
+                startTime = readNillableText(reader);
+                break;
+            case DEADLINE_ELEMENT:
+                deadline = readNillableText(reader);
+                break;
+            case TASK_TAG_ELEMENT:
+                tagNames.add(reader.getElementText());
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+        return new XmlAdaptedTask(name, priority, description, isDone, startTime, deadline, tagNames);
+    }
+
+    /**
+     * Returns the text of the element the reader is positioned at, or null if it is marked as nil.
+     */
+    private static String readNillableText(XMLStreamReader reader) throws XMLStreamException {
+        boolean isNil = "true".equals(reader.getAttributeValue(XSI_NAMESPACE, "nil"));
+        String text = reader.getElementText();
+        return isNil ? null : text;
+    }
+
+    /**
+     * Skips over the element the reader is positioned at, including all its children.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    // ================ Writing ==============================
+
+    private static void writeTaskManager(XMLStreamWriter writer, ReadOnlyTaskManager taskManager)
+            throws XMLStreamException {
+        if (taskManager.getTaskList().isEmpty() && taskManager.getTagList().isEmpty()) {
+            writer.writeEmptyElement(ROOT_ELEMENT);
+            writer.writeCharacters(NEW_LINE);
+            return;
+        }
+        writer.writeStartElement(ROOT_ELEMENT);
+        for (ReadOnlyTask task : taskManager.getTaskList()) {
+            writeTask(writer, task);
+        }
+        for (Tag tag : taskManager.getTagList()) {
+            writeElement(writer, 1, TAG_ELEMENT, tag.tagName);
+        }
+        writer.writeCharacters(NEW_LINE);
+        writer.writeEndElement();
+        writer.writeCharacters(NEW_LINE);
+    }
+
+    private static void writeTask(XMLStreamWriter writer, ReadOnlyTask task) throws XMLStreamException {
+        writer.writeCharacters(NEW_LINE + INDENT);
+        writer.writeStartElement(TASK_ELEMENT);
+        writeElement(writer, 2, NAME_ELEMENT, task.getName().fullName);
+        writeElement(writer, 2, PRIORITY_ELEMENT, task.getPriority().value);
+        writeElement(writer, 2, DESCRIPTION_ELEMENT, task.getDescription().value);
+        writeElement(writer, 2, IS_DONE_ELEMENT, Boolean.toString(task.getIsDone()));
+        writeElement(writer, 2, START_TIME_ELEMENT, XmlAdaptedTask.toStoredStartTime(task));
+        writeElement(writer, 2, DEADLINE_ELEMENT, XmlAdaptedTask.toStoredDeadline(task));
+        for (Tag tag : task.getTagSet()) {
+            writeElement(writer, 2, TASK_TAG_ELEMENT, tag.tagName);
+        }
+        writer.writeCharacters(NEW_LINE + INDENT);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes a text element on its own line, or a nil element if {@code value} is null.
+     */
+    private static void writeElement(XMLStreamWriter writer, int depth, String element, String value)
+            throws XMLStreamException {
+        writer.writeCharacters(NEW_LINE);
+        for (int i = 0; i < depth; i++) {
+            writer.writeCharacters(INDENT);
+        }
+        if (value == null) {
+            writer.writeEmptyElement(element);
+            writer.writeNamespace(XSI_PREFIX, XSI_NAMESPACE);
+            writer.writeAttribute(XSI_PREFIX, XSI_NAMESPACE, "nil", "true");
+            return;
+        }
+        writer.writeStartElement(element);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+}
@@ -3,9 +3,13 @@ package seedu.doit.storage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -16,15 +20,35 @@ import seedu.doit.model.ReadOnlyTaskManager;
 
 /**
  * A class to access TaskManager data stored as an xml file on the hard disk.
+ * <p>
+ * Saves are written to a temporary file in the same directory, forced to disk and
+ * then renamed over the data file, so a failed save never leaves a partly written
+ * data file. The previous versions of the data file are kept as numbered generations
+ * ({@code taskmanager.xml.1} being the newest), and reading falls back to them if the
+ * data file is missing or cannot be read.
  */
 public class XmlTaskManagerStorage implements TaskManagerStorage {
 
+    public static final int DEFAULT_GENERATIONS_KEPT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(XmlTaskManagerStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     private String filePath;
+    private final int generationsKept;
 
     public XmlTaskManagerStorage(String filePath) {
+        this(filePath, DEFAULT_GENERATIONS_KEPT);
+    }
+
+    /**
+     * @param generationsKept
+     *            number of previous versions of the data file to keep
+     */
+    public XmlTaskManagerStorage(String filePath, int generationsKept) {
+        assert generationsKept >= 0;
         this.filePath = filePath;
+        this.generationsKept = generationsKept;
     }
 
     @Override
@@ -56,16 +80,58 @@ public class XmlTaskManagerStorage implements TaskManagerStorage {
         assert filePath != null;
 
         File taskManagerFile = new File(filePath);
-
-        if (!taskManagerFile.exists()) {
+        DataConversionException dataFileException = null;
+
+        if (taskManagerFile.exists()) {
+            try {
+                return Optional.of(readTaskManagerFile(taskManagerFile));
+            } catch (DataConversionException dce) {
+                logger.warning("TaskManager file " + taskManagerFile + " could not be read, trying older versions");
+                dataFileException = dce;
+            }
+        } else {
             logger.info("TaskManager file " + taskManagerFile + " not found");
-            return Optional.empty();
         }
 
-        ReadOnlyTaskManager taskManagerOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        // @@author A0138909R
+        for (int generation = 1; generation <= this.generationsKept; generation++) {
+            File generationFile = getGenerationFile(taskManagerFile, generation);
+            if (!generationFile.exists()) {
+                continue;
+            }
+            try {
+                ReadOnlyTaskManager taskManager = readTaskManagerFile(generationFile);
+                logger.warning("Recovered TaskManager data from " + generationFile);
+                return Optional.of(taskManager);
+            } catch (DataConversionException dce) {
+                logger.warning("TaskManager file " + generationFile + " could not be read");
+            }
+        }
+
+        if (dataFileException != null) {
+            throw dataFileException;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the task manager data in {@code file}.
+     *
+     * @throws DataConversionException
+     *             if the file is not in the correct format.
+     */
+    protected ReadOnlyTaskManager readTaskManagerFile(File file)
+            throws DataConversionException, FileNotFoundException {
+        return XmlFileStorage.loadDataFromSaveFile(file);
+    }
 
-        return Optional.of(taskManagerOptional);
+    /**
+     * Writes {@code taskManager} into {@code file}, which already exists.
+     */
+    protected void writeTaskManagerFile(ReadOnlyTaskManager taskManager, File file) throws IOException {
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskManager(taskManager));
     }
+    // @@author
 
     @Override
     public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
@@ -83,11 +149,64 @@ public class XmlTaskManagerStorage implements TaskManagerStorage {
         assert taskManager != null;
         assert filePath != null;
 
-        File file = new File(filePath);
-        FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskManager(taskManager));
+        File file = new File(filePath).getAbsoluteFile();
+        FileUtil.createParentDirsOfFile(file);
+        File tempFile = File.createTempFile(file.getName(), TEMP_FILE_SUFFIX, file.getParentFile());
+        try {
+            writeTaskManagerFile(taskManager, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            if (file.exists()) {
+                rotateGenerations(file);
+            }
+            moveAtomically(tempFile.toPath(), file.toPath());
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
     }
 
+    // @@author A0138909R
+    /**
+     * Shifts the kept generations of {@code file} back by one and keeps the current
+     * {@code file} as the newest generation.
+     */
+    private void rotateGenerations(File file) throws IOException {
+        if (this.generationsKept == 0) {
+            return;
+        }
+        Files.deleteIfExists(getGenerationFile(file, this.generationsKept).toPath());
+        for (int generation = this.generationsKept - 1; generation >= 1; generation--) {
+            Path older = getGenerationFile(file, generation).toPath();
+            if (Files.exists(older)) {
+                Files.move(older, getGenerationFile(file, generation + 1).toPath());
+            }
+        }
+        // a link keeps the data file in place until it is replaced
+        Path newest = getGenerationFile(file, 1).toPath();
+        try {
+            Files.createLink(newest, file.toPath());
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file.toPath(), newest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the file holding the given generation of {@code file}, 1 being the newest.
+     */
+    public static File getGenerationFile(File file, int generation) {
+        return new File(file.getPath() + "." + generation);
+    }
+    // @@author
+
     // @@author A0138909R
     @Override
     public void copyTaskManager(String oldPath, String newPath) throws IOException {
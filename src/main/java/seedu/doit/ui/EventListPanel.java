@@ -10,6 +10,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.control.SplitPane;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
+import seedu.doit.commons.core.ListPositionIndex;
 import seedu.doit.commons.core.LogsCenter;
 import seedu.doit.commons.events.ui.TaskPanelSelectionChangedEvent;
 import seedu.doit.commons.util.FxViewUtil;
@@ -23,20 +24,21 @@ public class EventListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(EventListPanel.class);
     private static final double BOUNDARY_PARAMETER = 0.0;
 
-    private static ObservableList<ReadOnlyTask> mainTaskList;
+    private static ListPositionIndex<ReadOnlyTask> mainTaskListIndex;
     @FXML
     private ListView<ReadOnlyTask> eventListView;
 
-    public EventListPanel(AnchorPane eventListPlaceholder, ObservableList<ReadOnlyTask> eventList) {
+    public EventListPanel(AnchorPane eventListPlaceholder, ObservableList<ReadOnlyTask> eventList,
+            ListPositionIndex<ReadOnlyTask> eventListIndex) {
         super(FXML);
-        setConnections(eventList);
+        setConnections(eventList, eventListIndex);
         addToPlaceholder(eventListPlaceholder);
     }
 
-    private void setConnections(ObservableList<ReadOnlyTask> eventList) {
-        mainTaskList = eventList;
-        this.eventListView.setItems(eventList.filtered(task -> task.hasStartTime()
-                                   ));
+    private void setConnections(ObservableList<ReadOnlyTask> eventList,
+            ListPositionIndex<ReadOnlyTask> eventListIndex) {
+        mainTaskListIndex = eventListIndex;
+        this.eventListView.setItems(eventList);
         this.eventListView.setCellFactory(listView -> new EventListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -70,6 +72,10 @@ public class EventListPanel extends UiPart<Region> {
     }
 
     class EventListViewCell extends ListCell<ReadOnlyTask> {
+        //@@author A0138909R
+        // built on first use and rebound for every item this cell shows afterwards
+        private TaskCard card;
+        //@@author
 
         @Override
         protected void updateItem(ReadOnlyTask event, boolean empty) {
@@ -79,7 +85,11 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(event, mainTaskList.indexOf(event) + 1).getRoot());
+                if (this.card == null) {
+                    this.card = new TaskCard();
+                }
+                this.card.setTask(event, mainTaskListIndex.indexOf(event) + 1);
+                setGraphic(this.card.getRoot());
             }
         }
     }
@@ -10,6 +10,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.control.SplitPane;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
+import seedu.doit.commons.core.ListPositionIndex;
 import seedu.doit.commons.core.LogsCenter;
 import seedu.doit.commons.events.ui.TaskPanelSelectionChangedEvent;
 import seedu.doit.commons.util.FxViewUtil;
@@ -23,21 +24,22 @@ public class FloatingTaskListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(FloatingTaskListPanel.class);
     private static final double BOUNDARY_PARAMETER = 0.0;
 
-    private static ObservableList<ReadOnlyTask> mainTaskList;
+    private static ListPositionIndex<ReadOnlyTask> mainTaskListIndex;
     @FXML
     private ListView<ReadOnlyTask> floatingTaskListView;
 
 
-    public FloatingTaskListPanel(AnchorPane placeholder, ObservableList<ReadOnlyTask> floatingTaskList) {
+    public FloatingTaskListPanel(AnchorPane placeholder, ObservableList<ReadOnlyTask> floatingTaskList,
+            ListPositionIndex<ReadOnlyTask> floatingTaskListIndex) {
         super(FXML);
-        setConnections(floatingTaskList);
+        setConnections(floatingTaskList, floatingTaskListIndex);
         addToPlaceholder(placeholder);
     }
 
-    private void setConnections(ObservableList<ReadOnlyTask> floatingTaskList) {
-        mainTaskList = floatingTaskList;
-        this.floatingTaskListView.setItems(floatingTaskList.filtered(task -> !task.hasStartTime()
-                                   && !task.hasEndTime()));
+    private void setConnections(ObservableList<ReadOnlyTask> floatingTaskList,
+            ListPositionIndex<ReadOnlyTask> floatingTaskListIndex) {
+        mainTaskListIndex = floatingTaskListIndex;
+        this.floatingTaskListView.setItems(floatingTaskList);
         this.floatingTaskListView.setCellFactory(listView -> new FloatingTaskListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -71,6 +73,10 @@ public class FloatingTaskListPanel extends UiPart<Region> {
     }
 
     class FloatingTaskListViewCell extends ListCell<ReadOnlyTask> {
+        //@@author A0138909R
+        // built on first use and rebound for every item this cell shows afterwards
+        private TaskCard card;
+        //@@author
 
         @Override
         protected void updateItem(ReadOnlyTask floatingTask, boolean empty) {
@@ -80,7 +86,11 @@ public class FloatingTaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(floatingTask, mainTaskList.indexOf(floatingTask) + 1).getRoot());
+                if (this.card == null) {
+                    this.card = new TaskCard();
+                }
+                this.card.setTask(floatingTask, mainTaskListIndex.indexOf(floatingTask) + 1);
+                setGraphic(this.card.getRoot());
             }
         }
     }
@@ -2,6 +2,7 @@ package seedu.doit.ui;
 
 import java.util.logging.Logger;
 
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -26,7 +27,10 @@ import seedu.doit.logic.commands.ListCommand;
 import seedu.doit.logic.commands.RedoCommand;
 import seedu.doit.logic.commands.UndoCommand;
 import seedu.doit.logic.commands.exceptions.CommandException;
+import seedu.doit.model.TaskListPartition;
+import seedu.doit.model.TaskListPartition.Part;
 import seedu.doit.model.UserPrefs;
+import seedu.doit.model.item.ReadOnlyTask;
 
 
 /**
@@ -188,9 +192,13 @@ public class MainWindow extends UiPart<Region> {
 
     // @@author A0160076L
     protected void fillInnerParts() {
-        this.taskListPanel = new TaskListPanel(getTaskListPlaceholder(), this.logic.getFilteredTaskList());
-        this.eventListPanel = new EventListPanel(getEventListPlaceholder(), this.logic.getFilteredTaskList());
-        this.fListPanel = new FloatingTaskListPanel(getFListPlaceholder(), this.logic.getFilteredTaskList());
+        TaskListPartition partition = this.logic.getFilteredTaskListPartition();
+        this.taskListPanel = new TaskListPanel(getTaskListPlaceholder(), partition.getPart(Part.TASK),
+                this.logic.getFilteredTaskListIndex());
+        this.eventListPanel = new EventListPanel(getEventListPlaceholder(), partition.getPart(Part.EVENT),
+                this.logic.getFilteredTaskListIndex());
+        this.fListPanel = new FloatingTaskListPanel(getFListPlaceholder(), partition.getPart(Part.FLOATING_TASK),
+                this.logic.getFilteredTaskListIndex());
         new ResultDisplay(getResultDisplayPlaceholder());
         new StatusBarFooter(getStatusbarPlaceholder(), this.config.getTaskManagerFilePath());
         new CommandBox(getCommandBoxPlaceholder(), this.logic);
@@ -298,28 +306,30 @@ public class MainWindow extends UiPart<Region> {
         return this.fListPanel;
     }
 
+    // @@author A0138909R
     /**
      * Handle scrollTo in different lists
      */
     public void scrollTo(int index) {
+        ObservableList<ReadOnlyTask> taskList = this.logic.getFilteredTaskList();
+        TaskListPartition partition = this.logic.getFilteredTaskListPartition();
+        ReadOnlyTask task = index >= 0 && index < taskList.size() ? taskList.get(index) : null;
+        Part part = task == null ? null : partition.getPartOf(task);
 
-        if (index < this.logic.getFilteredTaskList().filtered(task -> task.isTask()).size()) {
-            this.taskListPanel.scrollTo(index);
-            this.eventListPanel.clearSelection();
-            this.fListPanel.clearSelection();
-        } else if (index < this.logic.getFilteredTaskList().filtered(task -> task.isTask()).size()
-            + this.logic.getFilteredTaskList().filtered(task -> task.isEvent()
-        ).size()) {
-            this.eventListPanel.scrollTo(index - this.logic.getFilteredTaskList().filtered(task ->
-                task.isTask()).size());
+        if (part == Part.TASK) {
+            this.taskListPanel.scrollTo(partition.indexInPart(task));
+        } else {
             this.taskListPanel.clearSelection();
-            this.fListPanel.clearSelection();
+        }
+        if (part == Part.EVENT) {
+            this.eventListPanel.scrollTo(partition.indexInPart(task));
         } else {
-            this.fListPanel.scrollTo(index - this.logic.getFilteredTaskList().filtered(task ->
-                task.isTask()).size() - this.logic.getFilteredTaskList().filtered(task -> task.isEvent()).size());
-
             this.eventListPanel.clearSelection();
-            this.taskListPanel.clearSelection();
+        }
+        if (part == Part.FLOATING_TASK) {
+            this.fListPanel.scrollTo(partition.indexInPart(task));
+        } else {
+            this.fListPanel.clearSelection();
         }
     }
     // @@author
@@ -1,7 +1,6 @@
 package seedu.doit.ui;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -12,6 +11,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
+import seedu.doit.logic.parser.DateTimeParser;
 import seedu.doit.model.item.ReadOnlyTask;
 
 
@@ -23,6 +23,14 @@ public class TaskCard extends UiPart<Region> {
     private static final String medSource = "/images/med.png";
     private static final String descriptionSource = "/images/descriptionSign.png";
 
+    //@@author A0138909R
+    // decoded once and shared by every card, as list cells rebind their card for each row shown
+    private static final Image DESCRIPTION_IMAGE = new Image(descriptionSource);
+    private static final ImagePattern TICK_PATTERN = new ImagePattern(new Image(tickSource));
+    private static final ImagePattern HIGH_PATTERN = new ImagePattern(new Image(highSource));
+    private static final ImagePattern MED_PATTERN = new ImagePattern(new Image(medSource));
+    //@@author
+
     @FXML
     private HBox cardPane;
     @FXML
@@ -42,15 +50,25 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private Circle labelBullet;
 
-
-    private Image tick;
-    private Image high;
-    private Image med;
-    private Image description;
-
   //@@author: A0160076L
     public TaskCard(ReadOnlyTask task, int displayedIndex) {
+        this();
+        setTask(task, displayedIndex);
+    }
+
+    //@@author A0138909R
+    /**
+     * Creates a card that shows no task yet, for a list cell to fill in with {@link #setTask}.
+     */
+    public TaskCard() {
         super(FXML);
+        this.descriptionSign.setImage(DESCRIPTION_IMAGE);
+    }
+
+    /**
+     * Shows {@code task} on this card in place of whatever it showed before.
+     */
+    public void setTask(ReadOnlyTask task, int displayedIndex) {
         this.name.setText(task.getName().fullName);
         this.id.setText(displayedIndex + ". ");
         setStartTimeEndTime(task);
@@ -59,18 +77,17 @@ public class TaskCard extends UiPart<Region> {
         setDescriptionSign(task);
         initTags(task);
     }
+    //@@author A0160076L
 
     public boolean isOverdue(String dateTime) {
         LocalDateTime currentDateTime = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
-        LocalDateTime dateTimeToCompare = LocalDateTime.parse(dateTime, formatter);
+        LocalDateTime dateTimeToCompare = LocalDateTime.parse(dateTime, DateTimeParser.DATE_TIME_FORMATTER);
         return !currentDateTime.isBefore(dateTimeToCompare);
     }
 
     public boolean isDueSoon(String dateTime) {
         LocalDateTime currentDateTime = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
-        LocalDateTime dateTimeToCompare = LocalDateTime.parse(dateTime, formatter);
+        LocalDateTime dateTimeToCompare = LocalDateTime.parse(dateTime, DateTimeParser.DATE_TIME_FORMATTER);
         return !currentDateTime.isBefore(dateTimeToCompare.minusDays(3));
     }
 
@@ -78,8 +95,6 @@ public class TaskCard extends UiPart<Region> {
      * show desciption icon on task card if the task has description
      */
     private void setDescriptionSign(ReadOnlyTask task) {
-        this.description = new Image(descriptionSource);
-        this.descriptionSign.setImage(this.description);
         if (task.getDescription() != null && !task.getDescription().toString().equals("")) {
             this.descriptionSign.setVisible(true);
         } else {
@@ -88,7 +103,8 @@ public class TaskCard extends UiPart<Region> {
     }
 
     private void initTags(ReadOnlyTask task) {
-        task.getTags().forEach(tag -> this.tags.getChildren().add(new Label(tag.tagName)));
+        this.tags.getChildren().clear();
+        task.getTagSet().forEach(tag -> this.tags.getChildren().add(new Label(tag.tagName)));
     }
 
     /*
@@ -96,15 +112,12 @@ public class TaskCard extends UiPart<Region> {
      */
     private void setLabelBullet(ReadOnlyTask task) {
         this.labelBullet.setOpacity(1);
-        this.tick = new Image(tickSource);
-        this.high = new Image(highSource);
-        this.med = new Image(medSource);
         if (task.getIsDone()) {
-            this.labelBullet.setFill(new ImagePattern(this.tick));
+            this.labelBullet.setFill(TICK_PATTERN);
         } else if (task.getPriority().value.equals("high")) {
-            this.labelBullet.setFill(new ImagePattern(this.high));
+            this.labelBullet.setFill(HIGH_PATTERN);
         } else if (task.getPriority().value.equals("med")) {
-            this.labelBullet.setFill(new ImagePattern(this.med));
+            this.labelBullet.setFill(MED_PATTERN);
         } else if (task.getPriority().value.equals("low")) {
             this.labelBullet.setOpacity(0);
         }
@@ -10,6 +10,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.control.SplitPane;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
+import seedu.doit.commons.core.ListPositionIndex;
 import seedu.doit.commons.core.LogsCenter;
 import seedu.doit.commons.events.ui.TaskPanelSelectionChangedEvent;
 import seedu.doit.commons.util.FxViewUtil;
@@ -22,22 +23,22 @@ public class TaskListPanel extends UiPart<Region> {
     private static final String FXML = "TaskListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(TaskListPanel.class);
 
-    private static ObservableList<ReadOnlyTask> mainTaskList;
+    private static ListPositionIndex<ReadOnlyTask> mainTaskListIndex;
     @FXML
     private ListView<ReadOnlyTask> taskListView;
 
-    public TaskListPanel(AnchorPane taskListPlaceholder, ObservableList<ReadOnlyTask> taskList) {
+    public TaskListPanel(AnchorPane taskListPlaceholder, ObservableList<ReadOnlyTask> taskList,
+            ListPositionIndex<ReadOnlyTask> taskListIndex) {
         super(FXML);
-        setConnections(taskList);
+        setConnections(taskList, taskListIndex);
         addToPlaceholder(taskListPlaceholder);
     }
 
 
 
-    private void setConnections(ObservableList<ReadOnlyTask> taskList) {
-        mainTaskList = taskList;
-        this.taskListView.setItems(taskList.filtered(task -> !task.hasStartTime()
-                              && task.hasEndTime()));
+    private void setConnections(ObservableList<ReadOnlyTask> taskList, ListPositionIndex<ReadOnlyTask> taskListIndex) {
+        mainTaskListIndex = taskListIndex;
+        this.taskListView.setItems(taskList);
         this.taskListView.setCellFactory(listView -> new TaskListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -70,6 +71,10 @@ public class TaskListPanel extends UiPart<Region> {
     }
 
     class TaskListViewCell extends ListCell<ReadOnlyTask> {
+        //@@author A0138909R
+        // built on first use and rebound for every item this cell shows afterwards
+        private TaskCard card;
+        //@@author
 
         @Override
         protected void updateItem(ReadOnlyTask task, boolean empty) {
@@ -79,7 +84,11 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, mainTaskList.indexOf(task) + 1).getRoot());
+                if (this.card == null) {
+                    this.card = new TaskCard();
+                }
+                this.card.setTask(task, mainTaskListIndex.indexOf(task) + 1);
+                setGraphic(this.card.getRoot());
             }
         }
     }
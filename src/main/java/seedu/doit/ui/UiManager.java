@@ -105,7 +105,13 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
+        // saves may fail on the background autosave thread
+        if (Platform.isFxApplicationThread()) {
+            showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
+        } else {
+            Platform.runLater(() -> showFileOperationAlertAndWait("Could not save data",
+                    "Could not save data to file", event.exception));
+        }
     }
 
     @Subscribe
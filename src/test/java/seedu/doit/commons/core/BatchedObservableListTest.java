@@ -0,0 +1,140 @@
+package seedu.doit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+//@@author A0138909R
+public class BatchedObservableListTest {
+
+    @Test
+    public void batch_severalChanges_oneEventThatReplaysToSameList() {
+        BatchedObservableList<String> list = newList("a", "b", "c", "d", "e");
+        ObservableList<String> mirror = FXCollections.observableArrayList(list);
+        List<ListChangeListener.Change<? extends String>> events = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            events.add(change);
+            replay(change, mirror);
+        });
+
+        list.beginBatch();
+        list.set(1, "B");
+        list.remove("d");
+        list.add(0, "z");
+        list.removeAll(new HashSet<>(Arrays.asList("a", "e")));
+        list.endBatch();
+
+        assertEquals(1, events.size());
+        assertEquals(Arrays.asList("z", "B", "c"), list);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void removeAll_separateRuns_removesOnlyGivenElements() {
+        BatchedObservableList<String> list = newList("a", "b", "c", "d", "e", "f");
+        ObservableList<String> mirror = FXCollections.observableArrayList(list);
+        list.addListener((ListChangeListener<String>) change -> replay(change, mirror));
+
+        list.removeAll(new HashSet<>(Arrays.asList("a", "c", "d", "f")));
+        assertEquals(Arrays.asList("b", "e"), list);
+        assertEquals(list, mirror);
+        assertFalse(list.removeAll(new HashSet<>(Arrays.asList("x"))));
+    }
+
+    @Test
+    public void removeAt_unorderedIndexes_removesRunsInOneChange() {
+        BatchedObservableList<String> list = newList("a", "b", "c", "d", "e", "f");
+        ObservableList<String> mirror = FXCollections.observableArrayList(list);
+        List<ListChangeListener.Change<? extends String>> events = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            events.add(change);
+            replay(change, mirror);
+        });
+
+        list.removeAt(5, 0, 3, 2);
+        assertEquals(1, events.size());
+        assertEquals(Arrays.asList("b", "e"), list);
+        assertEquals(list, mirror);
+        assertFalse(list.removeAt());
+    }
+
+    @Test
+    public void sort_unsortedList_singlePermutation() {
+        BatchedObservableList<String> list = newList("d", "a", "c", "b");
+        ObservableList<String> mirror = FXCollections.observableArrayList(list);
+        List<Boolean> isPermutation = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                isPermutation.add(change.wasPermutated());
+            }
+            change.reset();
+            replay(change, mirror);
+        });
+
+        list.sort(Comparator.naturalOrder());
+        assertEquals(Arrays.asList(true), isPermutation);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void addAllSorted_mergesRunsOfAddedElements() {
+        BatchedObservableList<String> list = newList("b", "d", "f");
+        ObservableList<String> mirror = FXCollections.observableArrayList(list);
+        List<ListChangeListener.Change<? extends String>> events = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            events.add(change);
+            replay(change, mirror);
+        });
+
+        list.addAllSorted(Arrays.asList("a", "c", "c2", "d", "g"), Comparator.naturalOrder());
+        assertEquals(1, events.size());
+        assertEquals(Arrays.asList("a", "b", "c", "c2", "d", "d", "f", "g"), list);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        BatchedObservableList<String> list = newList("a", "b");
+        list.setAll("c", "d", "e");
+        assertEquals(Arrays.asList("c", "d", "e"), list);
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    private static BatchedObservableList<String> newList(String... elements) {
+        BatchedObservableList<String> list = new BatchedObservableList<>();
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Applies {@code change} to {@code mirror}, which held the same elements as the changed list before it.
+     */
+    private static void replay(ListChangeListener.Change<? extends String> change, List<String> mirror) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror.clear();
+                mirror.addAll(permuted);
+            } else {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
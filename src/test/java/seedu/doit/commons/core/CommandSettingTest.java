@@ -1,7 +1,9 @@
 //@@author A0146809W
 package seedu.doit.commons.core;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -175,4 +177,35 @@ public class CommandSettingTest {
         assertFalse(this.originalSettings.equals(changedSettings));
     }
 
+    //@@author A0138909R
+    @Test
+    public void toDefaultCommandWord_defaultWordInAnyCase_defaultWord() {
+        assertEquals(MESSAGE_ADD_COMMAND, this.originalSettings.toDefaultCommandWord("ADD"));
+        assertEquals(MESSAGE_UNMARK_COMMAND, this.originalSettings.toDefaultCommandWord("unMark"));
+        assertNull(this.originalSettings.toDefaultCommandWord("adds"));
+    }
+
+    @Test
+    public void toDefaultCommandWord_afterSetCommand_aliasAndDefaultWord()
+            throws NoSuchCommandException, CommandExistedException {
+        CommandSettings changedSettings = new CommandSettings();
+        changedSettings.toDefaultCommandWord(MESSAGE_ADD_COMMAND);
+        changedSettings.setCommand(MESSAGE_ADD_COMMAND, MESSAGE_TEST_SET_CHANGED);
+
+        assertEquals(MESSAGE_ADD_COMMAND, changedSettings.toDefaultCommandWord("Changed"));
+        assertEquals(MESSAGE_ADD_COMMAND, changedSettings.toDefaultCommandWord(MESSAGE_ADD_COMMAND));
+
+        changedSettings.setAdd(MESSAGE_ADD_COMMAND);
+        assertNull(changedSettings.toDefaultCommandWord(MESSAGE_TEST_SET_CHANGED));
+    }
+
+    @Test
+    public void toDefaultCommandWord_aliasOfLaterCommandSameAsEarlierWord_earlierCommand() {
+        CommandSettings changedSettings = new CommandSettings();
+        changedSettings.setDelete("ADD");
+
+        assertEquals(MESSAGE_ADD_COMMAND, changedSettings.toDefaultCommandWord(MESSAGE_ADD_COMMAND));
+        assertEquals(MESSAGE_DELETE_COMMAND, changedSettings.toDefaultCommandWord(MESSAGE_DELETE_COMMAND));
+    }
+
 }
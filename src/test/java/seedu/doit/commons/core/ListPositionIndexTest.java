@@ -0,0 +1,75 @@
+package seedu.doit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+//@@author A0138909R
+public class ListPositionIndexTest {
+
+    @Test
+    public void indexOf_afterChangesToDistinctElements_sameAsScanning() {
+        ObservableList<String> source = FXCollections.observableArrayList();
+        FilteredList<String> filtered = new FilteredList<>(source);
+        ListPositionIndex<String> index = new ListPositionIndex<>(filtered);
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            elements.add("task " + i);
+        }
+        Random random = new Random(42);
+
+        for (int round = 0; round < 200; round++) {
+            String element = elements.get(random.nextInt(elements.size()));
+            switch (random.nextInt(5)) {
+            case 0:
+                if (!source.contains(element)) {
+                    source.add(random.nextInt(source.size() + 1), element);
+                }
+                break;
+            case 1:
+                source.remove(element);
+                break;
+            case 2:
+                FXCollections.sort(source);
+                break;
+            case 3:
+                int modulus = 2 + random.nextInt(3);
+                filtered.setPredicate(task -> task.hashCode() % modulus != 0);
+                break;
+            default:
+                Collections.reverse(source);
+            }
+            for (String each : elements) {
+                assertEquals(indexOfIdentity(filtered, each), index.indexOf(each));
+            }
+        }
+    }
+
+    @Test
+    public void indexOf_equalButNotSameElement_notFound() {
+        ObservableList<String> list = FXCollections.observableArrayList(Arrays.asList("a", "b"));
+        ListPositionIndex<String> index = new ListPositionIndex<>(list);
+
+        assertEquals(1, index.indexOf(list.get(1)));
+        assertEquals(-1, index.indexOf(new String("b")));
+    }
+
+    private static int indexOfIdentity(List<String> list, String element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.doit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+//@@author A0138909R
+public class PersistentSequenceTest {
+
+    @Test
+    public void insert_newElement_oldVersionUnchanged() {
+        PersistentSequence<String> empty = PersistentSequence.empty();
+        PersistentSequence<String> one = empty.insert(0, "b");
+        PersistentSequence<String> two = one.insert(0, "a");
+        PersistentSequence<String> changed = two.set(1, "c").remove(0);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(Arrays.asList("b"), toList(one));
+        assertEquals(Arrays.asList("a", "b"), toList(two));
+        assertEquals(Arrays.asList("c"), toList(changed));
+    }
+
+    @Test
+    public void of_list_sameOrder() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i);
+        }
+        PersistentSequence<Integer> sequence = PersistentSequence.of(elements);
+        assertEquals(elements, toList(sequence));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), sequence.get(i));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_indexOutOfRange_exceptionThrown() {
+        PersistentSequence.of(Arrays.asList("a")).get(1);
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(4);
+        List<Integer> expected = new ArrayList<>();
+        PersistentSequence<Integer> sequence = PersistentSequence.empty();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentSequence<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                // inserting at the ends as often as in the middle keeps the tree rotating
+                int index = random.nextBoolean() ? random.nextInt(expected.size() + 1) : expected.size();
+                expected.add(index, i);
+                sequence = sequence.insert(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                sequence = sequence.set(index, -i);
+            } else {
+                int index = random.nextBoolean() ? random.nextInt(expected.size()) : 0;
+                expected.remove(index);
+                sequence = sequence.remove(index);
+            }
+            assertEquals(expected.size(), sequence.size());
+            if (i % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                versions.add(sequence);
+            }
+        }
+        assertEquals(expected, toList(sequence));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), sequence.get(i));
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), toList(versions.get(i)));
+        }
+    }
+
+    private static <E> List<E> toList(PersistentSequence<E> sequence) {
+        List<E> list = new ArrayList<>();
+        sequence.forEach(list::add);
+        return list;
+    }
+}
@@ -2,10 +2,14 @@ package seedu.doit.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -130,6 +134,27 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //@@author A0138909R
+    //---------------- Tests for foldCase and splitWords --------------------------------------
+
+    @Test
+    public void foldCase_equalIgnoringCase_sameFoldedString() {
+        assertEquals(StringUtil.foldCase("aBc"), StringUtil.foldCase("AbC"));
+        assertEquals(StringUtil.foldCase("\u00c9t\u00c9"), StringUtil.foldCase("\u00e9t\u00e9"));
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+
+        String alreadyFolded = "abc 123";
+        assertSame(alreadyFolded, StringUtil.foldCase(alreadyFolded));
+    }
+
+    @Test
+    public void splitWords_whitespace_sameWordsAsRegexSplit() {
+        assertEquals(Arrays.asList("aaa", "bBb", "ccc"), StringUtil.splitWords("  aaa \t bBb\nccc  "));
+        assertEquals(Collections.emptyList(), StringUtil.splitWords("   "));
+        assertEquals(Collections.singletonList("a"), StringUtil.splitWords("a"));
+    }
+    //@@author
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
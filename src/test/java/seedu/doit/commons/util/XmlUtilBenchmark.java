@@ -0,0 +1,57 @@
+package seedu.doit.commons.util;
+
+import java.io.File;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+import seedu.doit.model.TaskManager;
+import seedu.doit.storage.XmlSerializableTaskManager;
+import seedu.doit.testutil.TypicalTestTasks;
+
+//@@author A0138909R
+/**
+ * Measures the latency of saving a typical task manager with {@link XmlUtil},
+ * compared to creating a new {@code JAXBContext} for every save.
+ * Run manually with {@code main}; it is not part of the test suite.
+ */
+public class XmlUtilBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("benchmarkTaskManager", ".xml");
+        file.deleteOnExit();
+        TaskManager taskManager = new TypicalTestTasks().getTypicalTaskManager();
+        XmlSerializableTaskManager data = new XmlSerializableTaskManager(taskManager);
+
+        System.out.printf("new context per save : %.3f ms/save%n", measure(() -> {
+            JAXBContext context = JAXBContext.newInstance(XmlSerializableTaskManager.class);
+            Marshaller m = context.createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            m.marshal(data, file);
+        }));
+        System.out.printf("cached context (XmlUtil) : %.3f ms/save%n", measure(() -> {
+            XmlUtil.saveDataToFile(file, data);
+        }));
+    }
+
+    private static double measure(Save save) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            save.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            save.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ITERATIONS;
+    }
+
+    /**
+     * A single save to be measured.
+     */
+    private interface Save {
+        void run() throws Exception;
+    }
+}
@@ -4,6 +4,11 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBException;
 
@@ -15,6 +20,7 @@ import seedu.doit.model.TaskManager;
 import seedu.doit.storage.XmlSerializableTaskManager;
 import seedu.doit.testutil.TaskManagerBuilder;
 import seedu.doit.testutil.TestUtil;
+import seedu.doit.testutil.TypicalTestTasks;
 
 public class XmlUtilTest {
 
@@ -23,6 +29,7 @@ public class XmlUtilTest {
     private static final File MISSING_FILE = new File(TEST_DATA_FOLDER + "missing.xml");
     private static final File VALID_FILE = new File(TEST_DATA_FOLDER + "validTaskManager.xml");
     private static final File TEMP_FILE = new File(TestUtil.getFilePathInSandboxFolder("tempTaskManager.xml"));
+    private static final int CONCURRENT_SAVES = 4;
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -93,4 +100,34 @@ public class XmlUtilTest {
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableTaskManager.class);
         assertEquals((new TaskManager(dataToWrite)).toString(), (new TaskManager(dataFromFile)).toString());
     }
+
+    //@@author A0138909R
+    @Test
+    public void saveDataToFile_concurrentSaves_eachFileReadBack() throws Exception {
+        TaskManager taskManager = new TypicalTestTasks().getTypicalTaskManager();
+        XmlSerializableTaskManager dataToWrite = new XmlSerializableTaskManager(taskManager);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SAVES);
+        try {
+            List<Future<TaskManager>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_SAVES; i++) {
+                File file = new File(TestUtil.getFilePathInSandboxFolder("concurrentTaskManager" + i + ".xml"));
+                results.add(executor.submit(() -> {
+                    // several rounds, so that pooled marshallers and unmarshallers are reused across threads
+                    TaskManager read = null;
+                    for (int round = 0; round < 5; round++) {
+                        FileUtil.createIfMissing(file);
+                        XmlUtil.saveDataToFile(file, dataToWrite);
+                        read = new TaskManager(XmlUtil.getDataFromFile(file, XmlSerializableTaskManager.class));
+                    }
+                    return read;
+                }));
+            }
+            for (Future<TaskManager> result : results) {
+                assertEquals(taskManager, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    //@@author
 }
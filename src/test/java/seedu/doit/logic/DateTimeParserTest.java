@@ -3,7 +3,9 @@ package seedu.doit.logic;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -65,5 +67,41 @@ public class DateTimeParserTest {
         Optional<LocalDateTime> dateParsed = DateTimeParser.parseDateTime("today tomorrow friday");
     }
 
+    //@@author A0138909R
+    @Test
+    public void parseStoredDateTime_storedFormat_sameAsNatty() throws Exception {
+        Optional<LocalDateTime> stored = DateTimeParser.parseStoredDateTime("20/03/17 10:21");
+        assertEquals(LocalDateTime.of(2017, 3, 20, 10, 21), stored.get());
+        assertEquals(DateTimeParser.parseDateTime("20/03/17 10:21").get().withSecond(0).withNano(0),
+            stored.get());
+    }
+
+    @Test
+    public void parseStoredDateTime_naturalLanguage_empty() {
+        assertFalse(DateTimeParser.parseStoredDateTime("tomorrow").isPresent());
+        assertFalse(DateTimeParser.parseStoredDateTime("20/3/17").isPresent());
+    }
+
+    @Test
+    public void parseDateTime_canonicalFormat_exactDateTime() throws Exception {
+        assertEquals(LocalDateTime.of(2017, 3, 20, 10, 21), DateTimeParser.parseDateTime("20/03/17 10:21").get());
+        assertEquals(LocalDateTime.of(2017, 12, 1, 0, 0), DateTimeParser.parseDateTime("01/12/17 00:00").get());
+    }
+
+    @Test
+    public void parseDateTime_repeatedRelativeInput_sameDateTime() throws Exception {
+        LocalDateTime expected = LocalDate.now().plusDays(1).atTime(17, 0);
+        assertEquals(expected, DateTimeParser.parseDateTime("tomorrow 5pm").get());
+        assertEquals(expected, DateTimeParser.parseDateTime("tomorrow 5pm").get());
+    }
+
+    @Test
+    public void parseDateTime_repeatedInputWithTimeOfParsing_notReused() throws Exception {
+        LocalDateTime first = DateTimeParser.parseDateTime("in 2 minutes").get();
+        Thread.sleep(1100);
+        LocalDateTime second = DateTimeParser.parseDateTime("in 2 minutes").get();
+        assertTrue(second.isAfter(first));
+    }
+
 
 }
@@ -13,6 +13,8 @@ import static seedu.doit.model.item.Priority.MESSAGE_PRIORITY_CONSTRAINTS;
 import static seedu.doit.model.item.StartTime.MESSAGE_STARTTIME_CONSTRAINTS;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,10 +39,13 @@ import seedu.doit.logic.commands.ClearCommand;
 import seedu.doit.logic.commands.Command;
 import seedu.doit.logic.commands.CommandResult;
 import seedu.doit.logic.commands.DeleteCommand;
+import seedu.doit.logic.commands.EditCommand;
 import seedu.doit.logic.commands.ExitCommand;
 import seedu.doit.logic.commands.FindCommand;
 import seedu.doit.logic.commands.HelpCommand;
+import seedu.doit.logic.commands.ImportCommand;
 import seedu.doit.logic.commands.ListCommand;
+import seedu.doit.logic.commands.MarkCommand;
 import seedu.doit.logic.commands.SaveCommand;
 import seedu.doit.logic.commands.SelectCommand;
 import seedu.doit.logic.commands.exceptions.CommandException;
@@ -59,6 +64,7 @@ import seedu.doit.model.tag.Tag;
 import seedu.doit.model.tag.UniqueTagList;
 import seedu.doit.storage.Storage;
 import seedu.doit.storage.StorageManager;
+import seedu.doit.storage.XmlTaskManagerStorage;
 
 public class LogicManagerTest {
 
@@ -413,6 +419,57 @@ public class LogicManagerTest {
     }
     // @@author
 
+    //@@author A0138909R
+    @Test
+    public void execute_mark_marksListOfTasks() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> threeTasks = helper.generateTaskList(3);
+        List<Task> expectedTasks = helper.generateTaskList(3);
+        expectedTasks.get(0).setIsDone(true);
+        expectedTasks.get(2).setIsDone(true);
+
+        TaskManager expectedTM = helper.generateTaskManager(expectedTasks);
+        helper.addToModel(this.model, threeTasks);
+
+        String tasksAsString = tasksToString(Arrays.asList(expectedTasks.get(0), expectedTasks.get(2)));
+        assertCommandSuccess("mark 1,3", String.format(MarkCommand.MESSAGE_MARK_TASKS_SUCCESS, tasksAsString),
+                expectedTM, Collections.singletonList(expectedTasks.get(1)));
+    }
+
+    @Test
+    public void execute_markHugeRange_indexNotFoundWithoutExpanding() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        helper.addToModel(this.model, helper.generateTaskList(2));
+
+        assertCommandFailure("mark 1-2000000000", MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        assertCommandFailure("delete 2,1-2147483647", MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_markIndexOverflow_errorMessageShown() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE);
+        assertCommandFailure("mark 2147483648", expectedMessage);
+        assertCommandFailure("mark 1-99999999999", expectedMessage);
+        assertCommandFailure("mark 1-2-3", expectedMessage);
+    }
+
+    @Test
+    public void execute_edit_editsRangeOfTasks() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> threeTasks = helper.generateTaskList(3);
+        List<Task> expectedTasks = helper.generateTaskList(3);
+        expectedTasks.get(0).setPriority(new Priority("low"));
+        expectedTasks.get(1).setPriority(new Priority("low"));
+
+        TaskManager expectedTM = helper.generateTaskManager(expectedTasks);
+        helper.addToModel(this.model, threeTasks);
+
+        String tasksAsString = tasksToString(Arrays.asList(threeTasks.get(0), threeTasks.get(1)));
+        assertCommandSuccess("edit 1-2 p/low", String.format(EditCommand.MESSAGE_EDIT_TASKS_SUCCESS, tasksAsString),
+                expectedTM, expectedTM.getTaskList());
+    }
+    //@@author
+
     @Test
     public void execute_find_invalidArgsFormat() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
@@ -482,7 +539,11 @@ public class LogicManagerTest {
         file.delete();
         assertCommandSuccess(SAVE + filePath, String.format(SaveCommand.MESSAGE_SUCCESS, filePath),
                 this.model.getTaskManager(), this.model.getFilteredTaskList());
+        File generationFile = XmlTaskManagerStorage.getGenerationFile(file, 1);
+        boolean isGenerationKept = generationFile.exists();
         file.delete();
+        generationFile.delete();
+        assertFalse(isGenerationKept);
     }
 
     @Test
@@ -491,6 +552,21 @@ public class LogicManagerTest {
         assertCommandFailure(SAVE + filePath, SaveCommand.MESSAGE_NOT_XML_FILE);
     }
 
+    @Test
+    public void execute_import_presentAndRepeatedTasksSkipped() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        this.model.addTask(helper.generateTaskWithName("present"));
+        File file = this.saveFolder.newFile("tasks.csv");
+        Files.write(file.toPath(), Arrays.asList("name,priority,description", "present,low,House of 1",
+                "fresh,low,", "fresh,low,"), StandardCharsets.UTF_8);
+
+        CommandResult result = this.logic.execute("import " + file.getPath());
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, file.getPath())
+                + String.format(ImportCommand.MESSAGE_SKIPPED, 2), result.feedbackToUser);
+        assertEquals(2, this.model.getTaskManager().getTaskList().size());
+    }
+
     @Test
     public void execute_save_invalidFileName() throws Exception {
         String filePath = "data/??.xml";
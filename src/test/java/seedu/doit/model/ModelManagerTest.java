@@ -0,0 +1,206 @@
+package seedu.doit.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.doit.testutil.TaskBuilder.taskNamed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import javafx.collections.ListChangeListener;
+import seedu.doit.commons.core.EventsCenter;
+import seedu.doit.commons.events.model.TaskManagerChangedEvent;
+import seedu.doit.commons.exceptions.EmptyTaskManagerStackException;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.item.UniqueTaskList;
+
+//@@author A0138909R
+public class ModelManagerTest {
+
+    private ModelManager model;
+    private int changedEventCount;
+    private int taskListChangeCount;
+
+    @Subscribe
+    private void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
+        this.changedEventCount++;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        TaskManager taskManager = new TaskManager();
+        taskManager.addTask(taskNamed("first").buildTask());
+        taskManager.addTask(taskNamed("second").buildTask());
+        taskManager.addTask(taskNamed("third").buildTask());
+        this.model = new ModelManager(taskManager, new UserPrefs());
+        this.model.getTaskManager().getTaskList()
+                .addListener((ListChangeListener<ReadOnlyTask>) change -> this.taskListChangeCount++);
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void transaction_severalChanges_oneListChangeOneEventOneUndo() throws Exception {
+        ReadOnlyTask first = findTask("first");
+        ReadOnlyTask second = findTask("second");
+        ReadOnlyTask third = findTask("third");
+        Task fourth = taskNamed("fourth").buildTask();
+        Task renamed = taskNamed("renamed").buildTask();
+        this.model.transaction(tasks -> {
+            tasks.addTask(fourth);
+            tasks.markTask(first);
+            tasks.updateTask(second, renamed);
+            tasks.deleteTasks(Collections.singleton(third));
+        });
+
+        assertEquals(1, this.taskListChangeCount);
+        assertEquals(1, this.changedEventCount);
+        assertEquals(names("first", "fourth", "renamed"), names(this.model.getTaskManager().getTaskList()));
+        assertTrue(findTask("first").getIsDone());
+
+        this.model.undo();
+        assertEquals(names("first", "second", "third"), names(this.model.getTaskManager().getTaskList()));
+        assertFalse(findTask("first").getIsDone());
+        assertEquals(2, this.taskListChangeCount);
+
+        this.model.redo();
+        assertEquals(names("first", "fourth", "renamed"), names(this.model.getTaskManager().getTaskList()));
+        assertTrue(findTask("first").getIsDone());
+    }
+
+    @Test
+    public void transaction_duplicateTask_earlierChangesReverted() throws Exception {
+        ReadOnlyTask first = findTask("first");
+        ReadOnlyTask second = findTask("second");
+        Task fourth = taskNamed("fourth").buildTask();
+        Task duplicate = taskNamed("third").buildTask();
+        try {
+            this.model.transaction(tasks -> {
+                tasks.markTask(first);
+                tasks.addTask(fourth);
+                tasks.updateTask(second, duplicate);
+            });
+            fail("Expected a DuplicateTaskException");
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assertEquals(names("first", "second", "third"), names(this.model.getTaskManager().getTaskList()));
+            assertFalse(findTask("first").getIsDone());
+            assertEquals(0, this.changedEventCount);
+        }
+    }
+
+    @Test
+    public void markTasks_severalTasks_oneListChangeOneEventOneUndo() throws Exception {
+        List<ReadOnlyTask> targets = new ArrayList<>(this.model.getFilteredTaskList());
+        this.model.transaction(tasks -> tasks.markTasks(targets));
+
+        assertEquals(1, this.taskListChangeCount);
+        assertEquals(1, this.changedEventCount);
+        assertTrue(this.model.getTaskManager().getTaskList().stream().allMatch(ReadOnlyTask::getIsDone));
+
+        this.model.undo();
+        assertTrue(this.model.getTaskManager().getTaskList().stream().noneMatch(ReadOnlyTask::getIsDone));
+        assertEquals(names("first", "second", "third"), names(this.model.getTaskManager().getTaskList()));
+    }
+
+    @Test
+    public void transaction_rejectedBeforeAnyChange_listUntouched() throws Exception {
+        Task doneSecond = taskNamed("second").buildTask();
+        doneSecond.setIsDone(true);
+        this.model.transaction(tasks -> tasks.addTask(doneSecond));
+        this.taskListChangeCount = 0;
+        List<ReadOnlyTask> tasksBefore = new ArrayList<>(this.model.getTaskManager().getTaskList());
+
+        List<ReadOnlyTask> targets = Arrays.asList(findTask("first"), findTask("second"));
+        try {
+            this.model.transaction(tasks -> tasks.markTasks(targets));
+            fail("Expected a DuplicateTaskException");
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assertEquals(0, this.taskListChangeCount);
+            List<ReadOnlyTask> tasksAfter = this.model.getTaskManager().getTaskList();
+            for (int i = 0; i < tasksBefore.size(); i++) {
+                assertSame(tasksBefore.get(i), tasksAfter.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void resetData_afterFind_newMatchesShown() throws Exception {
+        Set<String> none = Collections.emptySet();
+        this.model.updateFilteredTaskList(Collections.singleton("gamma"), none, none, none, none, none);
+        assertEquals(0, this.model.getFilteredTaskList().size());
+
+        TaskManager loaded = new TaskManager();
+        loaded.addTask(taskNamed("gamma").buildTask());
+        loaded.addTask(taskNamed("delta").buildTask());
+        this.model.resetData(loaded);
+        assertEquals(names("gamma"), names(this.model.getFilteredTaskList()));
+    }
+
+    @Test
+    public void markTask_singleTask_oneEvent() throws Exception {
+        this.model.markTask(0, this.model.getFilteredTaskList().get(0));
+        assertEquals(1, this.changedEventCount);
+    }
+
+    @Test
+    public void markTask_alreadyDone_nothingCommitted() throws Exception {
+        ReadOnlyTask first = findTask("first");
+        this.model.transaction(tasks -> tasks.markTask(first));
+        this.model.undo();
+        this.model.redo();
+        this.changedEventCount = 0;
+
+        this.model.transaction(tasks -> tasks.markTask(findTask("first")));
+        assertEquals(0, this.changedEventCount);
+
+        this.model.undo();
+        assertFalse(findTask("first").getIsDone());
+        try {
+            this.model.undo();
+            fail("Expected an EmptyTaskManagerStackException");
+        } catch (EmptyTaskManagerStackException e) {
+            this.model.redo();
+            assertTrue(findTask("first").getIsDone());
+        }
+    }
+
+    private ReadOnlyTask findTask(String name) {
+        for (ReadOnlyTask task : this.model.getTaskManager().getTaskList()) {
+            if (task.getName().fullName.equals(name)) {
+                return task;
+            }
+        }
+        throw new AssertionError("No task named " + name);
+    }
+
+    private static List<String> names(String... names) {
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, names);
+        return list;
+    }
+
+    private static List<String> names(List<ReadOnlyTask> tasks) {
+        List<String> names = new ArrayList<>();
+        tasks.forEach(task -> names.add(task.getName().fullName));
+        Collections.sort(names);
+        return names;
+    }
+
+}
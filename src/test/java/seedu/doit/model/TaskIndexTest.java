@@ -0,0 +1,121 @@
+package seedu.doit.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.doit.testutil.TaskBuilder.taskNamed;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.doit.model.item.EndTime;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+
+//@@author A0138909R
+public class TaskIndexTest {
+
+    private static final Set<String> NONE = Collections.emptySet();
+
+    private TaskManager taskManager;
+
+    @Before
+    public void setUp() throws Exception {
+        this.taskManager = new TaskManager();
+        this.taskManager.addTask(taskNamed("Buy milk").withPriority("high").withDescription("at the shop")
+                .withDeadline("01/02/17 10:00").withTags("errand").buildTask());
+        this.taskManager.addTask(taskNamed("buy BREAD").withDescription("bakery").withDeadline("02/02/17 10:00")
+                .withTags("errand", "food").buildTask());
+        this.taskManager.addTask(taskNamed("Write report").withPriority("high").withDescription("for the shop")
+                .withDeadline("01/02/17 18:30").withTags("work").buildTask());
+    }
+
+    @Test
+    public void find_nameKeywords_allMustMatchIgnoringCase() {
+        assertEquals(names("Buy milk", "buy BREAD"), find(keywords("BUY"), NONE, NONE, NONE, NONE));
+        assertEquals(names("buy BREAD"), find(keywords("buy", "bread"), NONE, NONE, NONE, NONE));
+        assertEquals(names(), find(keywords("bu"), NONE, NONE, NONE, NONE));
+    }
+
+    @Test
+    public void find_priorityKeywords_anyMayMatch() {
+        assertEquals(names("Buy milk", "Write report"), find(NONE, keywords("high"), NONE, NONE, NONE));
+        assertEquals(names("Buy milk", "buy BREAD", "Write report"),
+                find(NONE, keywords("high", "low"), NONE, NONE, NONE));
+    }
+
+    @Test
+    public void find_tagKeywords_caseSensitive() {
+        assertEquals(names("buy BREAD"), find(NONE, NONE, keywords("errand", "food"), NONE, NONE));
+        assertEquals(names(), find(NONE, NONE, keywords("Errand"), NONE, NONE));
+    }
+
+    @Test
+    public void find_endTimeKeywords_dateOrTimeOfDay() {
+        assertEquals(names("Buy milk", "Write report"), find(NONE, NONE, NONE, NONE, keywords("01/02/17")));
+        assertEquals(names("Buy milk", "buy BREAD"), find(NONE, NONE, NONE, NONE, keywords("10:00")));
+        assertEquals(names(), find(NONE, NONE, NONE, NONE, keywords("1/2/17")));
+    }
+
+    @Test
+    public void find_dateInOtherCentury_matchedByTwoDigitYear() throws Exception {
+        Task oldTask = taskNamed("Old task").buildTask();
+        oldTask.setEndTime(new EndTime(LocalDateTime.of(1999, 2, 1, 10, 0)));
+        this.taskManager.addTask(oldTask);
+
+        assertEquals(names("Old task"), find(NONE, NONE, NONE, NONE, keywords("01/02/99")));
+        assertEquals(names(), find(NONE, NONE, NONE, NONE, keywords("29/02/99")));
+    }
+
+    @Test
+    public void find_severalFields_intersected() {
+        assertEquals(names("Buy milk"), find(keywords("buy"), keywords("high"), NONE, NONE, keywords("01/02/17")));
+    }
+
+    @Test
+    public void find_afterChanges_indexesKeptCurrent() throws Exception {
+        this.taskManager.updateTask(indexOf("Buy milk"),
+                taskNamed("Buy eggs").withPriority("high").withDescription("at the shop").withDeadline("01/02/17 10:00")
+                .withTags("errand").buildTask());
+        this.taskManager.removeTask(taskNamed("buy BREAD").withDescription("bakery").withDeadline("02/02/17 10:00")
+                .buildTask());
+        int reportIndex = indexOf("Write report");
+        this.taskManager.markTask(reportIndex, this.taskManager.getTaskList().get(reportIndex));
+
+        assertEquals(names("Buy eggs"), find(keywords("buy"), NONE, NONE, NONE, NONE));
+        assertEquals(names(), find(keywords("milk"), NONE, NONE, NONE, NONE));
+        assertEquals(names("Write report"), find(keywords("report"), NONE, NONE, NONE, NONE));
+
+        this.taskManager.resetData(new TaskManager());
+        assertEquals(names(), find(keywords("buy"), NONE, NONE, NONE, NONE));
+    }
+
+    private Set<String> find(Set<String> nameKeywords, Set<String> priorityKeywords, Set<String> tagKeywords,
+            Set<String> startTimeKeywords, Set<String> endTimeKeywords) {
+        Set<ReadOnlyTask> found = this.taskManager.getTaskIndex().find(nameKeywords, priorityKeywords, NONE,
+                tagKeywords, startTimeKeywords, endTimeKeywords);
+        return found.stream().map(task -> task.getName().fullName).collect(Collectors.toSet());
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < this.taskManager.getTaskList().size(); i++) {
+            if (this.taskManager.getTaskList().get(i).getName().fullName.equals(name)) {
+                return i;
+            }
+        }
+        throw new AssertionError("No task named " + name);
+    }
+
+    private static Set<String> keywords(String... keywords) {
+        return new HashSet<>(Arrays.asList(keywords));
+    }
+
+    private static Set<String> names(String... names) {
+        return new HashSet<>(Arrays.asList(names));
+    }
+}
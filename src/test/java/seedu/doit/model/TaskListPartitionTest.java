@@ -0,0 +1,180 @@
+package seedu.doit.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.doit.testutil.TaskBuilder.taskNamed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.doit.model.TaskListPartition.Part;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+
+//@@author A0138909R
+public class TaskListPartitionTest {
+
+    private ObservableList<ReadOnlyTask> source;
+    private FilteredList<ReadOnlyTask> filtered;
+    private TaskListPartition partition;
+    private List<ListChangeListener.Change<? extends ReadOnlyTask>> taskChanges;
+
+    @Before
+    public void setUp() throws Exception {
+        this.source = FXCollections.observableArrayList(
+                taskNamed("task a").withDeadline("01/02/17 10:00").buildTask(),
+                taskNamed("event b").withStartTime("01/02/17 09:00").withDeadline("01/02/17 10:00").buildTask(),
+                taskNamed("floating c").buildTask(),
+                taskNamed("task d").withDeadline("02/02/17 10:00").buildTask());
+        this.filtered = new FilteredList<>(this.source);
+        this.partition = new TaskListPartition(this.filtered);
+        this.taskChanges = new ArrayList<>();
+        this.partition.getPart(Part.TASK).addListener((ListChangeListener<ReadOnlyTask>) this.taskChanges::add);
+    }
+
+    @Test
+    public void getPart_eachTaskInOnePartInListOrder() {
+        assertEquals(Arrays.asList("task a", "task d"), names(Part.TASK));
+        assertEquals(Arrays.asList("event b"), names(Part.EVENT));
+        assertEquals(Arrays.asList("floating c"), names(Part.FLOATING_TASK));
+        assertEquals(Part.EVENT, this.partition.getPartOf(this.source.get(1)));
+        assertEquals(1, this.partition.indexInPart(this.source.get(3)));
+    }
+
+    @Test
+    public void sourceChanged_onlyAffectedPartsChanged() throws Exception {
+        List<ListChangeListener.Change<? extends ReadOnlyTask>> eventChanges = new ArrayList<>();
+        this.partition.getPart(Part.EVENT).addListener((ListChangeListener<ReadOnlyTask>) eventChanges::add);
+
+        this.source.add(1, taskNamed("task e").withDeadline("03/02/17 10:00").buildTask());
+
+        assertEquals(Arrays.asList("task a", "task e", "task d"), names(Part.TASK));
+        assertEquals(1, this.taskChanges.size());
+        assertEquals(0, eventChanges.size());
+        assertEquals(2, this.partition.indexInPart(this.source.get(4)));
+    }
+
+    @Test
+    public void taskChangedPart_movedBetweenParts() throws Exception {
+        this.source.set(0, taskNamed("task a").withStartTime("01/02/17 08:00").withDeadline("01/02/17 10:00")
+                .buildTask());
+
+        assertEquals(Arrays.asList("task d"), names(Part.TASK));
+        assertEquals(Arrays.asList("task a", "event b"), names(Part.EVENT));
+        assertEquals(0, this.partition.indexInPart(this.source.get(3)));
+    }
+
+    @Test
+    public void taskSetToItself_partReportsChange() {
+        this.source.set(3, this.source.get(3));
+
+        assertEquals(1, this.taskChanges.size());
+    }
+
+    @Test
+    public void filterChanged_partsFollowFilter() {
+        this.filtered.setPredicate(task -> task.getName().fullName.endsWith("d"));
+
+        assertEquals(Arrays.asList("task d"), names(Part.TASK));
+        assertEquals(Arrays.asList(), names(Part.EVENT));
+        assertEquals(null, this.partition.getPartOf(this.source.get(0)));
+        assertEquals(-1, this.partition.indexInPart(this.source.get(0)));
+    }
+
+    @Test
+    public void randomChanges_partsMatchSourceAndReplayToSameParts() throws Exception {
+        Map<ReadOnlyTask, IntegerProperty> versions = new IdentityHashMap<>();
+        ObservableList<ReadOnlyTask> source = FXCollections.observableArrayList(
+            task -> new Observable[] {versions.computeIfAbsent(task, unused -> new SimpleIntegerProperty())});
+        FilteredList<ReadOnlyTask> filtered = new FilteredList<>(source);
+        TaskListPartition partition = new TaskListPartition(filtered);
+        Map<Part, ObservableList<ReadOnlyTask>> mirrors = new EnumMap<>(Part.class);
+        for (Part part : Part.values()) {
+            ObservableList<ReadOnlyTask> mirror = FXCollections.observableArrayList();
+            mirrors.put(part, mirror);
+            partition.getPart(part).addListener((ListChangeListener<ReadOnlyTask>) change -> replay(change, mirror));
+        }
+
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            int operation = random.nextInt(6);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), randomTask(random, "t" + i));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                int index = random.nextInt(source.size());
+                source.set(index, random.nextBoolean() ? source.get(index) : randomTask(random, "t" + i));
+            } else if (operation == 3) {
+                Task task = (Task) source.get(random.nextInt(source.size()));
+                Task times = randomTask(random, "times");
+                task.setStartTime(times.getStartTime());
+                task.setEndTime(times.getDeadline());
+                IntegerProperty version = versions.get(task);
+                version.set(version.get() + 1);
+            } else if (operation == 4) {
+                int digit = random.nextInt(10);
+                filtered.setPredicate(task -> !task.getName().fullName.endsWith(String.valueOf(digit)));
+            } else {
+                source.sort(Comparator.comparing(task -> task.getName().fullName));
+            }
+
+            for (Part part : Part.values()) {
+                List<ReadOnlyTask> expected = filtered.stream().filter(task -> Part.of(task) == part)
+                        .collect(Collectors.toList());
+                assertEquals(expected, partition.getPart(part));
+                assertEquals(expected, mirrors.get(part));
+                for (int j = 0; j < expected.size(); j++) {
+                    assertEquals(part, partition.getPartOf(expected.get(j)));
+                    assertEquals(j, partition.indexInPart(expected.get(j)));
+                }
+            }
+        }
+    }
+
+    private static Task randomTask(Random random, String name) throws Exception {
+        String[] startTimes = {"", "01/02/17 09:00"};
+        String[] deadlines = {"", "01/02/17 10:00"};
+        String deadline = deadlines[random.nextInt(2)];
+        String startTime = deadline.isEmpty() ? "" : startTimes[random.nextInt(2)];
+        return taskNamed(name).withStartTime(startTime).withDeadline(deadline).buildTask();
+    }
+
+    private static <E> void replay(ListChangeListener.Change<? extends E> change, List<E> mirror) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<E> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror.clear();
+                mirror.addAll(permuted);
+            } else {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    private List<String> names(Part part) {
+        return this.partition.getPart(part).stream().map(task -> task.getName().fullName)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,106 @@
+package seedu.doit.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.doit.commons.exceptions.EmptyTaskManagerStackException;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+import seedu.doit.testutil.TypicalTestTasks;
+
+//@@author A0138909R
+public class TaskManagerStackTest {
+
+    private final TaskManagerStack taskManagerStack = TaskManagerStack.getInstance();
+    private final TypicalTestTasks td = new TypicalTestTasks();
+    private TaskManager taskManager;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        this.taskManagerStack.clearUndoStack();
+        this.taskManagerStack.clearRedoStack();
+        this.taskManager = this.td.getTypicalTaskManager();
+    }
+
+    @After
+    public void tearDown() {
+        this.taskManagerStack.setLimits(TaskManagerStack.DEFAULT_MAX_DEPTH, TaskManagerStack.DEFAULT_MAX_TASK_COUNT);
+    }
+
+    @Test
+    public void undoRedo_addition_restoresTaskManager() throws Exception {
+        TaskManager original = new TaskManager(this.taskManager);
+        Task hoon = new Task(this.td.hoon);
+        this.taskManager.addTask(hoon);
+        TaskManager added = new TaskManager(this.taskManager);
+        this.taskManagerStack.addToUndoStack(TaskManagerChange.addition(hoon));
+
+        this.taskManagerStack.undo(this.taskManager);
+        assertEquals(original, this.taskManager);
+
+        this.taskManagerStack.redo(this.taskManager);
+        assertEquals(added, this.taskManager);
+    }
+
+    @Test
+    public void undoRedo_removal_restoresTaskManager() throws Exception {
+        TaskManager original = new TaskManager(this.taskManager);
+        ReadOnlyTask alice = this.taskManager.getTaskList().get(0);
+        this.taskManager.removeTask(new HashSet<>(Collections.singleton(alice)));
+        TaskManager removed = new TaskManager(this.taskManager);
+        this.taskManagerStack.addToUndoStack(TaskManagerChange.removal(Collections.singleton(alice)));
+
+        this.taskManagerStack.undo(this.taskManager);
+        assertEquals(original, this.taskManager);
+
+        this.taskManagerStack.redo(this.taskManager);
+        assertEquals(removed, this.taskManager);
+    }
+
+    @Test
+    public void undoRedo_reset_restoresTaskManager() throws Exception {
+        TaskManager original = new TaskManager(this.taskManager);
+        TaskManagerChange change = TaskManagerChange.reset(original.getTaskList(), original.getTagList());
+        this.taskManager.resetData(new TaskManager());
+        this.taskManagerStack.addToUndoStack(change);
+
+        this.taskManagerStack.undo(this.taskManager);
+        assertEquals(original, this.taskManager);
+
+        this.taskManagerStack.redo(this.taskManager);
+        assertEquals(new TaskManager(), this.taskManager);
+    }
+
+    @Test
+    public void addToUndoStack_exceedsDepth_dropsOldestChange() throws Exception {
+        this.taskManagerStack.setLimits(1, TaskManagerStack.DEFAULT_MAX_TASK_COUNT);
+        this.taskManagerStack.addToUndoStack(TaskManagerChange.removal(Collections.emptyList()));
+        this.taskManagerStack.addToUndoStack(TaskManagerChange.removal(Collections.emptyList()));
+
+        this.taskManagerStack.undo(this.taskManager);
+        thrown.expect(EmptyTaskManagerStackException.class);
+        this.taskManagerStack.undo(this.taskManager);
+    }
+
+    @Test
+    public void addToUndoStack_exceedsTaskCount_dropsOldestChange() throws Exception {
+        this.taskManagerStack.setLimits(TaskManagerStack.DEFAULT_MAX_DEPTH, 1);
+        this.taskManagerStack.addToUndoStack(TaskManagerChange.removal(Collections.singleton(this.td.alice)));
+        this.taskManagerStack.addToUndoStack(TaskManagerChange.removal(Collections.singleton(this.td.benson)));
+
+        this.taskManagerStack.undo(new TaskManager());
+        thrown.expect(EmptyTaskManagerStackException.class);
+        this.taskManagerStack.undo(new TaskManager());
+    }
+}
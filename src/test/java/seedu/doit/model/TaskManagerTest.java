@@ -1,6 +1,9 @@
 package seedu.doit.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static seedu.doit.testutil.TaskBuilder.taskNamed;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -16,6 +19,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.doit.model.item.ReadOnlyTask;
 import seedu.doit.model.item.Task;
+import seedu.doit.model.item.UniqueTaskList;
 import seedu.doit.model.tag.Tag;
 import seedu.doit.testutil.TypicalTestTasks;
 
@@ -69,6 +73,123 @@ public class TaskManagerTest {
         taskManager.resetData(newData);
     }
 
+    //@@author A0138909R
+    @Test
+    public void addTask_sharedTag_pointsToMasterTag() throws Exception {
+        taskManager.addTask(taskNamed("first").withTags("shared").buildTask());
+        taskManager.addTask(taskNamed("second").withTags("shared").buildTask());
+
+        assertEquals(1, taskManager.getTagList().size());
+        Tag masterTag = taskManager.getTagList().get(0);
+        for (ReadOnlyTask task : taskManager.getTaskList()) {
+            assertSame(masterTag, task.getTagSet().get(0));
+        }
+    }
+
+    @Test
+    public void addTasks_sharedTags_addedOnceAndIndexed() throws Exception {
+        taskManager.addTask(taskNamed("existing").withTags("shared").buildTask());
+        taskManager.addTasks(Arrays.asList(taskNamed("second").withTags("shared", "fresh").buildTask(),
+                taskNamed("first").withTags("fresh").buildTask()));
+
+        assertEquals(Arrays.asList(Tag.of("shared"), Tag.of("fresh")), taskManager.getTagList());
+        assertEquals(3, taskManager.getTaskList().size());
+        assertEquals(2, taskManager.getTaskIndex().find(Collections.emptySet(), Collections.emptySet(),
+                Collections.emptySet(), Collections.singleton("fresh"), Collections.emptySet(),
+                Collections.emptySet()).size());
+    }
+
+    @Test
+    public void addTasks_duplicateTask_nothingAdded() throws Exception {
+        taskManager.addTask(taskNamed("existing").withTags("old").buildTask());
+        try {
+            taskManager.addTasks(Arrays.asList(taskNamed("new").withTags("new").buildTask(),
+                    taskNamed("existing").buildTask()));
+            fail("Expected a DuplicateTaskException");
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assertEquals(1, taskManager.getTaskList().size());
+            assertEquals(Collections.singletonList(Tag.of("old")), taskManager.getTagList());
+        }
+    }
+
+    @Test
+    public void removeTask_lastTaskWithTag_tagDropped() throws Exception {
+        Task first = taskNamed("first").withTags("shared", "only").buildTask();
+        Task second = taskNamed("second").withTags("shared").buildTask();
+        taskManager.addTask(first);
+        taskManager.addTask(second);
+
+        taskManager.removeTask(first);
+        assertEquals(Collections.singletonList(Tag.of("shared")), taskManager.getTagList());
+
+        taskManager.removeTask(Collections.singleton(second));
+        assertEquals(Collections.emptyList(), taskManager.getTagList());
+    }
+
+    @Test
+    public void updateTask_tagReplaced_unusedTagDropped() throws Exception {
+        taskManager.addTask(taskNamed("task").withTags("old").buildTask());
+
+        taskManager.updateTask(0, taskNamed("task").withTags("new").buildTask());
+        assertEquals(Collections.singletonList(Tag.of("new")), taskManager.getTagList());
+    }
+
+    @Test
+    public void updateTask_duplicateTask_tagListUnchanged() throws Exception {
+        taskManager.addTask(taskNamed("first").withTags("old").buildTask());
+        taskManager.addTask(taskNamed("second").buildTask());
+        List<Tag> tagsBefore = new ArrayList<>(taskManager.getTagList());
+
+        try {
+            taskManager.updateTask(1, taskNamed("first").withTags("new").buildTask());
+            fail("Expected a DuplicateTaskException");
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assertEquals(tagsBefore, taskManager.getTagList());
+        }
+    }
+
+    @Test
+    public void removeTags_tagInUse_tagKept() throws Exception {
+        taskManager.addTask(taskNamed("task").withTags("used").buildTask());
+        taskManager.mergeTags(Collections.singleton(Tag.of("unused")));
+
+        taskManager.removeTags(Arrays.asList(Tag.of("used"), Tag.of("unused")));
+        assertEquals(Collections.singletonList(Tag.of("used")), taskManager.getTagList());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notSeen() throws Exception {
+        taskManager.addTask(taskNamed("first").withTags("old").buildTask());
+        taskManager.addTask(taskNamed("second").buildTask());
+        ReadOnlyTaskManager snapshot = taskManager.snapshot();
+
+        taskManager.updateTask(0, taskNamed("renamed").withTags("new").buildTask());
+        taskManager.markTask(0, taskManager.getTaskList().get(0));
+        taskManager.removeTask(taskNamed("second").buildTask());
+        taskManager.addTask(taskNamed("third").buildTask());
+
+        TaskManager expected = new TaskManager();
+        expected.addTask(taskNamed("first").withTags("old").buildTask());
+        expected.addTask(taskNamed("second").buildTask());
+        assertEquals(expected, new TaskManager(snapshot));
+        assertEquals(taskManager, new TaskManager(taskManager.snapshot()));
+    }
+
+    @Test
+    public void snapshot_tasks_sharedInListOrder() throws Exception {
+        for (String name : Arrays.asList("delta", "alpha", "charlie", "bravo", "echo")) {
+            taskManager.addTask(taskNamed(name).buildTask());
+        }
+        taskManager.updateTask(2, taskNamed("foxtrot").buildTask());
+
+        List<ReadOnlyTask> snapshotTasks = taskManager.snapshot().getTaskList();
+        assertEquals(taskManager.getTaskList().size(), snapshotTasks.size());
+        for (int i = 0; i < snapshotTasks.size(); i++) {
+            assertSame(taskManager.getTaskList().get(i), snapshotTasks.get(i));
+        }
+    }
+
+
     /**
      * A stub ReadOnlyTaskManager whose tasks and tags lists can violate interface constraints.
      */
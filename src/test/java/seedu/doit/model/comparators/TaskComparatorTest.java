@@ -0,0 +1,86 @@
+package seedu.doit.model.comparators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.doit.testutil.TaskBuilder.taskNamed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+
+//@@author A0138909R
+public class TaskComparatorTest {
+
+    @Test
+    public void endTimeComparator_deadlinesInDifferentMonths_chronologicalOrder() throws Exception {
+        Task april = taskNamed("April").withDeadline("01/04/17 10:00").buildTask();
+        Task march = taskNamed("March").withDeadline("29/03/17 10:00").buildTask();
+        Task nextYear = taskNamed("Next year").withDeadline("15/01/18 10:00").buildTask();
+
+        assertEquals(Arrays.asList(march, april, nextYear), sort(new EndTimeComparator(), april, nextYear, march));
+    }
+
+    @Test
+    public void startTimeComparator_startTimesInDifferentMonths_chronologicalOrder() throws Exception {
+        Task april = taskNamed("April").withStartTime("01/04/17 10:00").withDeadline("02/04/17 10:00").buildTask();
+        Task march = taskNamed("March").withStartTime("29/03/17 10:00").withDeadline("02/04/17 10:00").buildTask();
+
+        assertEquals(Arrays.asList(march, april), sort(new StartTimeComparator(), april, march));
+    }
+
+    @Test
+    public void comparators_mixedItems_doneLastThenTasksEventsFloating() throws Exception {
+        Task floating = taskNamed("Floating").buildTask();
+        Task event = taskNamed("Event").withStartTime("01/04/17 10:00").withDeadline("02/04/17 10:00").buildTask();
+        Task deadline = taskNamed("Deadline").withDeadline("02/04/17 10:00").buildTask();
+        Task done = taskNamed("Done").withDeadline("01/01/17 10:00").withIsDone(true).buildTask();
+
+        for (TaskComparator comparator : new TaskComparator[] {new EndTimeComparator(), new StartTimeComparator(),
+            new PriorityComparator(), new TaskNameComparator()}) {
+            assertEquals(Arrays.asList(deadline, event, floating, done),
+                    sort(comparator, done, floating, event, deadline));
+        }
+    }
+
+    @Test
+    public void priorityComparator_highBeforeLow() throws Exception {
+        Task low = taskNamed("Low").buildTask();
+        Task med = taskNamed("Med").withPriority("med").buildTask();
+        Task high = taskNamed("High").withPriority("high").buildTask();
+
+        assertEquals(Arrays.asList(high, med, low), sort(new PriorityComparator(), low, high, med));
+    }
+
+    @Test
+    public void taskNameComparator_ignoresCase() throws Exception {
+        Task lower = taskNamed("apple").buildTask();
+        Task upper = taskNamed("Banana").buildTask();
+
+        assertEquals(Arrays.asList(lower, upper), sort(new TaskNameComparator(), upper, lower));
+        assertTrue(new TaskNameComparator().compare(taskNamed("ABC").buildTask(),
+                taskNamed("abc").buildTask()) == 0);
+    }
+
+    @Test
+    public void task_fieldsChanged_sortKeysUpdated() throws Exception {
+        Task task = taskNamed("Task").withDeadline("01/04/17 10:00").buildTask();
+        Task other = taskNamed("Other").withDeadline("29/03/17 10:00").buildTask();
+        assertTrue(new EndTimeComparator().compare(task, other) > 0);
+
+        task.resetData(taskNamed("Task").withDeadline("28/03/17 10:00").buildTask());
+        assertTrue(new EndTimeComparator().compare(task, other) < 0);
+    }
+
+    private static List<ReadOnlyTask> sort(TaskComparator comparator, ReadOnlyTask... tasks) {
+        List<ReadOnlyTask> sorted = new ArrayList<>(Arrays.asList(tasks));
+        Collections.sort(sorted, comparator);
+        return sorted;
+    }
+
+}
@@ -0,0 +1,36 @@
+package seedu.doit.model.predicates;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.doit.model.item.WordSet;
+
+//@@author A0138909R
+public class KeywordSetTest {
+
+    private static final WordSet WORDS = WordSet.of("Buy milk and bread");
+
+    @Test
+    public void isAllIn_everyKeywordIgnoringCase_true() {
+        assertTrue(new KeywordSet(Arrays.asList("BUY", " bread ")).isAllIn(WORDS));
+        assertTrue(new KeywordSet(Arrays.asList("buy", "Buy")).isAllIn(WORDS));
+        assertTrue(new KeywordSet(Collections.emptyList()).isAllIn(WORDS));
+    }
+
+    @Test
+    public void isAllIn_missingOrPartialKeyword_false() {
+        assertFalse(new KeywordSet(Arrays.asList("buy", "eggs")).isAllIn(WORDS));
+        assertFalse(new KeywordSet(Arrays.asList("bu")).isAllIn(WORDS));
+    }
+
+    @Test
+    public void isAnyIn_oneKeywordMatches_true() {
+        assertTrue(new KeywordSet(Arrays.asList("eggs", "MILK")).isAnyIn(WORDS));
+        assertFalse(new KeywordSet(Arrays.asList("eggs", "cheese")).isAnyIn(WORDS));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.doit.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.doit.testutil.TaskBuilder.taskNamed;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.doit.model.item.Task;
+
+//@@author A0138909R
+public class TagSetTest {
+
+    @Test
+    public void of_sameTagsInAnyOrder_equalSetsInNameOrder() throws Exception {
+        TagSet first = TagSet.of(Arrays.asList(Tag.of("work"), Tag.of("home"), Tag.of("work")));
+        TagSet second = TagSet.of(new UniqueTagList("home", "work"));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(Arrays.asList(Tag.of("home"), Tag.of("work")), first.asList());
+        assertTrue(first.contains(new Tag("work")));
+        assertFalse(first.contains(new Tag("school")));
+    }
+
+    @Test
+    public void of_noTags_emptySet() {
+        assertSame(TagSet.EMPTY, TagSet.of(new UniqueTagList()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void task_copied_tagSetShared() throws Exception {
+        Task task = taskNamed("Task").withTags("work", "home").buildTask();
+        Task copy = new Task(task);
+
+        assertSame(task.getTagSet(), copy.getTagSet());
+        assertEquals(task.getTagSet(), TagSet.of(task.getTags()));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.doit.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.Test;
+
+import seedu.doit.commons.exceptions.IllegalValueException;
+
+//@@author A0138909R
+public class TagTest {
+
+    @Test
+    public void of_sameName_sharedInstance() throws Exception {
+        assertSame(Tag.of("work"), Tag.of("work"));
+        assertSame(Tag.of("work"), Tag.of(" work "));
+        assertEquals(new Tag("work"), Tag.of("work"));
+    }
+
+    @Test
+    public void of_tagNoLongerUsed_released() throws Exception {
+        WeakReference<Tag> unused = new WeakReference<>(Tag.of("unusedTag"));
+        for (int i = 0; i < 50 && unused.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(unused.get());
+    }
+
+    @Test(expected = IllegalValueException.class)
+    public void of_invalidName_exceptionThrown() throws Exception {
+        Tag.of("not a tag");
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.doit.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import seedu.doit.commons.exceptions.IllegalValueException;
 import seedu.doit.model.item.Priority;
 
 //@@author A0146809W
@@ -25,4 +28,17 @@ public class PriorityTest {
         assertTrue(Priority.isValidPriority("med"));
         assertTrue(Priority.isValidPriority("high"));
     }
+
+    //@@author A0138909R
+    @Test
+    public void of_validPriority_sharedInstanceEqualToConstructed() throws Exception {
+        assertSame(Priority.of("med"), Priority.of(" med "));
+        assertEquals(new Priority("high"), Priority.of("high"));
+        assertTrue(Priority.of("high").compareTo(Priority.of("low")) < 0);
+    }
+
+    @Test(expected = IllegalValueException.class)
+    public void of_invalidPriority_exceptionThrown() throws Exception {
+        Priority.of("urgent");
+    }
 }
@@ -1,8 +1,11 @@
 package seedu.doit.model.task;
 
 import static junit.framework.TestCase.assertFalse;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDateTime;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -37,6 +40,16 @@ public class StartTimeTest {
         assertFalse(StartTime.isValidStartTime("09/99/16 10:21")); //month out of range
     }
 
+    //@@author A0138909R
+    @Test
+    public void startTime_fromDateTime_sameAsParsedString() throws Exception {
+        StartTime parsed = new StartTime("20/03/17 10:21");
+        StartTime fromDateTime = new StartTime(LocalDateTime.of(2017, 3, 20, 10, 21));
+        assertEquals(parsed, fromDateTime);
+        assertEquals(LocalDateTime.of(2017, 3, 20, 10, 21), fromDateTime.getDateTimeObject());
+    }
+    //@@author A0146809W
+
     @Test
     public void invalidStart_IllegalValueException() throws Exception {
         thrown.expect(IllegalValueException.class);
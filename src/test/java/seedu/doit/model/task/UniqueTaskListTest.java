@@ -0,0 +1,219 @@
+package seedu.doit.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.doit.testutil.TaskBuilder.taskNamed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import seedu.doit.model.comparators.TaskNameComparator;
+import seedu.doit.model.item.Name;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.item.UniqueTaskList;
+import seedu.doit.testutil.TaskBuilder;
+import seedu.doit.testutil.TypicalTestTasks;
+
+public class UniqueTaskListTest {
+
+    private final TypicalTestTasks td = new TypicalTestTasks();
+    private UniqueTaskList uniqueTaskList;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() throws Exception {
+        this.uniqueTaskList = new UniqueTaskList();
+        for (ReadOnlyTask task : this.td.getTypicalTasks()) {
+            this.uniqueTaskList.add(new Task(task));
+        }
+    }
+
+    @Test
+    public void add_unsortedTasks_keepsListSorted() {
+        assertSorted();
+    }
+
+    @Test
+    public void updateTask_renamedTask_movesToSortedPosition() throws Exception {
+        int index = this.uniqueTaskList.asObservableList().indexOf(new Task(this.td.aE));
+        this.uniqueTaskList.updateTask(index, new TaskBuilder(this.td.aE).withName("Zzz Last").build());
+        assertSorted();
+    }
+
+    @Test
+    public void markAndUnmark_movesToSortedPosition() throws Exception {
+        int index = this.uniqueTaskList.asObservableList().indexOf(new Task(this.td.aE));
+        this.uniqueTaskList.mark(index, this.td.aE);
+        assertSorted();
+        int last = this.uniqueTaskList.asObservableList().size() - 1;
+        this.uniqueTaskList.unmark(last, this.uniqueTaskList.asObservableList().get(last));
+        assertSorted();
+    }
+
+    @Test
+    public void remove_keepsListSorted() {
+        this.uniqueTaskList.remove(this.uniqueTaskList.asObservableList().get(3));
+        assertSorted();
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() throws Exception {
+        thrown.expect(UniqueTaskList.DuplicateTaskException.class);
+        this.uniqueTaskList.add(new Task(this.td.alice));
+    }
+
+    @Test
+    public void setTasks_duplicateTasks_throwsDuplicateTaskException() throws Exception {
+        thrown.expect(UniqueTaskList.DuplicateTaskException.class);
+        this.uniqueTaskList.setTasks(Arrays.asList(new Task(this.td.alice), new Task(this.td.alice)));
+    }
+
+    @Test
+    public void contains_afterUpdateAndRemove_reflectsCurrentTasks() throws Exception {
+        int index = this.uniqueTaskList.asObservableList().indexOf(new Task(this.td.aE));
+        ReadOnlyTask renamed = new TaskBuilder(this.td.aE).withName("Renamed").build();
+        this.uniqueTaskList.updateTask(index, renamed);
+        assertFalse(this.uniqueTaskList.contains(this.td.aE));
+        assertTrue(this.uniqueTaskList.contains(renamed));
+
+        this.uniqueTaskList.remove(renamed);
+        assertFalse(this.uniqueTaskList.contains(renamed));
+    }
+
+    //@@author A0138909R
+    @Test
+    public void addAll_unsortedTasks_mergedInOneChange() throws Exception {
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        this.uniqueTaskList.asObservableList().addListener((ListChangeListener<Task>) changes::add);
+        int sizeBefore = this.uniqueTaskList.asObservableList().size();
+
+        this.uniqueTaskList.addAll(Arrays.asList(taskNamed("Zzz Last").buildTask(), taskNamed("Aaa First").buildTask(),
+                taskNamed("Mmm").buildTask()));
+        assertEquals(1, changes.size());
+        assertEquals(sizeBefore + 3, this.uniqueTaskList.asObservableList().size());
+        assertTrue(this.uniqueTaskList.contains(taskNamed("Mmm").buildTask()));
+        assertSorted();
+    }
+
+    @Test
+    public void addAll_duplicateOfExistingTask_nothingAdded() throws Exception {
+        int sizeBefore = this.uniqueTaskList.asObservableList().size();
+        try {
+            this.uniqueTaskList.addAll(Arrays.asList(taskNamed("New").buildTask(), new Task(this.td.alice)));
+            fail("Expected a DuplicateTaskException");
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assertEquals(sizeBefore, this.uniqueTaskList.asObservableList().size());
+            assertFalse(this.uniqueTaskList.contains(taskNamed("New").buildTask()));
+        }
+    }
+
+    @Test
+    public void addAll_duplicateWithinTasks_throwsDuplicateTaskException() throws Exception {
+        thrown.expect(UniqueTaskList.DuplicateTaskException.class);
+        this.uniqueTaskList.addAll(Arrays.asList(taskNamed("New").buildTask(), taskNamed("New").buildTask()));
+    }
+
+    @Test
+    public void updateTasks_renamedTasks_movedInOneChange() throws Exception {
+        List<Task> targets = Arrays.asList(taskNamed("Bbb").buildTask(), taskNamed("Ccc").buildTask(),
+                taskNamed("Ddd").buildTask());
+        this.uniqueTaskList.addAll(targets);
+        ObservableList<Task> tasks = this.uniqueTaskList.asObservableList();
+        List<Task> edited = new ArrayList<>();
+        for (Task target : targets) {
+            edited.add(renamed(target, "Zzz " + target.getName().fullName));
+        }
+        int sizeBefore = tasks.size();
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        tasks.addListener((ListChangeListener<Task>) changes::add);
+
+        this.uniqueTaskList.updateTasks(targets, edited);
+        assertEquals(1, changes.size());
+        assertEquals(sizeBefore, tasks.size());
+        for (Task task : edited) {
+            assertTrue(this.uniqueTaskList.contains(task));
+        }
+        assertSorted();
+    }
+
+    @Test
+    public void updateTasks_swappedNames_succeeds() throws Exception {
+        Task first = taskNamed("Bbb").buildTask();
+        Task second = taskNamed("Ccc").buildTask();
+        this.uniqueTaskList.addAll(Arrays.asList(first, second));
+        Task firstRenamed = renamed(first, second.getName().fullName);
+        Task secondRenamed = renamed(second, first.getName().fullName);
+
+        this.uniqueTaskList.updateTasks(Arrays.asList(first, second), Arrays.asList(firstRenamed, secondRenamed));
+        assertTrue(this.uniqueTaskList.contains(firstRenamed));
+        assertTrue(this.uniqueTaskList.contains(secondRenamed));
+        assertSorted();
+    }
+
+    @Test
+    public void updateTasks_duplicateOfOtherTask_nothingUpdated() throws Exception {
+        Task first = taskNamed("Bbb").buildTask();
+        Task second = taskNamed("Ccc").buildTask();
+        this.uniqueTaskList.addAll(Arrays.asList(first, second));
+        List<Task> tasks = this.uniqueTaskList.asObservableList();
+        List<Task> before = new ArrayList<>(tasks);
+        try {
+            this.uniqueTaskList.updateTasks(Arrays.asList(first, second),
+                    Arrays.asList(taskNamed("New").buildTask(), new Task(this.td.alice)));
+            fail("Expected a DuplicateTaskException");
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assertEquals(before, new ArrayList<>(tasks));
+            assertTrue(this.uniqueTaskList.contains(taskNamed("Bbb").buildTask()));
+            assertFalse(this.uniqueTaskList.contains(taskNamed("New").buildTask()));
+        }
+    }
+
+    @Test
+    public void removeSet_equivalentTasks_removedInOneChange() throws Exception {
+        this.uniqueTaskList.addAll(Arrays.asList(taskNamed("Bbb").buildTask(), taskNamed("Zzz").buildTask()));
+        ObservableList<Task> tasks = this.uniqueTaskList.asObservableList();
+        int sizeBefore = tasks.size();
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        tasks.addListener((ListChangeListener<Task>) changes::add);
+
+        Set<ReadOnlyTask> toRemove = new HashSet<>(Arrays.asList(taskNamed("Zzz").buildTask(),
+                taskNamed("Bbb").buildTask(), taskNamed("Missing").buildTask()));
+        assertTrue(this.uniqueTaskList.remove(toRemove));
+        assertEquals(1, changes.size());
+        assertEquals(sizeBefore - 2, tasks.size());
+        assertFalse(this.uniqueTaskList.contains(taskNamed("Bbb").buildTask()));
+        assertFalse(this.uniqueTaskList.contains(taskNamed("Zzz").buildTask()));
+        assertFalse(this.uniqueTaskList.remove(toRemove));
+        assertSorted();
+    }
+
+    private static Task renamed(ReadOnlyTask task, String name) throws Exception {
+        Task renamedTask = new Task(task);
+        renamedTask.setName(new Name(name));
+        return renamedTask;
+    }
+
+    //@@author
+
+    private void assertSorted() {
+        List<ReadOnlyTask> expected = new ArrayList<>(this.uniqueTaskList.asObservableList());
+        expected.sort(new TaskNameComparator());
+        assertEquals(expected, new ArrayList<>(this.uniqueTaskList.asObservableList()));
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.doit.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.doit.model.item.WordSet;
+
+//@@author A0138909R
+public class WordSetTest {
+
+    @Test
+    public void of_mixedCaseRepeatedWords_distinctFoldedSorted() {
+        WordSet words = WordSet.of("  Buy milk\tBUY\nbread ");
+
+        assertEquals(3, words.size());
+        assertEquals("bread", words.get(0));
+        assertEquals("buy", words.get(1));
+        assertEquals("milk", words.get(2));
+        assertTrue(words.contains("buy"));
+        assertFalse(words.contains("Buy"));
+        assertFalse(words.contains("bu"));
+    }
+
+    @Test
+    public void of_blankText_empty() {
+        assertEquals(0, WordSet.of("").size());
+        assertEquals(0, WordSet.of(" \t ").size());
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.doit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.commons.util.FileUtil;
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManager;
+import seedu.doit.model.item.Task;
+import seedu.doit.testutil.TypicalTestTasks;
+
+//@@author A0138909R
+public class BinaryTaskManagerStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlTaskManagerStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NonExistentFile.bin";
+        assertFalse(new BinaryTaskManagerStorage(filePath).readTaskManager().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NotXmlFormatTaskManager.xml";
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskManagerStorage(filePath).readTaskManager();
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        File file = new File(testFolder.getRoot(), "TempTaskManager.bin");
+        new BinaryTaskManagerStorage(file.getPath()).saveTaskManager(new TypicalTestTasks().getTypicalTaskManager());
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskManagerStorage(file.getPath(), 0).readTaskManager();
+    }
+
+    @Test
+    public void read_tagIndexOutOfRange_exceptionThrown() throws Exception {
+        File file = new File(testFolder.getRoot(), "TempTaskManager.bin");
+        new BinaryTaskManagerStorage(file.getPath()).saveTaskManager(new TypicalTestTasks().getTypicalTaskManager());
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        // skips the magic number, the format version and the table of tag names
+        buffer.position(6);
+        int tagNameCount = buffer.getInt();
+        for (int i = 0; i < tagNameCount; i++) {
+            int length = buffer.getInt();
+            buffer.position(buffer.position() + length);
+        }
+        assertTrue(buffer.getInt() > 0);
+        buffer.putInt(buffer.position(), tagNameCount);
+        Files.write(file.toPath(), buffer.array());
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskManagerStorage(file.getPath(), 0).readTaskManager();
+    }
+
+    @Test
+    public void readAndSaveTaskManager_allInOrder_success() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "TempTaskManager.bin").getPath();
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskManager original = td.getTypicalTaskManager();
+        original.addTask(new Task(TypicalTestTasks.getEventTestTask()));
+        BinaryTaskManagerStorage storage = new BinaryTaskManagerStorage(filePath);
+
+        storage.saveTaskManager(original);
+        ReadOnlyTaskManager readBack = storage.readTaskManager().get();
+        assertEquals(original, new TaskManager(readBack));
+
+        original.removeTask(new Task(td.alice));
+        storage.saveTaskManager(original);
+        readBack = storage.readTaskManager().get();
+        assertEquals(original, new TaskManager(readBack));
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameXmlFile() throws Exception {
+        File xmlFile = new File(testFolder.getRoot(), "original.xml");
+        File binaryFile = new File(testFolder.getRoot(), "converted.bin");
+        File convertedXmlFile = new File(testFolder.getRoot(), "converted.xml");
+        TaskManager original = new TypicalTestTasks().getTypicalTaskManager();
+        original.addTask(new Task(TypicalTestTasks.getEventTestTask()));
+        new XmlStreamTaskManagerStorage(xmlFile.getPath()).saveTaskManager(original);
+
+        TaskManagerFileConverter.convert(xmlFile.getPath(), binaryFile.getPath());
+        TaskManagerFileConverter.convert(binaryFile.getPath(), convertedXmlFile.getPath());
+
+        assertEquals(FileUtil.readFromFile(xmlFile), FileUtil.readFromFile(convertedXmlFile));
+    }
+}
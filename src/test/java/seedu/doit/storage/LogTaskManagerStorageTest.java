@@ -0,0 +1,222 @@
+package seedu.doit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.doit.commons.core.EventsCenter;
+import seedu.doit.commons.events.model.TaskManagerChangedEvent;
+import seedu.doit.model.ModelManager;
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManager;
+import seedu.doit.model.TaskManagerChange;
+import seedu.doit.model.UserPrefs;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.tag.Tag;
+import seedu.doit.testutil.TaskBuilder;
+import seedu.doit.testutil.TypicalTestTasks;
+
+//@@author A0138909R
+public class LogTaskManagerStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TypicalTestTasks td = new TypicalTestTasks();
+    private String filePath;
+    private File logFile;
+
+    @Before
+    public void setUp() {
+        this.filePath = new File(testFolder.getRoot(), "TempTaskManager.xml").getPath();
+        this.logFile = LogTaskManagerStorage.getLogFile(this.filePath);
+    }
+
+    @Test
+    public void saveTaskManager_changes_appendedToLogAndReadBack() throws Exception {
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath);
+        TaskManager original = this.td.getTypicalTaskManager();
+        storage.saveTaskManager(original);
+        long snapshotSize = new File(this.filePath).length();
+        assertFalse(this.logFile.exists());
+
+        save(storage, original, TaskManagerChange.addition(original.addTask(new Task(this.td.hoon))));
+        save(storage, original, TaskManagerChange.removal(original.removeTask(Collections.singleton(this.td.alice))));
+        int index = original.getTaskList().indexOf(new Task(this.td.aE));
+        ReadOnlyTask before = original.getTaskList().get(index);
+        Task after = original.updateTask(index,
+                new TaskBuilder(this.td.aE).withDeadline("21/03/17").withTags("edited").build());
+        save(storage, original, TaskManagerChange.replacement(Collections.singleton(before),
+                Collections.singleton(after)));
+
+        assertTrue(this.logFile.exists());
+        assertEquals(snapshotSize, new File(this.filePath).length());
+        assertEquals(original, new TaskManager(new LogTaskManagerStorage(this.filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void saveTaskManager_severalChangesAtOnce_appliedInOrder() throws Exception {
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath);
+        TaskManager original = this.td.getTypicalTaskManager();
+        storage.saveTaskManager(original);
+
+        Task hoon = original.addTask(new Task(this.td.hoon));
+        List<Task> removed = original.removeTask(Collections.singleton(this.td.hoon));
+        Task hoonAgain = original.addTask(new Task(this.td.hoon));
+        storage.saveTaskManager(original, Arrays.asList(TaskManagerChange.addition(hoon),
+                TaskManagerChange.removal(removed), TaskManagerChange.addition(hoonAgain)), this.filePath);
+
+        assertTrue(this.logFile.exists());
+        assertEquals(original, new TaskManager(new LogTaskManagerStorage(this.filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void saveTaskManager_changesFromModel_readBack() throws Exception {
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath);
+        ModelManager model = new ModelManager(this.td.getTypicalTaskManager(), new UserPrefs());
+        storage.saveTaskManager(model.getTaskManager());
+        List<TaskManagerChangedEvent> events = new ArrayList<>();
+        EventsCenter.getInstance().registerHandler(new Object() {
+            @Subscribe
+            public void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
+                events.add(event);
+            }
+        });
+        try {
+            model.addTask(new Task(this.td.hoon));
+            model.markTask(0, model.getFilteredTaskList().get(0));
+            model.updateTask(model.getFilteredTaskList().indexOf(new Task(this.td.aE)),
+                    new TaskBuilder(this.td.aE).withTags("edited").build());
+            model.deleteTasks(Collections.singleton(model.getFilteredTaskList().get(2)));
+            model.clearData();
+            model.undo();
+            model.redo();
+            model.undo();
+        } finally {
+            EventsCenter.clearSubscribers();
+        }
+        for (TaskManagerChangedEvent event : events) {
+            save(storage, event.data, event.change);
+        }
+
+        assertTrue(this.logFile.exists());
+        assertEquals(new TaskManager(model.getTaskManager()),
+                new TaskManager(new LogTaskManagerStorage(this.filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void saveTaskManager_unknownChanges_snapshotWritten() throws Exception {
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath);
+        TaskManager original = this.td.getTypicalTaskManager();
+        save(storage, original, TaskManagerChange.addition(original.addTask(new Task(this.td.hoon))));
+        original.addTask(new Task(this.td.ida));
+        storage.saveTaskManager(original, null, this.filePath);
+
+        assertFalse(this.logFile.exists());
+        assertEquals(original, new TaskManager(new XmlStreamTaskManagerStorage(this.filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void saveTaskManager_clear_readBackEmpty() throws Exception {
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath);
+        TaskManager original = this.td.getTypicalTaskManager();
+        storage.saveTaskManager(original);
+        TaskManagerChange clear = TaskManagerChange.reset(new ArrayList<>(original.getTaskList()),
+                new ArrayList<>(original.getTagList()));
+        original.resetData(new TaskManager());
+        save(storage, original, clear);
+
+        assertEquals(new TaskManager(),
+                new TaskManager(new LogTaskManagerStorage(this.filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void saveTaskManager_clearUndone_unusedTagsReadBack() throws Exception {
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath);
+        TaskManager original = this.td.getTypicalTaskManager();
+        original.mergeTags(Collections.singleton(Tag.of("unused")));
+        storage.saveTaskManager(original);
+        TaskManagerChange clear = TaskManagerChange.reset(new ArrayList<>(original.getTaskList()),
+                new ArrayList<>(original.getTagList()));
+        TaskManager expected = new TaskManager(original);
+        clear.redo(original);
+        save(storage, original, clear);
+        clear.undo(original);
+        save(storage, original, clear.inverse());
+
+        assertEquals(expected, original);
+        assertEquals(expected, new TaskManager(new LogTaskManagerStorage(this.filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void saveTaskManager_logPastThreshold_compactedIntoSnapshot() throws Exception {
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath, 0, 1);
+        TaskManager original = this.td.getTypicalTaskManager();
+        storage.saveTaskManager(original);
+        save(storage, original, TaskManagerChange.addition(original.addTask(new Task(this.td.hoon))));
+
+        assertFalse(this.logFile.exists());
+        assertEquals(original, new TaskManager(new XmlStreamTaskManagerStorage(this.filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void readTaskManager_logAlreadyInSnapshot_sameResult() throws Exception {
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath);
+        TaskManager original = this.td.getTypicalTaskManager();
+        storage.saveTaskManager(original);
+        save(storage, original, TaskManagerChange.addition(original.addTask(new Task(this.td.hoon))));
+        save(storage, original, TaskManagerChange.removal(original.removeTask(Collections.singleton(this.td.benson))));
+
+        // simulate a crash after compacting into a snapshot but before the log was emptied
+        File savedLog = testFolder.newFile("saved.log");
+        Files.copy(this.logFile.toPath(), savedLog.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        new XmlStreamTaskManagerStorage(this.filePath).saveTaskManager(original);
+        Files.copy(savedLog.toPath(), this.logFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(original, new TaskManager(new LogTaskManagerStorage(this.filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void readTaskManager_snapshotUnreadable_olderGenerationReadWithoutLog() throws Exception {
+        TaskManager older = this.td.getTypicalTaskManager();
+        TaskManager newer = new TaskManager(older);
+        newer.removeTask(new Task(this.td.alice));
+        XmlStreamTaskManagerStorage snapshotStorage = new XmlStreamTaskManagerStorage(this.filePath, 1);
+        snapshotStorage.saveTaskManager(older);
+        snapshotStorage.saveTaskManager(newer);
+
+        LogTaskManagerStorage storage = new LogTaskManagerStorage(this.filePath, 1,
+                LogTaskManagerStorage.DEFAULT_COMPACTION_THRESHOLD_BYTES);
+        storage.readTaskManager();
+        save(storage, newer, TaskManagerChange.addition(newer.addTask(new Task(this.td.hoon))));
+        assertTrue(this.logFile.exists());
+        Files.write(new File(this.filePath).toPath(), "not a task manager".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(older, new TaskManager(storage.readTaskManager().get()));
+        // the recovered data is saved as a new snapshot instead of being appended to the ignored log
+        save(storage, older, TaskManagerChange.addition(older.addTask(new Task(this.td.hoon))));
+        assertFalse(this.logFile.exists());
+    }
+
+    private void save(LogTaskManagerStorage storage, ReadOnlyTaskManager taskManager, TaskManagerChange change)
+            throws Exception {
+        storage.saveTaskManager(taskManager, Collections.singletonList(change), this.filePath);
+    }
+}
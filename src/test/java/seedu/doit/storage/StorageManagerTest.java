@@ -64,6 +64,21 @@ public class StorageManagerTest {
         assertEquals(original, new TaskManager(retrieved));
     }
 
+    // @@author A0138909R
+    @Test
+    public void copyTaskManager_toBinaryFile_convertedAndSavedAsBinary() throws Exception {
+        TaskManager original = new TypicalTestTasks().getTypicalTaskManager();
+        this.storageManager.saveTaskManager(original);
+        String binaryFilePath = getTempFilePath("ab.bin");
+        this.storageManager.setTaskManagerFilePath(binaryFilePath);
+        this.storageManager.copyTaskManager(getTempFilePath("ab"), binaryFilePath);
+
+        ReadOnlyTaskManager retrieved = new BinaryTaskManagerStorage(binaryFilePath).readTaskManager().get();
+        assertEquals(original, new TaskManager(retrieved));
+        assertEquals(original, new TaskManager(this.storageManager.readTaskManager().get()));
+    }
+    // @@author
+
     @Test
     public void getTaskManagerFilePath() {
         assertNotNull(this.storageManager.getTaskManagerFilePath());
@@ -0,0 +1,144 @@
+package seedu.doit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.model.item.Task;
+import seedu.doit.model.tag.Tag;
+import seedu.doit.testutil.TypicalTestTasks;
+
+//@@author A0138909R
+public class TaskImporterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readTasks_csv_columnsByHeader() throws Exception {
+        List<Task> tasks = TaskImporter.readTasks(write("tasks.csv",
+                "Tags,Name,End,Priority,Description,Done\r\n"
+                + "work urgent,Write report,21/03/17 18:00,high,\"for the boss, by email\",yes\r\n"
+                + "\r\n"
+                + ",Buy milk,,,\"two \"\"big\"\" cartons\",\r\n"));
+
+        assertEquals(2, tasks.size());
+        Task report = tasks.get(0);
+        assertEquals("Write report", report.getName().fullName);
+        assertEquals("high", report.getPriority().value);
+        assertEquals("for the boss, by email", report.getDescription().value);
+        assertEquals("21/03/17 18:00", report.getDeadline().value);
+        assertTrue(report.getIsDone());
+        assertTrue(report.getTagSet().contains(Tag.of("urgent")));
+
+        Task milk = tasks.get(1);
+        assertEquals("low", milk.getPriority().value);
+        assertEquals("two \"big\" cartons", milk.getDescription().value);
+        assertTrue(milk.isFloatingTask());
+    }
+
+    @Test
+    public void readTasks_csvInvalidRow_lineReported() throws Exception {
+        String filePath = write("tasks.csv", "name,priority\nfirst,low\nsecond,urgent\n");
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage("Line 3");
+        TaskImporter.readTasks(filePath);
+    }
+
+    @Test
+    public void readTasks_csvWithoutNameColumn_exceptionThrown() throws Exception {
+        String filePath = write("tasks.csv", "title,priority\nfirst,low\n");
+        thrown.expect(DataConversionException.class);
+        TaskImporter.readTasks(filePath);
+    }
+
+    @Test
+    public void readTasks_ics_eventsAndToDos() throws Exception {
+        List<Task> tasks = TaskImporter.readTasks(write("calendar.ics",
+                "BEGIN:VCALENDAR\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "SUMMARY:Team meeting!\r\n"
+                + "DESCRIPTION:Agenda\\, notes\\nand\r\n"
+                + "  more\r\n"
+                + "DTSTART:20170321T090000\r\n"
+                + "DTEND:20170321T100000\r\n"
+                + "PRIORITY:1\r\n"
+                + "CATEGORIES:Work,Meetings & calls\r\n"
+                + "BEGIN:VALARM\r\n"
+                + "DESCRIPTION:Reminder\r\n"
+                + "END:VALARM\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VTODO\r\n"
+                + "SUMMARY:Pay bills\r\n"
+                + "DUE;VALUE=DATE:20170325\r\n"
+                + "STATUS:COMPLETED\r\n"
+                + "END:VTODO\r\n"
+                + "END:VCALENDAR\r\n"));
+
+        assertEquals(2, tasks.size());
+        Task meeting = tasks.get(0);
+        assertEquals("Team meeting", meeting.getName().fullName);
+        assertEquals("Agenda, notes and more", meeting.getDescription().value);
+        assertEquals("21/03/17 09:00", meeting.getStartTime().value);
+        assertEquals("21/03/17 10:00", meeting.getDeadline().value);
+        assertEquals("high", meeting.getPriority().value);
+        assertTrue(meeting.getTagSet().contains(Tag.of("Meetingscalls")));
+
+        Task bills = tasks.get(1);
+        assertTrue(bills.isTask());
+        assertEquals("25/03/17 00:00", bills.getDeadline().value);
+        assertTrue(bills.getIsDone());
+    }
+
+    @Test
+    public void readTasks_icsDateInOtherCentury_sameDate() throws Exception {
+        String filePath = write("calendar.ics", "BEGIN:VTODO\nSUMMARY:Old bill\nDUE;VALUE=DATE:19990325\nEND:VTODO\n");
+
+        List<Task> tasks = TaskImporter.readTasks(filePath);
+        assertEquals(LocalDateTime.of(1999, 3, 25, 0, 0), tasks.get(0).getDeadline().getDateTimeObject());
+    }
+
+    @Test
+    public void readTasks_icsEndBeforeStart_exceptionThrown() throws Exception {
+        String filePath = write("calendar.ics", "BEGIN:VEVENT\nSUMMARY:Backwards\n"
+                + "DTSTART:20170321T100000\nDTEND:20170321T090000\nEND:VEVENT\n");
+        thrown.expect(DataConversionException.class);
+        TaskImporter.readTasks(filePath);
+    }
+
+    @Test
+    public void readTasks_dataFile_allTasks() throws Exception {
+        File file = new File(testFolder.getRoot(), "tasks.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        new XmlStreamTaskManagerStorage(file.getPath()).saveTaskManager(td.getTypicalTaskManager());
+
+        assertEquals(td.getTypicalTasks().length, TaskImporter.readTasks(file.getPath()).size());
+    }
+
+    @Test
+    public void readTasks_missingFile_exceptionThrown() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        TaskImporter.readTasks(new File(testFolder.getRoot(), "missing.csv").getPath());
+    }
+
+    private String write(String fileName, String content) throws Exception {
+        File file = new File(testFolder.getRoot(), fileName);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file.getPath();
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.doit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManager;
+import seedu.doit.model.TaskManagerChange;
+import seedu.doit.model.item.Task;
+import seedu.doit.testutil.TypicalTestTasks;
+
+//@@author A0138909R
+public class TaskManagerAutosaverTest {
+
+    private final RecordingStorageStub storage = new RecordingStorageStub();
+    private final List<IOException> failures = new ArrayList<>();
+
+    @Test
+    public void requestSave_burstOfRequests_savedOnceWithLatestData() throws Exception {
+        TaskManagerAutosaver autosaver = new TaskManagerAutosaver(this.storage, this.failures::add, 200, 10000);
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskManager taskManager = new TaskManager();
+        for (Task task : new Task[] {new Task(td.alice), new Task(td.benson), new Task(td.carl)}) {
+            taskManager.addTask(task);
+            autosaver.requestSave(taskManager);
+        }
+        autosaver.flush();
+
+        assertEquals(1, this.storage.saved.size());
+        assertEquals(taskManager, new TaskManager(this.storage.saved.get(0)));
+    }
+
+    @Test
+    public void requestSave_burstOfChanges_changesSavedInOrder() throws Exception {
+        TaskManagerAutosaver autosaver = new TaskManagerAutosaver(this.storage, this.failures::add, 200, 10000);
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskManager taskManager = new TaskManager();
+        List<TaskManagerChange> changes = new ArrayList<>();
+        for (Task task : new Task[] {new Task(td.alice), new Task(td.benson)}) {
+            changes.add(TaskManagerChange.addition(taskManager.addTask(task)));
+            autosaver.requestSave(taskManager, changes.get(changes.size() - 1));
+        }
+        autosaver.flush();
+        taskManager.addTask(new Task(td.carl));
+        autosaver.requestSave(taskManager, TaskManagerChange.addition(new Task(td.carl)));
+        autosaver.requestSave(taskManager, null);
+        autosaver.flush();
+
+        assertEquals(Arrays.asList(changes, null), this.storage.savedChanges);
+    }
+
+    @Test
+    public void requestSave_changesAfterRequest_notSeenBySave() throws Exception {
+        TaskManagerAutosaver autosaver = new TaskManagerAutosaver(this.storage, this.failures::add, 200, 10000);
+        TaskManager taskManager = new TaskManager();
+        autosaver.requestSave(taskManager);
+        taskManager.addTask(new Task(new TypicalTestTasks().alice));
+        autosaver.flush();
+
+        assertEquals(new TaskManager(), new TaskManager(this.storage.saved.get(0)));
+    }
+
+    @Test
+    public void requestSave_noFurtherRequests_savedAfterDebounce() throws Exception {
+        TaskManagerAutosaver autosaver = new TaskManagerAutosaver(this.storage, this.failures::add, 10, 100);
+        autosaver.requestSave(new TaskManager());
+        Thread.sleep(500);
+
+        assertEquals(1, this.storage.saved.size());
+    }
+
+    @Test
+    public void shutdown_pendingSave_savedBeforeStopping() throws Exception {
+        TaskManagerAutosaver autosaver = new TaskManagerAutosaver(this.storage, this.failures::add, 10000, 100000);
+        autosaver.requestSave(new TaskManager());
+        autosaver.shutdown();
+
+        assertEquals(1, this.storage.saved.size());
+    }
+
+    @Test
+    public void flush_saveFails_failureReported() {
+        TaskManagerAutosaver autosaver = new TaskManagerAutosaver(new XmlTaskManagerStorage("dummy") {
+            @Override
+            public void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        }, this.failures::add, 200, 10000);
+        autosaver.requestSave(new TaskManager());
+        autosaver.flush();
+
+        assertEquals(1, this.failures.size());
+        assertTrue(this.storage.saved.isEmpty());
+    }
+
+    /**
+     * A stub that records the task managers it is asked to save.
+     */
+    private static class RecordingStorageStub extends XmlTaskManagerStorage {
+        private final List<ReadOnlyTaskManager> saved = new ArrayList<>();
+        private final List<List<TaskManagerChange>> savedChanges = new ArrayList<>();
+
+        RecordingStorageStub() {
+            super("dummy");
+        }
+
+        @Override
+        public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) {
+            this.saved.add(taskManager);
+        }
+
+        @Override
+        public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, List<TaskManagerChange> changes,
+                String filePath) {
+            saveTaskManager(taskManager, filePath);
+            this.savedChanges.add(changes);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.doit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.doit.testutil.TaskBuilder.taskNamed;
+
+import java.io.File;
+import java.time.LocalDateTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.doit.commons.exceptions.DataConversionException;
+import seedu.doit.commons.util.FileUtil;
+import seedu.doit.logic.parser.DateTimeParser;
+import seedu.doit.model.ReadOnlyTaskManager;
+import seedu.doit.model.TaskManager;
+import seedu.doit.model.item.EndTime;
+import seedu.doit.model.item.ReadOnlyTask;
+import seedu.doit.model.item.StartTime;
+import seedu.doit.model.item.Task;
+import seedu.doit.testutil.TypicalTestTasks;
+
+//@@author A0138909R
+public class XmlStreamTaskManagerStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlTaskManagerStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NonExistentFile.xml";
+        assertFalse(new XmlStreamTaskManagerStorage(filePath).readTaskManager().isPresent());
+    }
+
+    @Test
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NotXmlFormatTaskManager.xml";
+        thrown.expect(DataConversionException.class);
+        new XmlStreamTaskManagerStorage(filePath).readTaskManager();
+    }
+
+    @Test
+    public void readAndSaveTaskManager_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempTaskManager.xml";
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskManager original = td.getTypicalTaskManager();
+        original.addTask(new Task(TypicalTestTasks.getEventTestTask()));
+        XmlStreamTaskManagerStorage storage = new XmlStreamTaskManagerStorage(filePath);
+
+        storage.saveTaskManager(original);
+        ReadOnlyTaskManager readBack = storage.readTaskManager().get();
+        assertEquals(original, new TaskManager(readBack));
+
+        original.removeTask(new Task(td.alice));
+        storage.saveTaskManager(original);
+        readBack = storage.readTaskManager().get();
+        assertEquals(original, new TaskManager(readBack));
+    }
+
+    @Test
+    public void saveTaskManager_sameFormatAsJaxbStorage() throws Exception {
+        File streamFile = testFolder.newFile("stream.xml");
+        File jaxbFile = testFolder.newFile("jaxb.xml");
+        TaskManager original = new TypicalTestTasks().getTypicalTaskManager();
+        original.addTask(new Task(TypicalTestTasks.getEventTestTask()));
+
+        new XmlStreamTaskManagerStorage(streamFile.getPath()).saveTaskManager(original);
+        new XmlTaskManagerStorage(jaxbFile.getPath()).saveTaskManager(original);
+
+        assertEquals(FileUtil.readFromFile(jaxbFile), FileUtil.readFromFile(streamFile));
+        ReadOnlyTaskManager readBack = new XmlStreamTaskManagerStorage(jaxbFile.getPath()).readTaskManager().get();
+        assertEquals(original, new TaskManager(readBack));
+    }
+
+    @Test
+    public void readAndSaveTaskManager_yearsOutsideTwoDigitWindow_sameDates() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "TempTaskManager.xml").getPath();
+        LocalDateTime start = LocalDateTime.of(1999, 12, 31, 23, 0);
+        LocalDateTime deadline = LocalDateTime.of(2150, 1, 1, 9, 30);
+        Task task = taskNamed("outside window").buildTask();
+        task.setStartTime(new StartTime(start));
+        task.setEndTime(new EndTime(deadline));
+        TaskManager original = new TaskManager();
+        original.addTask(task);
+
+        XmlStreamTaskManagerStorage storage = new XmlStreamTaskManagerStorage(filePath);
+        storage.saveTaskManager(original);
+        ReadOnlyTask readBack = storage.readTaskManager().get().getTaskList().get(0);
+        assertEquals(start, readBack.getStartTime().getDateTimeObject());
+        assertEquals(deadline, readBack.getDeadline().getDateTimeObject());
+
+        // files written before the full year was stored have two-digit years, read as 2000 to 2099
+        assertEquals(LocalDateTime.of(2017, 2, 1, 10, 0), DateTimeParser.parseStoredDateTime("01/02/17 10:00").get());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.doit.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
+import java.io.File;
 import java.io.IOException;
 
 import org.junit.Rule;
@@ -85,6 +86,63 @@ public class XmlTaskManagerStorageTest {
 
     }
 
+    //@@author A0138909R
+    @Test
+    public void saveTaskManager_keepsGenerationsAndNoTempFiles() throws Exception {
+        File file = new File(testFolder.getRoot(), "TempTaskManager.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskManager original = td.getTypicalTaskManager();
+        XmlTaskManagerStorage xmlTaskManagerStorage = new XmlTaskManagerStorage(file.getPath(), 2);
+
+        xmlTaskManagerStorage.saveTaskManager(original);
+        TaskManager firstVersion = new TaskManager(original);
+        original.addTask(new Task(td.hoon));
+        xmlTaskManagerStorage.saveTaskManager(original);
+        TaskManager secondVersion = new TaskManager(original);
+        original.addTask(new Task(td.ida));
+        xmlTaskManagerStorage.saveTaskManager(original);
+
+        assertEquals(secondVersion, readFile(XmlTaskManagerStorage.getGenerationFile(file, 1)));
+        assertEquals(firstVersion, readFile(XmlTaskManagerStorage.getGenerationFile(file, 2)));
+        assertFalse(XmlTaskManagerStorage.getGenerationFile(file, 3).exists());
+        assertEquals(3, testFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void readTaskManager_corruptDataFile_fallsBackToNewestValidGeneration() throws Exception {
+        File file = new File(testFolder.getRoot(), "TempTaskManager.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskManager original = td.getTypicalTaskManager();
+        XmlTaskManagerStorage xmlTaskManagerStorage = new XmlStreamTaskManagerStorage(file.getPath());
+
+        xmlTaskManagerStorage.saveTaskManager(original);
+        TaskManager firstVersion = new TaskManager(original);
+        original.addTask(new Task(td.hoon));
+        xmlTaskManagerStorage.saveTaskManager(original);
+        original.addTask(new Task(td.ida));
+        xmlTaskManagerStorage.saveTaskManager(original);
+
+        // simulate a crash that corrupted the data file and its newest generation
+        FileUtil.writeToFile(file, "<taskmanager><tasks>");
+        FileUtil.writeToFile(XmlTaskManagerStorage.getGenerationFile(file, 1), "");
+
+        assertEquals(firstVersion, new TaskManager(xmlTaskManagerStorage.readTaskManager().get()));
+    }
+
+    @Test
+    public void readTaskManager_noValidGeneration_exceptionThrown() throws Exception {
+        File file = new File(testFolder.getRoot(), "TempTaskManager.xml");
+        FileUtil.writeToFile(file, "not xml format!");
+
+        thrown.expect(DataConversionException.class);
+        new XmlTaskManagerStorage(file.getPath()).readTaskManager();
+    }
+
+    private TaskManager readFile(File file) throws Exception {
+        return new TaskManager(new XmlTaskManagerStorage(file.getPath()).readTaskManager().get());
+    }
+    //@@author
+
     @Test
     public void saveTaskManager_nullTaskManager_assertionFailure() throws IOException {
         thrown.expect(AssertionError.class);
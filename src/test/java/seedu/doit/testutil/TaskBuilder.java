@@ -6,6 +6,7 @@ import seedu.doit.model.item.EndTime;
 import seedu.doit.model.item.Name;
 import seedu.doit.model.item.Priority;
 import seedu.doit.model.item.StartTime;
+import seedu.doit.model.item.Task;
 import seedu.doit.model.tag.Tag;
 import seedu.doit.model.tag.UniqueTagList;
 
@@ -69,4 +70,22 @@ public class TaskBuilder {
         return this.task;
     }
 
+    //@@author A0138909R
+    /**
+     * Returns a builder for a low priority task named {@code name} with no description, start time
+     * or deadline, so that a test only has to set the fields it checks.
+     */
+    public static TaskBuilder taskNamed(String name) throws IllegalValueException {
+        return new TaskBuilder().withName(name).withPriority("low").withDescription("").withStartTime("")
+                .withDeadline("");
+    }
+
+    /**
+     * Builds the task as a {@link Task} of the model.
+     */
+    public Task buildTask() {
+        return new Task(this.task);
+    }
+    //@@author
+
 }